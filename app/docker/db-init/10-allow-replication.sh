@@ -0,0 +1,4 @@
+#!/usr/bin/env bash
+# Lets the db-reader service stream WAL from this instance (local stand-in for the Aurora reader).
+set -euo pipefail
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -1,6 +1,7 @@
 package com.golfbeta.account;
 
 import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
 import com.golfbeta.admin.AdminAuthorization;
 import com.golfbeta.account.dto.AccountTypeCreateRequestDto;
 import com.golfbeta.account.dto.AccountTypeResponseDto;
@@ -29,7 +30,7 @@ public class AccountTypeAdminController {
                                                     @Valid @RequestBody AccountTypeCreateRequestDto request) {
         adminAuthorization.assertAdmin(uid);
         AccountTypeResponseDto response = service.createAccountType(request);
-        auditLogService.record(uid, "ACCOUNT_TYPE_CREATE", "name=%s".formatted(response.name()));
+        auditLogService.record(uid, "ACCOUNT_TYPE_CREATE", AuditDetails.of("name", response.name()));
         return response;
     }
 
@@ -40,7 +41,7 @@ public class AccountTypeAdminController {
         adminAuthorization.assertAdmin(uid);
         AccountTypeResponseDto response = service.addVideoGroup(name, request.videoGroupId());
         auditLogService.record(uid, "ACCOUNT_TYPE_ADD_GROUP",
-                "name=%s,groupId=%s".formatted(response.name(), request.videoGroupId()));
+                AuditDetails.of("name", response.name(), "groupId", request.videoGroupId()));
         return response;
     }
 
@@ -51,7 +52,7 @@ public class AccountTypeAdminController {
         adminAuthorization.assertAdmin(uid);
         AccountTypeResponseDto response = service.removeVideoGroup(name, videoGroupId);
         auditLogService.record(uid, "ACCOUNT_TYPE_REMOVE_GROUP",
-                "name=%s,groupId=%s".formatted(response.name(), videoGroupId));
+                AuditDetails.of("name", response.name(), "groupId", videoGroupId));
         return response;
     }
 
@@ -20,6 +20,7 @@ public class AccountTypeAdminService {
 
     private final AccountTypeRepository accountTypeRepository;
     private final VideoAssetGroupRepository videoAssetGroupRepository;
+    private final AccountTypeCache accountTypeCache;
 
     @Transactional
     public AccountTypeResponseDto createAccountType(AccountTypeCreateRequestDto request) {
@@ -32,6 +33,7 @@ public class AccountTypeAdminService {
         accountType.setName(name);
         accountType.setVideoGroupIds(new ArrayList<>());
         AccountType saved = accountTypeRepository.save(accountType);
+        accountTypeCache.invalidate();
         return toResponse(saved);
     }
 
@@ -44,6 +46,7 @@ public class AccountTypeAdminService {
             groups.add(videoGroupId);
             accountType.setVideoGroupIds(groups);
             accountType = accountTypeRepository.save(accountType);
+            accountTypeCache.invalidate();
         }
         return toResponse(accountType);
     }
@@ -59,6 +62,7 @@ public class AccountTypeAdminService {
         }
         accountType.setVideoGroupIds(groups);
         AccountType updated = accountTypeRepository.save(accountType);
+        accountTypeCache.invalidate();
         return toResponse(updated);
     }
 
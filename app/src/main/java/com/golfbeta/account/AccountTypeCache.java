@@ -0,0 +1,88 @@
+package com.golfbeta.account;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the {@code account_type} table. The table is tiny and only changes through
+ * {@link AccountTypeAdminService}, so reads on the user path resolve tiers without touching the database.
+ * Local mutations invalidate after commit; the TTL lets other instances converge.
+ */
+@Component
+public class AccountTypeCache {
+
+    static final String DEFAULT_ACCOUNT_TYPE = "tier_1";
+    static final String FALLBACK_ACCOUNT_TYPE = "tier_0";
+
+    private final AccountTypeRepository repository;
+    private final Duration ttl;
+
+    private volatile Snapshot snapshot;
+
+    public AccountTypeCache(AccountTypeRepository repository,
+                            @Value("${account-types.cache-ttl:PT5M}") Duration ttl) {
+        this.repository = repository;
+        this.ttl = ttl;
+    }
+
+    public Optional<AccountType> find(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().byName().get(name));
+    }
+
+    public AccountType defaultAccountType() {
+        return find(DEFAULT_ACCOUNT_TYPE)
+                .or(() -> find(FALLBACK_ACCOUNT_TYPE))
+                .orElseThrow(() -> new IllegalStateException("Default account types not seeded"));
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot existing = snapshot;
+        if (existing != null && existing.loadedAt().plus(ttl).isAfter(Instant.now())) {
+            return existing;
+        }
+        Map<String, AccountType> loaded = repository.findAll().stream()
+                .map(AccountTypeCache::copyOf)
+                .collect(Collectors.toUnmodifiableMap(AccountType::getName, Function.identity()));
+        Snapshot fresh = new Snapshot(loaded, Instant.now());
+        snapshot = fresh;
+        return fresh;
+    }
+
+    private static AccountType copyOf(AccountType source) {
+        AccountType copy = new AccountType();
+        copy.setName(source.getName());
+        List<UUID> groups = source.getVideoGroupIds();
+        copy.setVideoGroupIds(groups == null ? null : List.copyOf(groups));
+        return copy;
+    }
+
+    private record Snapshot(Map<String, AccountType> byName, Instant loadedAt) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.golfbeta.account;
 
 import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
 import com.golfbeta.admin.AdminAuthorization;
 import com.golfbeta.account.dto.UserAccountTypeAssignmentDto;
 import com.golfbeta.account.dto.UserAccountTypeUpdateRequestDto;
@@ -31,7 +32,7 @@ public class UserAccountTypeAdminController {
         adminAuthorization.assertAdmin(uid);
         UserAccountTypeAssignmentDto response = service.setAccountType(request);
         auditLogService.record(uid, "USER_ACCOUNT_TYPE_SET",
-                "userId=%s,accountType=%s".formatted(response.userId(), response.accountType()));
+                AuditDetails.of("userId", response.userId(), "accountType", response.accountType()));
         return response;
     }
 
@@ -0,0 +1,29 @@
+package com.golfbeta.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.shared.batch.BatchingWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ActivityConfig {
+
+    /**
+     * Event ids waiting to be fanned out. Drops on overflow rather than holding up the request that emitted the
+     * event; {@link ActivityMaintenance} re-delivers anything dropped or lost in a restart.
+     */
+    @Bean
+    public BatchingWriter<Long> activityFanOutWriter(
+            ActivityFanOut fanOut,
+            ObjectMapper objectMapper,
+            @Value("${activity.fan-out.queue-capacity:10000}") int capacity,
+            @Value("${activity.fan-out.batch-size:100}") int batchSize,
+            @Value("${activity.fan-out.linger:PT0.2S}") Duration linger) {
+        BatchingWriter.Settings settings = new BatchingWriter.Settings(capacity, batchSize, linger,
+                BatchingWriter.OverflowPolicy.DROP, Duration.ZERO, Duration.ofSeconds(10), null);
+        return new BatchingWriter<>("activity-fan-out", settings, fanOut::fanOut, objectMapper, Long.class);
+    }
+}
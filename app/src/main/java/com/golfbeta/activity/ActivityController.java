@@ -0,0 +1,27 @@
+package com.golfbeta.activity;
+
+import com.golfbeta.activity.dto.ActivityFeedDto;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/activity")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class ActivityController {
+
+    private final ActivityFeedService feedService;
+
+    /** Friends' activity, newest first; pass the returned {@code nextCursor} back to continue. */
+    @GetMapping("/feed")
+    public ActivityFeedDto feed(@AuthenticationPrincipal String uid,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(required = false) Integer limit) {
+        return feedService.page(uid, cursor, limit);
+    }
+}
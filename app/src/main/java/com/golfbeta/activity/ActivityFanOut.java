@@ -0,0 +1,60 @@
+package com.golfbeta.activity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+
+/**
+ * Copies events into their actors' friends' timelines: one set-based INSERT per batch of events, then marks
+ * the events fanned out. Idempotent, so the writer and the recovery sweep may both deliver the same event.
+ */
+@Component
+public class ActivityFanOut {
+
+    private static final String FAN_OUT = """
+            INSERT INTO activity_timeline (owner_id, event_id, created_at)
+            SELECT f.user_id_b, e.id, e.created_at
+            FROM activity_event e
+            JOIN friends f ON f.user_id_a = e.actor_id AND f.status = 'FRIENDS'
+            WHERE e.id = ANY(?) AND e.fan_out AND e.fanned_out_at IS NULL
+            UNION ALL
+            SELECT f.user_id_a, e.id, e.created_at
+            FROM activity_event e
+            JOIN friends f ON f.user_id_b = e.actor_id AND f.status = 'FRIENDS'
+            WHERE e.id = ANY(?) AND e.fan_out AND e.fanned_out_at IS NULL
+            ON CONFLICT (owner_id, event_id) DO NOTHING
+            """;
+
+    private static final String MARK = """
+            UPDATE activity_event SET fanned_out_at = now()
+            WHERE id = ANY(?) AND fanned_out_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public ActivityFanOut(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /** @return timeline rows written */
+    public int fanOut(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = eventIds.toArray(Long[]::new);
+        Integer written = tx.execute(status -> {
+            int rows = jdbc.update(FAN_OUT, ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+                ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids));
+            });
+            jdbc.update(MARK, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+            return rows;
+        });
+        return written == null ? 0 : written;
+    }
+}
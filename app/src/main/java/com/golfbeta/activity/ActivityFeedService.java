@@ -0,0 +1,143 @@
+package com.golfbeta.activity;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.activity.dto.ActivityFeedDto;
+import com.golfbeta.activity.dto.ActivityItemDto;
+import com.golfbeta.shared.pagination.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a user's feed newest first: their own timeline merged with the recent events of friends too popular to
+ * fan out. Both sides seek past the cursor's {@code (created_at, event_id)} and are capped at one page before
+ * merging, so a page costs two short index range scans regardless of history length.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityFeedService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final TypeReference<Map<String, Object>> DATA_TYPE = new TypeReference<>() {};
+
+    private static final String PAGE = """
+            WITH reader AS (
+                SELECT id FROM user_profile WHERE firebase_id = ?
+            ),
+            pushed AS (
+                SELECT t.event_id AS id, t.created_at
+                FROM activity_timeline t
+                JOIN reader ON t.owner_id = reader.id
+                WHERE TRUE %s
+                ORDER BY t.created_at DESC, t.event_id DESC
+                LIMIT ?
+            ),
+            pulled AS (
+                SELECT e.id, e.created_at
+                FROM activity_event e
+                WHERE NOT e.fan_out
+                  AND e.actor_id IN (
+                      SELECT f.user_id_b FROM friends f JOIN reader ON f.user_id_a = reader.id WHERE f.status = 'FRIENDS'
+                      UNION ALL
+                      SELECT f.user_id_a FROM friends f JOIN reader ON f.user_id_b = reader.id WHERE f.status = 'FRIENDS')
+                  %s
+                ORDER BY e.created_at DESC, e.id DESC
+                LIMIT ?
+            ),
+            ids AS (
+                SELECT id, created_at FROM pushed
+                UNION ALL
+                SELECT id, created_at FROM pulled
+            )
+            SELECT e.id, e.type, e.data::text AS data, e.created_at,
+                   actor.firebase_id AS actor_user_id, actor.name AS actor_name, actor.username AS actor_username
+            FROM ids
+            JOIN activity_event e ON e.id = ids.id
+            JOIN user_profile actor ON actor.id = e.actor_id
+            ORDER BY ids.created_at DESC, ids.id DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public ActivityFeedDto page(String firebaseId, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<String> after = KeysetCursor.decode(cursor, 2);
+
+        List<Object> args = new ArrayList<>();
+        args.add(firebaseId);
+        String sql;
+        if (after == null) {
+            sql = PAGE.formatted("", "");
+            args.add(pageSize + 1);
+            args.add(pageSize + 1);
+        } else {
+            Timestamp createdAt = parseCursorTime(after.get(0));
+            long id = parseCursorId(after.get(1));
+            sql = PAGE.formatted("AND (t.created_at, t.event_id) < (?, ?)", "AND (e.created_at, e.id) < (?, ?)");
+            args.addAll(List.of(createdAt, id, pageSize + 1, createdAt, id, pageSize + 1));
+        }
+        args.add(pageSize + 1);
+
+        List<ActivityItemDto> rows = jdbc.query(sql, itemMapper(), args.toArray());
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ActivityItemDto last = rows.get(pageSize - 1);
+            next = KeysetCursor.encode(last.createdAt(), last.id());
+        }
+        return new ActivityFeedDto(List.copyOf(rows), next);
+    }
+
+    private RowMapper<ActivityItemDto> itemMapper() {
+        return (ResultSet rs, int rowNum) -> new ActivityItemDto(
+                rs.getLong("id"),
+                ActivityType.valueOf(rs.getString("type")),
+                rs.getString("actor_user_id"),
+                rs.getString("actor_name"),
+                rs.getString("actor_username"),
+                readData(rs.getString("data")),
+                rs.getTimestamp("created_at").toInstant());
+    }
+
+    private Map<String, Object> readData(String json) throws SQLException {
+        try {
+            return objectMapper.readValue(json, DATA_TYPE);
+        } catch (IOException e) {
+            throw new SQLException("Unreadable activity data", e);
+        }
+    }
+
+    private static Timestamp parseCursorTime(String value) {
+        try {
+            return Timestamp.from(Instant.parse(value));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private static long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.golfbeta.activity;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Background upkeep for the activity tables: re-delivers fan-out for events the writer dropped or lost in a
+ * restart, trims timelines to {@code activity.timeline.max-entries} and deletes events past retention. The
+ * trim takes a transaction-scoped advisory lock, so only one instance runs it at a time.
+ */
+@Component
+public class ActivityMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityMaintenance.class);
+    private static final int SWEEP_BATCH = 500;
+
+    private static final String TRIM = """
+            DELETE FROM activity_timeline t
+            USING (
+                SELECT owner_id, event_id
+                FROM (
+                    SELECT owner_id, event_id,
+                           row_number() OVER (PARTITION BY owner_id ORDER BY created_at DESC, event_id DESC) AS rn
+                    FROM activity_timeline
+                    WHERE owner_id IN (SELECT owner_id FROM activity_timeline GROUP BY owner_id HAVING count(*) > ?)
+                ) ranked
+                WHERE rn > ?
+            ) old
+            WHERE t.owner_id = old.owner_id AND t.event_id = old.event_id
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ActivityFanOut fanOut;
+    private final Duration sweepGrace;
+    private final int maxTimelineEntries;
+    private final Duration retention;
+
+    public ActivityMaintenance(JdbcTemplate jdbc,
+                               PlatformTransactionManager transactionManager,
+                               ActivityFanOut fanOut,
+                               @Value("${activity.fan-out.sweep-grace:PT1M}") Duration sweepGrace,
+                               @Value("${activity.timeline.max-entries:500}") int maxTimelineEntries,
+                               @Value("${activity.retention:P180D}") Duration retention) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.fanOut = fanOut;
+        this.sweepGrace = sweepGrace;
+        this.maxTimelineEntries = maxTimelineEntries;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${activity.fan-out.sweep-interval:PT1M}", initialDelayString = "PT1M")
+    void sweep() {
+        Timestamp before = Timestamp.from(Instant.now().minus(sweepGrace));
+        List<Long> pending;
+        do {
+            pending = jdbc.queryForList("""
+                    SELECT id FROM activity_event
+                    WHERE fan_out AND fanned_out_at IS NULL AND created_at < ?
+                    ORDER BY created_at
+                    LIMIT ?
+                    """, Long.class, before, SWEEP_BATCH);
+            int rows = fanOut.fanOut(pending);
+            if (!pending.isEmpty()) {
+                log.info("Re-delivered fan-out for {} activity events ({} timeline rows)", pending.size(), rows);
+            }
+        } while (pending.size() == SWEEP_BATCH);
+    }
+
+    @Scheduled(fixedDelayString = "${activity.timeline.trim-interval:PT1H}", initialDelayString = "PT5M")
+    void trim() {
+        tx.executeWithoutResult(status -> {
+            Boolean locked = jdbc.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext('activity_trim'))",
+                    Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            int trimmed = jdbc.update(TRIM, maxTimelineEntries, maxTimelineEntries);
+            int expired = jdbc.update("DELETE FROM activity_event WHERE created_at < ?",
+                    Timestamp.from(Instant.now().minus(retention)));
+            log.debug("Activity trim: {} timeline rows over the cap, {} events past retention", trimmed, expired);
+        });
+    }
+}
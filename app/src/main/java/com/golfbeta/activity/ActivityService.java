@@ -0,0 +1,119 @@
+package com.golfbeta.activity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.shared.batch.BatchingWriter;
+import com.golfbeta.user.UserProfile;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Records friend-visible activity. The event row is written in the caller's transaction; fan-out into friends'
+ * timelines is queued after commit, so it never sees a rolled-back event or slows the request. Actors with more
+ * than {@code activity.fan-out.max-friends} friends are not fanned out; their events are pulled at read time
+ * by {@link ActivityFeedService}.
+ */
+@Service
+public class ActivityService {
+
+    static final Set<Integer> SESSION_MILESTONES = Set.of(1, 10, 25, 50, 100, 250, 500, 1000);
+
+    private static final String INSERT = """
+            INSERT INTO activity_event (actor_id, type, data, fan_out)
+            VALUES (?, ?, ?::jsonb,
+                    (SELECT count(*) FROM friends
+                     WHERE (user_id_a = ? OR user_id_b = ?) AND status = 'FRIENDS') <= ?)
+            RETURNING id, fan_out
+            """;
+
+    private static final String UNLINK = """
+            DELETE FROM activity_timeline t
+            USING activity_event e
+            WHERE t.event_id = e.id
+              AND ((t.owner_id = ? AND e.actor_id = ?) OR (t.owner_id = ? AND e.actor_id = ?))
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final BatchingWriter<Long> fanOutWriter;
+    private final ObjectMapper objectMapper;
+    private final int maxFanOutFriends;
+
+    public ActivityService(JdbcTemplate jdbc,
+                           @Qualifier("activityFanOutWriter") BatchingWriter<Long> fanOutWriter,
+                           ObjectMapper objectMapper,
+                           @Value("${activity.fan-out.max-friends:1000}") int maxFanOutFriends) {
+        this.jdbc = jdbc;
+        this.fanOutWriter = fanOutWriter;
+        this.objectMapper = objectMapper;
+        this.maxFanOutFriends = maxFanOutFriends;
+    }
+
+    /**
+     * A newly completed practice hundred, plus a milestone event when {@code sessionsCompleted} is one of
+     * {@link #SESSION_MILESTONES}.
+     */
+    public void practiceHundredCompleted(UserProfile actor, UUID practiceHundredId, double overallScore,
+                                         boolean personalBest, int sessionsCompleted) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("practiceHundredId", practiceHundredId);
+        data.put("overallScore", overallScore);
+        data.put("personalBest", personalBest);
+        record(actor, ActivityType.PRACTICE_HUNDRED_COMPLETED, data);
+        if (SESSION_MILESTONES.contains(sessionsCompleted)) {
+            record(actor, ActivityType.PRACTICE_HUNDRED_MILESTONE, Map.of("sessionsCompleted", sessionsCompleted));
+        }
+    }
+
+    /** {@code actor} accepted {@code friend}'s request; shown to the actor's other friends. */
+    public void friendshipStarted(UserProfile actor, UserProfile friend) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("friendUserId", friend.getFirebaseId());
+        data.put("friendName", friend.getName());
+        data.put("friendUsername", friend.getUsername());
+        record(actor, ActivityType.FRIENDSHIP_STARTED, data);
+    }
+
+    /** Removes each user's events from the other's timeline once they are no longer friends. */
+    public void unlink(UUID userA, UUID userB) {
+        jdbc.update(UNLINK, userA, userB, userB, userA);
+    }
+
+    private void record(UserProfile actor, ActivityType type, Map<String, Object> data) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserialisable activity data", e);
+        }
+        List<Long> fanOut = jdbc.query(INSERT,
+                (rs, rowNum) -> rs.getBoolean("fan_out") ? rs.getLong("id") : null,
+                actor.getId(), type.name(), json, actor.getId(), actor.getId(), maxFanOutFriends);
+        Long eventId = fanOut.get(0);
+        if (eventId != null) {
+            afterCommit(() -> fanOutWriter.submit(eventId));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.golfbeta.activity;
+
+public enum ActivityType {
+    PRACTICE_HUNDRED_COMPLETED,
+    PRACTICE_HUNDRED_MILESTONE,
+    FRIENDSHIP_STARTED
+}
@@ -0,0 +1,5 @@
+package com.golfbeta.activity.dto;
+
+import java.util.List;
+
+public record ActivityFeedDto(List<ActivityItemDto> items, String nextCursor) {}
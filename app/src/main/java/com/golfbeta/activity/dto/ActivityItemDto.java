@@ -0,0 +1,16 @@
+package com.golfbeta.activity.dto;
+
+import com.golfbeta.activity.ActivityType;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record ActivityItemDto(
+        Long id,
+        ActivityType type,
+        String actorUserId,
+        String actorName,
+        String actorUsername,
+        Map<String, Object> data,
+        Instant createdAt
+) {}
@@ -0,0 +1,82 @@
+package com.golfbeta.admin;
+
+import com.golfbeta.aws.CloudFrontKeyRing;
+import com.golfbeta.aws.CloudFrontSigningExecutor;
+import com.golfbeta.config.BoundedDataSource;
+import com.golfbeta.config.VirtualThreadPinningMonitor;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/admin/diagnostics")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class AdminDiagnosticsController {
+
+    private final AdminAuthorization adminAuthorization;
+    private final ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor;
+    private final Map<String, DataSource> dataSources;
+    private final CloudFrontSigningExecutor signingExecutor;
+    private final CloudFrontKeyRing keyRing;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @GetMapping("/threads")
+    public ThreadDiagnostics threads(@AuthenticationPrincipal String uid) {
+        adminAuthorization.assertAdmin(uid);
+        VirtualThreadPinningMonitor monitor = pinningMonitor.getIfAvailable();
+        List<VirtualThreadPinningMonitor.PinningSite> pinning = monitor == null ? List.of() : monitor.snapshot();
+        Map<String, PoolGuard> guards = new TreeMap<>();
+        dataSources.forEach((name, dataSource) -> {
+            if (dataSource instanceof BoundedDataSource bounded) {
+                guards.put(name, new PoolGuard(bounded.availablePermits(), bounded.waiting()));
+            }
+        });
+        return new ThreadDiagnostics(virtualThreads, Thread.currentThread().isVirtual(), pinning, guards);
+    }
+
+    @GetMapping("/signing")
+    public SigningDiagnostics signing(@AuthenticationPrincipal String uid) {
+        adminAuthorization.assertAdmin(uid);
+        List<KeyPairInfo> keys = keyRing.keys().stream()
+                .map(key -> new KeyPairInfo(key.keyPairId(), key.activeFrom()))
+                .toList();
+        String active;
+        try {
+            active = keyRing.active().keyPairId();
+        } catch (IllegalStateException e) {
+            active = null;
+        }
+        return new SigningDiagnostics(active, keys, signingExecutor.stats());
+    }
+
+    public record SigningDiagnostics(String activeKeyPairId,
+                                     List<KeyPairInfo> keyPairs,
+                                     CloudFrontSigningExecutor.Stats executor) {
+    }
+
+    public record KeyPairInfo(String keyPairId, Instant activeFrom) {
+    }
+
+    public record ThreadDiagnostics(boolean virtualThreadsEnabled,
+                                    boolean servedOnVirtualThread,
+                                    List<VirtualThreadPinningMonitor.PinningSite> pinning,
+                                    Map<String, PoolGuard> poolGuards) {
+    }
+
+    public record PoolGuard(int availablePermits, int waiting) {
+    }
+}
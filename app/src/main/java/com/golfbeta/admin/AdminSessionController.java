@@ -1,6 +1,7 @@
 package com.golfbeta.admin;
 
 import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,7 +24,7 @@ public class AdminSessionController {
                                         @RequestParam(value = "recordLogin", defaultValue = "false") boolean recordLogin) {
         adminAuthorization.assertAdmin(uid);
         if (recordLogin) {
-            adminAuditLogService.record(uid, "ADMIN_SIGN_IN", "source=web_console");
+            adminAuditLogService.record(uid, "ADMIN_SIGN_IN", AuditDetails.of("source", "web_console"));
         }
         return new AdminSessionResponse(uid);
     }
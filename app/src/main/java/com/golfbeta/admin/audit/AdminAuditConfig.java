@@ -0,0 +1,38 @@
+package com.golfbeta.admin.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.shared.batch.BatchingWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class AdminAuditConfig {
+
+    @Bean
+    public BatchingWriter<AdminAuditEntry> adminAuditWriter(
+            AdminAuditLogRepository repository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${admin.audit.queue-capacity:10000}") int capacity,
+            @Value("${admin.audit.batch-size:200}") int batchSize,
+            @Value("${admin.audit.linger:PT0.5S}") Duration linger,
+            @Value("${admin.audit.overflow-policy:BLOCK}") BatchingWriter.OverflowPolicy overflowPolicy,
+            @Value("${admin.audit.block-timeout:PT1S}") Duration blockTimeout,
+            @Value("${admin.audit.shutdown-timeout:PT30S}") Duration shutdownTimeout,
+            @Value("${admin.audit.spill-dir:}") String spillDir) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        BatchingWriter.Settings settings = new BatchingWriter.Settings(capacity, batchSize, linger, overflowPolicy,
+                blockTimeout, shutdownTimeout, spillDir.isBlank() ? null : Path.of(spillDir));
+        return new BatchingWriter<>("admin-audit", settings,
+                batch -> tx.executeWithoutResult(status -> repository.saveAll(batch.stream()
+                        .map(entry -> new AdminAuditLog(entry.adminUid(), entry.action(), entry.details(), entry.createdAt()))
+                        .toList())),
+                objectMapper, AdminAuditEntry.class);
+    }
+}
@@ -0,0 +1,20 @@
+package com.golfbeta.admin.audit;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.Map;
+
+/** An audit event captured at the call site; {@code createdAt} is the time of the admin action, not of the insert. */
+public record AdminAuditEntry(String adminUid, String action, Map<String, Object> details, Instant createdAt) {
+
+    /** Reads spilled entries, including ones spilled while {@code details} was still "key=value,key=value" text. */
+    @JsonCreator
+    static AdminAuditEntry fromJson(@JsonProperty("adminUid") String adminUid,
+                                    @JsonProperty("action") String action,
+                                    @JsonProperty("details") Object details,
+                                    @JsonProperty("createdAt") Instant createdAt) {
+        return new AdminAuditEntry(adminUid, action, AuditDetails.read(details), createdAt);
+    }
+}
@@ -6,12 +6,16 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.Map;
 
 @Entity
 @Table(name = "admin_audit_log")
@@ -21,7 +25,8 @@ import java.time.Instant;
 public class AdminAuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_audit_log_id_seq")
+    @SequenceGenerator(name = "admin_audit_log_id_seq", sequenceName = "admin_audit_log_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "admin_uid", nullable = false, length = 128)
@@ -30,8 +35,9 @@ public class AdminAuditLog {
     @Column(nullable = false, length = 128)
     private String action;
 
-    @Column(columnDefinition = "TEXT")
-    private String details;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "details_json", nullable = false, columnDefinition = "jsonb")
+    private Map<String, Object> details = Map.of();
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -43,9 +49,14 @@ public class AdminAuditLog {
         }
     }
 
-    public AdminAuditLog(String adminUid, String action, String details) {
+    public AdminAuditLog(String adminUid, String action, Map<String, Object> details) {
         this.adminUid = adminUid;
         this.action = action;
-        this.details = details;
+        this.details = details == null ? Map.of() : details;
+    }
+
+    public AdminAuditLog(String adminUid, String action, Map<String, Object> details, Instant createdAt) {
+        this(adminUid, action, details);
+        this.createdAt = createdAt;
     }
 }
@@ -0,0 +1,54 @@
+package com.golfbeta.admin.audit;
+
+import com.golfbeta.admin.AdminAuthorization;
+import com.golfbeta.admin.audit.dto.AdminAuditLogPageDto;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/admin/audit-log")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class AdminAuditLogController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final AdminAuditLogQueryService queryService;
+    private final AdminAuthorization adminAuthorization;
+
+    @GetMapping
+    public AdminAuditLogPageDto page(@AuthenticationPrincipal String uid,
+                                     @RequestParam(required = false) String adminUid,
+                                     @RequestParam(required = false) String action,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                     @RequestParam(required = false) String cursor,
+                                     @RequestParam(required = false) Integer limit) {
+        adminAuthorization.assertAdmin(uid);
+        return queryService.page(new AdminAuditLogQuery(adminUid, action, from, to), cursor, limit);
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void export(@AuthenticationPrincipal String uid,
+                       @RequestParam(required = false) String adminUid,
+                       @RequestParam(required = false) String action,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                       HttpServletResponse response) throws IOException {
+        adminAuthorization.assertAdmin(uid);
+        response.setContentType(NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"admin-audit-log.ndjson\"");
+        queryService.export(new AdminAuditLogQuery(adminUid, action, from, to), response.getOutputStream());
+    }
+}
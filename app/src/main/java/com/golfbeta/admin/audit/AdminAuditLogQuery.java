@@ -0,0 +1,7 @@
+package com.golfbeta.admin.audit;
+
+import java.time.Instant;
+
+/** Filters shared by the paged query and the export. Blank/null fields are not applied. */
+public record AdminAuditLogQuery(String adminUid, String action, Instant from, Instant to) {
+}
@@ -0,0 +1,164 @@
+package com.golfbeta.admin.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.golfbeta.admin.audit.dto.AdminAuditLogItemDto;
+import com.golfbeta.admin.audit.dto.AdminAuditLogPageDto;
+import com.golfbeta.shared.pagination.KeysetCursor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads {@code admin_audit_log} newest first. Pages seek past the last {@code (created_at, id)} seen
+ * instead of using OFFSET, so each page is an index range scan on one of the V18 indexes. The export
+ * streams the same ordering through a server-side cursor.
+ */
+@Service
+public class AdminAuditLogQueryService {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 500;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final TypeReference<Map<String, Object>> DETAILS_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbc;
+    private final JdbcTemplate exportJdbc;
+    private final TransactionTemplate exportTx;
+    private final ObjectMapper objectMapper;
+
+    public AdminAuditLogQueryService(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.exportJdbc = new JdbcTemplate(jdbc.getDataSource());
+        this.exportJdbc.setFetchSize(EXPORT_FETCH_SIZE);
+        this.exportTx = new TransactionTemplate(transactionManager);
+        this.exportTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public AdminAuditLogPageDto page(AdminAuditLogQuery query, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = select(query, args);
+
+        List<String> after = KeysetCursor.decode(cursor, 2);
+        if (after != null) {
+            sql.append(" AND (created_at, id) < (?, ?)");
+            args.add(parseCursorTime(after.get(0)));
+            args.add(parseCursorId(after.get(1)));
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<AdminAuditLogItemDto> rows = jdbc.query(sql.toString(), itemMapper(), args.toArray());
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            AdminAuditLogItemDto last = rows.get(pageSize - 1);
+            next = KeysetCursor.encode(last.createdAt(), last.id());
+        }
+        return new AdminAuditLogPageDto(List.copyOf(rows), next);
+    }
+
+    /**
+     * Writes every matching row as one JSON line. Rows are fetched {@value #EXPORT_FETCH_SIZE} at a time
+     * (pgjdbc only honours the fetch size inside a transaction) and serialised straight to {@code out}.
+     */
+    public void export(AdminAuditLogQuery query, OutputStream out) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = select(query, args).append(" ORDER BY created_at DESC, id DESC");
+        RowMapper<AdminAuditLogItemDto> mapper = itemMapper();
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        exportTx.executeWithoutResult(status -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                exportJdbc.query(sql.toString(), rs -> {
+                    try {
+                        writer.writeValue(json, mapper.mapRow(rs, 0));
+                        json.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, args.toArray());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static StringBuilder select(AdminAuditLogQuery query, List<Object> args) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, admin_uid, action, details_json::text AS details, created_at FROM admin_audit_log WHERE TRUE");
+        if (StringUtils.hasText(query.adminUid())) {
+            sql.append(" AND admin_uid = ?");
+            args.add(query.adminUid().trim());
+        }
+        if (StringUtils.hasText(query.action())) {
+            sql.append(" AND action = ?");
+            args.add(query.action().trim());
+        }
+        if (query.from() != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.from(query.from()));
+        }
+        if (query.to() != null) {
+            sql.append(" AND created_at < ?");
+            args.add(Timestamp.from(query.to()));
+        }
+        return sql;
+    }
+
+    private RowMapper<AdminAuditLogItemDto> itemMapper() {
+        return (ResultSet rs, int rowNum) -> new AdminAuditLogItemDto(
+                rs.getLong("id"),
+                rs.getString("admin_uid"),
+                rs.getString("action"),
+                readDetails(rs.getString("details")),
+                rs.getTimestamp("created_at").toInstant());
+    }
+
+    private Map<String, Object> readDetails(String json) throws SQLException {
+        try {
+            return objectMapper.readValue(json, DETAILS_TYPE);
+        } catch (IOException e) {
+            throw new SQLException("Unreadable audit details", e);
+        }
+    }
+
+    private static Timestamp parseCursorTime(String value) {
+        try {
+            return Timestamp.from(Instant.parse(value));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private static long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package com.golfbeta.admin.audit;
 
+import com.golfbeta.shared.batch.BatchingWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audit writes are queued and inserted in batches by {@link AdminAuditConfig#adminAuditWriter}, so admin
+ * operations no longer wait on the insert.
+ */
 @Service
 @RequiredArgsConstructor
 public class AdminAuditLogService {
 
-    private final AdminAuditLogRepository repository;
+    private final BatchingWriter<AdminAuditEntry> writer;
 
-    public void record(String adminUid, String action, String details) {
+    public void record(String adminUid, String action, Map<String, Object> details) {
         if (!StringUtils.hasText(adminUid) || !StringUtils.hasText(action)) {
             return;
         }
-        repository.save(new AdminAuditLog(adminUid, action, details));
+        writer.submit(new AdminAuditEntry(adminUid, action, details, Instant.now()));
+    }
+
+    /** One row per entry in {@code details}. */
+    public void recordAll(String adminUid, String action, List<Map<String, Object>> details) {
+        if (!StringUtils.hasText(adminUid) || !StringUtils.hasText(action) || details.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        details.forEach(detail -> writer.submit(new AdminAuditEntry(adminUid, action, detail, now)));
     }
 }
@@ -0,0 +1,44 @@
+package com.golfbeta.admin.audit;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Builds the structured {@code details_json} payload from alternating keys and values. Nulls are kept. */
+public final class AuditDetails {
+
+    private AuditDetails() {
+    }
+
+    public static Map<String, Object> of(Object... keyValues) {
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Audit details need key/value pairs");
+        }
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            Object value = keyValues[i + 1];
+            details.put(String.valueOf(keyValues[i]),
+                    value == null || value instanceof Number || value instanceof Boolean ? value : value.toString());
+        }
+        return Collections.unmodifiableMap(details);
+    }
+
+    /** Structured details from JSON, or from legacy "key=value,key=value" text split the way V18 backfilled it. */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> read(Object json) {
+        if (json == null) {
+            return Map.of();
+        }
+        if (json instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (String pair : json.toString().split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                details.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        return Collections.unmodifiableMap(details);
+    }
+}
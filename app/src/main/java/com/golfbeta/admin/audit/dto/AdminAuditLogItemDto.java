@@ -0,0 +1,12 @@
+package com.golfbeta.admin.audit.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record AdminAuditLogItemDto(
+        long id,
+        String adminUid,
+        String action,
+        Map<String, Object> details,
+        Instant createdAt
+) {}
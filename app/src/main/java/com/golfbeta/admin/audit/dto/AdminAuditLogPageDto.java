@@ -0,0 +1,8 @@
+package com.golfbeta.admin.audit.dto;
+
+import java.util.List;
+
+public record AdminAuditLogPageDto(
+        List<AdminAuditLogItemDto> items,
+        String nextCursor
+) {}
@@ -0,0 +1,182 @@
+package com.golfbeta.aws;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.DERNull;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
+import org.bouncycastle.asn1.pkcs.RSAPrivateKey;
+import org.bouncycastle.asn1.x509.AlgorithmIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The CloudFront key pairs this instance may sign with, all of which must belong to the distribution's
+ * trusted key group. Each pair has an {@code activeFrom}; signing uses the newest pair that is already active.
+ *
+ * <p>Rotation without a redeploy: add the new public key to the key group, then append the pair to
+ * {@code aws.cloudfront.key-ring-file} with a future {@code activeFrom}. Every instance picks up the file within
+ * a minute and switches at that instant. Remove the old pair (and its public key) once URLs signed with it have
+ * expired. The single {@code key-pair-id}/{@code private-key-base64} pair remains supported as the initial key.
+ */
+@Component
+public class CloudFrontKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(CloudFrontKeyRing.class);
+    private static final Pattern PEM_BLOCK = Pattern.compile(
+            "-----BEGIN [^-]+-----([\\s\\S]+?)-----END [^-]+-----",
+            Pattern.MULTILINE
+    );
+    private static final TypeReference<List<KeyPairSource>> FILE_TYPE = new TypeReference<>() {};
+
+    private final String inlineKeyPairId;
+    private final String inlinePrivateKey;
+    private final Path keyRingFile;
+    private final ObjectMapper objectMapper;
+
+    private volatile List<SigningKey> keys = List.of();
+    private volatile FileTime loadedFileVersion;
+
+    public CloudFrontKeyRing(@Value("${aws.cloudfront.key-pair-id:}") String keyPairId,
+                             @Value("${aws.cloudfront.private-key-base64:}") String privateKeyBase64,
+                             @Value("${aws.cloudfront.key-ring-file:}") String keyRingFile,
+                             ObjectMapper objectMapper) {
+        this.inlineKeyPairId = keyPairId == null ? "" : keyPairId.trim();
+        this.inlinePrivateKey = privateKeyBase64 == null ? "" : privateKeyBase64.trim();
+        this.keyRingFile = StringUtils.hasText(keyRingFile) ? Path.of(keyRingFile.trim()) : null;
+        this.objectMapper = objectMapper;
+        this.keys = load();
+    }
+
+    /** The newest key pair whose {@code activeFrom} has passed. */
+    public SigningKey active() {
+        Instant now = Instant.now();
+        return keys.stream()
+                .filter(key -> !key.activeFrom().isAfter(now))
+                .max(Comparator.comparing(SigningKey::activeFrom))
+                .orElseThrow(() -> new IllegalStateException(keys.isEmpty()
+                        ? "CloudFront private key is not configured"
+                        : "No CloudFront key pair is active yet"));
+    }
+
+    public List<SigningKey> keys() {
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${aws.cloudfront.key-ring-reload-interval:PT1M}")
+    void reloadIfChanged() {
+        if (keyRingFile == null) {
+            return;
+        }
+        try {
+            FileTime version = Files.getLastModifiedTime(keyRingFile);
+            if (version.equals(loadedFileVersion)) {
+                return;
+            }
+            List<SigningKey> reloaded = load();
+            keys = reloaded;
+            log.info("Reloaded CloudFront key ring: {}", reloaded.stream().map(SigningKey::keyPairId).toList());
+        } catch (IOException | RuntimeException e) {
+            log.error("CloudFront key ring reload failed; keeping {} existing key(s)", keys.size(), e);
+        }
+    }
+
+    private List<SigningKey> load() {
+        List<SigningKey> loaded = new ArrayList<>();
+        if (StringUtils.hasText(inlineKeyPairId) || StringUtils.hasText(inlinePrivateKey)) {
+            if (!StringUtils.hasText(inlineKeyPairId)) {
+                throw new IllegalStateException("CloudFront key pair ID is not configured");
+            }
+            if (!StringUtils.hasText(inlinePrivateKey)) {
+                throw new IllegalStateException("CloudFront private key is not configured");
+            }
+            loaded.add(new SigningKey(inlineKeyPairId, parsePrivateKey(inlinePrivateKey), Instant.EPOCH));
+        }
+        if (keyRingFile != null) {
+            try {
+                FileTime version = Files.getLastModifiedTime(keyRingFile);
+                List<KeyPairSource> sources = objectMapper.readValue(
+                        Files.readString(keyRingFile, StandardCharsets.UTF_8), FILE_TYPE);
+                for (KeyPairSource source : sources) {
+                    if (!StringUtils.hasText(source.keyPairId()) || !StringUtils.hasText(source.privateKeyBase64())) {
+                        throw new IllegalStateException("Key ring entries need keyPairId and privateKeyBase64");
+                    }
+                    loaded.removeIf(key -> key.keyPairId().equals(source.keyPairId().trim()));
+                    loaded.add(new SigningKey(source.keyPairId().trim(),
+                            parsePrivateKey(source.privateKeyBase64().trim()),
+                            source.activeFrom() == null ? Instant.EPOCH : source.activeFrom()));
+                }
+                loadedFileVersion = version;
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read CloudFront key ring " + keyRingFile, e);
+            }
+        }
+        return List.copyOf(loaded);
+    }
+
+    static PrivateKey parsePrivateKey(String privateKeyBase64) {
+        try {
+            byte[] initial = Base64.getDecoder().decode(privateKeyBase64);
+            byte[] keyBytes = extractKeyBytes(initial);
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+            try {
+                return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(keyBytes));
+            } catch (InvalidKeySpecException pkcs1) {
+                RSAPrivateKey rsaPrivateKey = RSAPrivateKey.getInstance(ASN1Sequence.getInstance(keyBytes));
+                PrivateKeyInfo privateKeyInfo = new PrivateKeyInfo(
+                        new AlgorithmIdentifier(PKCSObjectIdentifiers.rsaEncryption, DERNull.INSTANCE),
+                        rsaPrivateKey
+                );
+                byte[] pkcs8 = privateKeyInfo.getEncoded();
+                return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pkcs8));
+            }
+        } catch (IOException | IllegalArgumentException | GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to parse CloudFront private key", e);
+        }
+    }
+
+    private static byte[] extractKeyBytes(byte[] decoded) {
+        String candidate = new String(decoded, StandardCharsets.UTF_8);
+        Matcher matcher = PEM_BLOCK.matcher(candidate);
+        if (matcher.find()) {
+            String body = matcher.group(1).replaceAll("[^A-Za-z0-9+/=]", "");
+            return Base64.getDecoder().decode(body);
+        }
+        return decoded;
+    }
+
+    public record SigningKey(String keyPairId, PrivateKey privateKey, Instant activeFrom) {
+
+        @Override
+        public String toString() {
+            return "SigningKey[" + keyPairId + ", activeFrom=" + activeFrom + "]";
+        }
+    }
+
+    record KeyPairSource(String keyPairId, String privateKeyBase64, Instant activeFrom) {
+    }
+}
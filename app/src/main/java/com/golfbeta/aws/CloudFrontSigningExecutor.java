@@ -0,0 +1,108 @@
+package com.golfbeta.aws;
+
+import com.golfbeta.shared.metrics.LatencyHistogram;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs RSA signing on a fixed pool of platform threads sized to the CPU, behind a bounded queue. A burst of
+ * signing requests queues here instead of occupying request threads; once the queue is full, or a signature
+ * waits longer than {@code timeout}, the caller gets {@link SigningCapacityException} (503).
+ */
+@Component
+public class CloudFrontSigningExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram signTime = new LatencyHistogram();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public CloudFrontSigningExecutor(@Value("${aws.cloudfront.signing.threads:0}") int threads,
+                                     @Value("${aws.cloudfront.signing.queue-capacity:256}") int queueCapacity,
+                                     @Value("${aws.cloudfront.signing.timeout:PT2S}") Duration timeout) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cloudfront-signer-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+        this.timeout = timeout;
+    }
+
+    public <T> T sign(Callable<T> signing) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt);
+                try {
+                    return signing.call();
+                } finally {
+                    signTime.record(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new SigningCapacityException("CloudFront signing queue is full", e);
+        }
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new SigningCapacityException("CloudFront signing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new SigningCapacityException("Interrupted waiting for CloudFront signing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("CloudFront signing failed", cause);
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(executor.getMaximumPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                executor.getQueue().remainingCapacity(), rejected.sum(), timedOut.sum(),
+                queueWait.snapshot(), signTime.snapshot());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public record Stats(int threads,
+                        int active,
+                        int queued,
+                        int queueRemaining,
+                        long rejected,
+                        long timedOut,
+                        LatencyHistogram.Snapshot queueWait,
+                        LatencyHistogram.Snapshot signTime) {
+    }
+}
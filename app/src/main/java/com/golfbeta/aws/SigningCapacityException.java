@@ -0,0 +1,9 @@
+package com.golfbeta.aws;
+
+/** The signing pool is saturated; mapped to 503 with Retry-After by {@code ApiErrorHandler}. */
+public class SigningCapacityException extends RuntimeException {
+
+    public SigningCapacityException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,7 +1,11 @@
 package com.golfbeta.config;
 
+import com.golfbeta.aws.SigningCapacityException;
 import com.golfbeta.user.UsernameConflictException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -15,6 +19,26 @@ public class ApiErrorHandler {
                 .body(Map.of("error","username_conflict","message", e.getMessage()));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String,Object>> handleConcurrentUpdate(OptimisticLockingFailureException e){
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error","concurrent_update","message", "The resource was changed by another request; reload and retry"));
+    }
+
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<Map<String,Object>> handlePoolSaturated(Exception e){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error","db_unavailable","message", "Database is busy, retry shortly"));
+    }
+
+    @ExceptionHandler(SigningCapacityException.class)
+    public ResponseEntity<Map<String,Object>> handleSigningSaturated(SigningCapacityException e){
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error","signing_unavailable","message", "Video signing is busy, retry shortly"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String,Object>> handleAny(Exception e){
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
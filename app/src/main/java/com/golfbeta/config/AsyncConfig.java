@@ -0,0 +1,15 @@
+package com.golfbeta.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Async} and {@code @Scheduled}. Both use Boot's auto-configured executors, which switch to
+ * virtual threads together with Tomcat when {@code spring.threads.virtual.enabled=true}.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,59 @@
+package com.golfbeta.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Wraps Hikari pools in a {@link BoundedDataSource}. On by default in virtual-thread mode, where request
+ * concurrency is no longer limited by the Tomcat thread pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.guard.enabled", havingValue = "true")
+public class ConnectionPoolGuardConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionPoolGuardPostProcessor() {
+        return new GuardPostProcessor();
+    }
+
+    static final class GuardPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+        private static final Logger log = LoggerFactory.getLogger(GuardPostProcessor.class);
+
+        private Environment environment;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            return guard(beanName, hikari, environment);
+        }
+
+        static BoundedDataSource guard(String name, HikariDataSource hikari, Environment environment) {
+            int maxConcurrent = environment.getProperty("datasource.guard.max-concurrent", Integer.class,
+                    hikari.getMaximumPoolSize());
+            int maxWaiters = environment.getProperty("datasource.guard.max-waiters", Integer.class,
+                    maxConcurrent * 20);
+            Duration acquireTimeout = environment.getProperty("datasource.guard.acquire-timeout", Duration.class,
+                    Duration.ofSeconds(2));
+            log.info("Guarding pool {}: maxConcurrent={} maxWaiters={} acquireTimeout={}",
+                    name, maxConcurrent, maxWaiters, acquireTimeout);
+            return new BoundedDataSource(hikari, maxConcurrent, maxWaiters, acquireTimeout);
+        }
+    }
+}
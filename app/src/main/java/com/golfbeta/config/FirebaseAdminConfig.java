@@ -3,19 +3,25 @@ package com.golfbeta.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.golfbeta.notifications.PushGateway;
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.messaging.FirebaseMessaging;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Base64;
+import java.util.Optional;
 
+/** Firebase Admin SDK wiring; replaced by test-only stand-ins under the {@code loadtest} profile. */
 @Configuration
+@Profile("!loadtest")
 public class FirebaseAdminConfig {
 
     private static final Logger log = LoggerFactory.getLogger(FirebaseAdminConfig.class);
@@ -35,6 +41,22 @@ public class FirebaseAdminConfig {
         return FirebaseMessaging.getInstance(app);
     }
 
+    @Bean
+    public IdTokenVerifier idTokenVerifier(FirebaseAuth firebaseAuth) {
+        return idToken -> {
+            try {
+                return Optional.of(firebaseAuth.verifyIdToken(idToken, true).getUid());
+            } catch (FirebaseAuthException e) {
+                return Optional.empty();
+            }
+        };
+    }
+
+    @Bean
+    public PushGateway pushGateway(FirebaseMessaging firebaseMessaging) {
+        return firebaseMessaging::sendAsync;
+    }
+
     @Bean
     public FirebaseApp firebaseApp() throws IOException {
         if (serviceAccountKey == null || serviceAccountKey.isBlank()) {
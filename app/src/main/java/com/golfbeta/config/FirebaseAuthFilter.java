@@ -1,8 +1,6 @@
 package com.golfbeta.config;
 
-import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
+import com.golfbeta.video.key.KeyTokenRequestMatcher;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,18 +10,20 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 public class FirebaseAuthFilter extends OncePerRequestFilter {
-    private final FirebaseAuth firebaseAuth;
+    private final IdTokenVerifier verifier;
 
-    public FirebaseAuthFilter(FirebaseAuth firebaseAuth) {
-        this.firebaseAuth = firebaseAuth;
+    public FirebaseAuthFilter(IdTokenVerifier verifier) {
+        this.verifier = verifier;
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) return true; // CORS preflight
+        if (KeyTokenRequestMatcher.INSTANCE.matches(request)) return true; // verified by the controller
         // add any other public endpoints here:
         return path.equals("/health") || path.equals("/error")
                 || path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs")
@@ -41,13 +41,13 @@ public class FirebaseAuthFilter extends OncePerRequestFilter {
         }
 
         String idToken = auth.substring(7);
-        try {
-            FirebaseToken decoded = firebaseAuth.verifyIdToken(idToken, true);
-            var principal = new UsernamePasswordAuthenticationToken(decoded.getUid(), null, List.of());
-            SecurityContextHolder.getContext().setAuthentication(principal);
-            chain.doFilter(req, res);
-        } catch (FirebaseAuthException e) {
+        Optional<String> uid = verifier.verify(idToken);
+        if (uid.isEmpty()) {
             res.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid Firebase token");
+            return;
         }
+        var principal = new UsernamePasswordAuthenticationToken(uid.get(), null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(principal);
+        chain.doFilter(req, res);
     }
 }
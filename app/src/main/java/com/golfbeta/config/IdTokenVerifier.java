@@ -0,0 +1,14 @@
+package com.golfbeta.config;
+
+import java.util.Optional;
+
+/**
+ * Verifies the bearer token on API requests. Firebase Auth in every profile except {@code loadtest}, which
+ * swaps in locally signed tokens from the test sources (see {@code ScenarioLoadBenchmark}).
+ */
+@FunctionalInterface
+public interface IdTokenVerifier {
+
+    /** @return the caller's uid, or empty if the token is invalid, expired or revoked */
+    Optional<String> verify(String idToken);
+}
@@ -0,0 +1,104 @@
+package com.golfbeta.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Splits {@code spring.datasource} into a writer pool and an {@code app.datasource.reader} pool (the Aurora
+ * reader endpoint). Read-only transactions go to the reader unless the caller wrote recently or the reader
+ * is lagging; everything else, including Flyway, uses the writer.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.reader.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writerDataSource(DataSourceProperties properties) {
+        HikariDataSource writer = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        writer.setPoolName("writer");
+        return writer;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.reader.hikari")
+    public HikariDataSource readerDataSource(Environment environment) throws Exception {
+        DataSourceProperties properties = Binder.get(environment)
+                .bind("app.datasource.reader", DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException("app.datasource.reader.url must be set"));
+        properties.afterPropertiesSet();
+        HikariDataSource reader = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        reader.setPoolName("reader");
+        reader.setReadOnly(true);
+        return reader;
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(
+            @Value("${app.datasource.reader.read-your-writes-window:PT5S}") Duration window) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(@Qualifier("readerDataSource") DataSource reader,
+                                        @Value("${app.datasource.reader.lag-query:}") String lagQuery,
+                                        @Value("${app.datasource.reader.max-lag:PT1S}") Duration maxLag) {
+        return new ReplicaLagMonitor(reader, lagQuery.isBlank() ? ReplicaLagMonitor.DEFAULT_LAG_QUERY : lagQuery, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writer,
+                                 @Qualifier("readerDataSource") DataSource reader,
+                                 ReadYourWritesTracker readYourWrites,
+                                 ReplicaLagMonitor lagMonitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(writer, reader, readYourWrites, lagMonitor));
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    ReaderMaintenance readerMaintenance(ReadYourWritesTracker readYourWrites, ReplicaLagMonitor lagMonitor) {
+        return new ReaderMaintenance(readYourWrites, lagMonitor);
+    }
+
+    static class ReaderMaintenance {
+
+        private final ReadYourWritesTracker readYourWrites;
+        private final ReplicaLagMonitor lagMonitor;
+
+        ReaderMaintenance(ReadYourWritesTracker readYourWrites, ReplicaLagMonitor lagMonitor) {
+            this.readYourWrites = readYourWrites;
+            this.lagMonitor = lagMonitor;
+        }
+
+        @Scheduled(fixedDelayString = "${app.datasource.reader.lag-check-interval:PT5S}")
+        void checkLag() {
+            lagMonitor.check();
+        }
+
+        @Scheduled(fixedDelayString = "PT1M")
+        void evictExpiredPins() {
+            readYourWrites.evictExpired();
+        }
+    }
+}
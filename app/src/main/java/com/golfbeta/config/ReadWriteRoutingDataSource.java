@@ -0,0 +1,47 @@
+package com.golfbeta.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the reader pool and everything else to the writer.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * transaction's read-only flag is only bound after the transaction manager has begun, so the physical
+ * connection has to be fetched lazily for the lookup below to see it, and released at the end of each
+ * transaction ({@code hibernate.connection.handling_mode}) so the next one in the same request is routed again.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { WRITER, READER }
+
+    private final ReadYourWritesTracker readYourWrites;
+    private final ReplicaLagMonitor lagMonitor;
+
+    ReadWriteRoutingDataSource(DataSource writer, DataSource reader,
+                               ReadYourWritesTracker readYourWrites, ReplicaLagMonitor lagMonitor) {
+        this.readYourWrites = readYourWrites;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.WRITER, writer, Route.READER, reader));
+        setDefaultTargetDataSource(writer);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.WRITER;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.pinCurrentUserAfterCommit();
+            return Route.WRITER;
+        }
+        if (readYourWrites.isCurrentUserPinned() || !lagMonitor.isReaderUsable()) {
+            return Route.WRITER;
+        }
+        return Route.READER;
+    }
+}
@@ -0,0 +1,74 @@
+package com.golfbeta.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a user's reads on the writer for a short window after they commit a read-write transaction, so
+ * they never see the reader lag behind their own change. Pins are per instance; the window only needs to
+ * cover replica lag, which is usually well under the time it takes a client to land on another instance.
+ */
+class ReadYourWritesTracker {
+
+    private static final Object SYNC_KEY = new Object();
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    void pinCurrentUserAfterCommit() {
+        String uid = currentUid();
+        if (uid == null || windowNanos <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(SYNC_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(SYNC_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinnedUntil.put(uid, System.nanoTime() + windowNanos);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SYNC_KEY);
+            }
+        });
+    }
+
+    boolean isCurrentUserPinned() {
+        String uid = currentUid();
+        if (uid == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(uid);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(uid, until);
+        return false;
+    }
+
+    void evictExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    private static String currentUid() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || auth.getPrincipal() == null ? null : auth.getName();
+    }
+}
@@ -0,0 +1,65 @@
+package com.golfbeta.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the reader for its replication lag. While the lag exceeds {@code maxLag}, or the probe itself
+ * fails, read-only transactions stay on the writer. A replica that has replayed everything it received counts
+ * as zero lag, since the time since its last replayed transaction only says the primary has been idle.
+ */
+class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    static final String DEFAULT_LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0
+                        WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END
+            """;
+
+    private final JdbcTemplate reader;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean usable = true;
+    private volatile long lastLagMillis;
+
+    ReplicaLagMonitor(DataSource reader, String lagQuery, Duration maxLag) {
+        this.reader = new JdbcTemplate(reader);
+        this.reader.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    boolean isReaderUsable() {
+        return usable;
+    }
+
+    long lastLagMillis() {
+        return lastLagMillis;
+    }
+
+    void check() {
+        boolean wasUsable = usable;
+        try {
+            Number lag = reader.queryForObject(lagQuery, Number.class);
+            lastLagMillis = lag == null ? 0 : lag.longValue();
+            usable = maxLagMillis <= 0 || lastLagMillis <= maxLagMillis;
+        } catch (RuntimeException e) {
+            usable = false;
+            if (wasUsable) {
+                log.warn("Reader lag probe failed; routing reads to writer: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            log.warn("Reader {} (lag {} ms, max {} ms)", usable ? "back in rotation" : "taken out of rotation",
+                    lastLagMillis, maxLagMillis);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.golfbeta.config;
 
-import com.google.firebase.auth.FirebaseAuth;
+import com.golfbeta.video.key.KeyTokenRequestMatcher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,7 +14,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     @Bean
-    public FirebaseAuthFilter firebaseAuthFilter(FirebaseAuth firebaseAuth) { return new FirebaseAuthFilter(firebaseAuth); }
+    public FirebaseAuthFilter firebaseAuthFilter(IdTokenVerifier verifier) { return new FirebaseAuthFilter(verifier); }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http,
@@ -32,6 +32,7 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/admin-console/**"
                         ).permitAll()
+                        .requestMatchers(KeyTokenRequestMatcher.INSTANCE).permitAll() // HMAC key token, checked in UserVideoController
 
                         // add more public endpoints as needed
                         .anyRequest().authenticated()
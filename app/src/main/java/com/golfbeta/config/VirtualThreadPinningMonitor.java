@@ -0,0 +1,122 @@
+package com.golfbeta.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event in-process. Each distinct pinning site (the first
+ * application frame, or the top frame when none) is logged once with its stack and then counted, so
+ * {@link #snapshot()} gives an aggregate view for the admin diagnostics endpoint.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.golfbeta.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Map<String, SiteStats> sites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning.threshold:PT0.02S}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream rs = new RecordingStream();
+        rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        rs.onEvent(PINNED_EVENT, this::onPinned);
+        rs.startAsync();
+        stream = rs;
+        log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public List<PinningSite> snapshot() {
+        return sites.entrySet().stream()
+                .map(e -> new PinningSite(e.getKey(), e.getValue().count.sum(),
+                        Duration.ofNanos(e.getValue().totalNanos.sum()),
+                        Duration.ofNanos(e.getValue().maxNanos)))
+                .sorted(Comparator.comparingLong(PinningSite::count).reversed())
+                .toList();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = siteOf(frames);
+        long nanos = event.getDuration().toNanos();
+
+        SiteStats stats = sites.computeIfAbsent(site, key -> new SiteStats());
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        synchronized (stats) {
+            stats.maxNanos = Math.max(stats.maxNanos, nanos);
+        }
+        if (stats.count.sum() == 1) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}", nanos / 1_000_000, site, describe(frames));
+        }
+    }
+
+    private static String siteOf(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return format(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : format(frames.get(0));
+    }
+
+    private static String describe(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            sb.append("\tat ").append(format(frames.get(i))).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class SiteStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private long maxNanos;
+    }
+
+    public record PinningSite(String site, long count, Duration totalPinned, Duration maxPinned) {
+    }
+}
@@ -18,7 +18,8 @@ import java.util.UUID;
 public class Friend {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friends_id_seq")
+    @SequenceGenerator(name = "friends_id_seq", sequenceName = "friends_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name="user_id_a", nullable=false, columnDefinition = "uuid")
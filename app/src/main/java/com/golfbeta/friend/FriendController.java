@@ -4,10 +4,9 @@ import com.golfbeta.friend.dto.FriendListItemDto;
 import com.golfbeta.friend.dto.FriendViewDto;
 import com.golfbeta.friend.request.FriendRequestService;
 import com.golfbeta.friend.request.FriendRequestService;
+import com.golfbeta.shared.logging.EventLog;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.constraints.NotBlank;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,13 +21,14 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class FriendController {
 
-    private static final Logger log = LoggerFactory.getLogger(FriendController.class);
     private final FriendService friendService;
     private final FriendRequestService requestService;
+    private final EventLog eventLog;
 
-    public FriendController(FriendService friendService, FriendRequestService requestService) {
+    public FriendController(FriendService friendService, FriendRequestService requestService, EventLog eventLog) {
         this.friendService = friendService;
         this.requestService = requestService;
+        this.eventLog = eventLog;
     }
 
     /** Relationship between me and another user, if any. */
@@ -52,8 +52,8 @@ public class FriendController {
         try {
             return ResponseEntity.ok(requestService.accept(uid, otherUserId));
         } catch (IllegalStateException | java.util.NoSuchElementException ex) {
-            // Request was already removed; log as warning and respond with no content to avoid client errors.
-            log.warn("Accept on missing/invalid request from {} -> {}: {}", uid, otherUserId, ex.getMessage());
+            // Request was already removed; record it and respond with no content to avoid client errors.
+            staleRequest("accept", uid, otherUserId, ex);
             return ResponseEntity.noContent().build();
         }
     }
@@ -66,7 +66,7 @@ public class FriendController {
         try {
           requestService.reject(uid, otherUserId);
         } catch (IllegalStateException | java.util.NoSuchElementException ex) {
-          log.warn("Reject on missing/invalid request from {} -> {}: {}", uid, otherUserId, ex.getMessage());
+          staleRequest("reject", uid, otherUserId, ex);
         }
     }
 
@@ -78,7 +78,7 @@ public class FriendController {
         try {
           requestService.cancel(uid, otherUserId);
         } catch (IllegalStateException | java.util.NoSuchElementException ex) {
-          log.warn("Cancel on missing/invalid request from {} -> {}: {}", uid, otherUserId, ex.getMessage());
+          staleRequest("cancel", uid, otherUserId, ex);
         }
     }
 
@@ -90,7 +90,7 @@ public class FriendController {
         try {
           friendService.unfriend(uid, otherUserId);
         } catch (IllegalStateException | java.util.NoSuchElementException ex) {
-          log.warn("Unfriend on missing/invalid request from {} -> {}: {}", uid, otherUserId, ex.getMessage());
+          staleRequest("unfriend", uid, otherUserId, ex);
         }
     }
 
@@ -109,4 +109,13 @@ public class FriendController {
     public List<FriendListItemDto> listOutgoing(@AuthenticationPrincipal String uid) {
         return requestService.listOutgoing(uid);
     }
+
+    private void staleRequest(String action, String uid, String otherUserId, RuntimeException ex) {
+        eventLog.event("friend", "stale_request")
+                .str("action", action)
+                .str("uid", uid)
+                .str("otherUserId", otherUserId)
+                .str("reason", ex.getMessage())
+                .emit();
+    }
 }
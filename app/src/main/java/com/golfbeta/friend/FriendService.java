@@ -1,10 +1,12 @@
 package com.golfbeta.friend;
 
+import com.golfbeta.activity.ActivityService;
 import com.golfbeta.friend.dto.FriendListItemDto;
 import com.golfbeta.friend.dto.FriendViewDto;
 import com.golfbeta.friend.enums.FriendStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,7 +16,9 @@ public class FriendService {
 
     private final FriendRepository repo;
     private final FriendDomainHelper helper;
+    private final ActivityService activity;
 
+    @Transactional(readOnly = true)
     public FriendViewDto getRelationship(String uid, String other) {
         var viewer = helper.requireProfile(uid);
         var otherProfile = helper.requireProfile(other);
@@ -31,9 +35,11 @@ public class FriendService {
             throw new IllegalStateException("Not friends");
         }
         repo.delete(f);
+        activity.unlink(viewer.getId(), otherProfile.getId());
     }
 
     /** Friends only (no requests). */
+    @Transactional(readOnly = true)
     public List<FriendListItemDto> listFriends(String uid) {
         var viewer = helper.requireProfile(uid);
         var rows = repo.findAllByUidAndStatus(viewer.getId(), FriendStatus.FRIENDS);
@@ -21,7 +21,8 @@ import java.util.UUID;
 public class FriendRequestAttempt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friend_request_attempt_id_seq")
+    @SequenceGenerator(name = "friend_request_attempt_id_seq", sequenceName = "friend_request_attempt_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "requester_id", nullable = false, columnDefinition = "uuid")
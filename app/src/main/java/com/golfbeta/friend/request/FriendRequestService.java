@@ -1,5 +1,6 @@
 package com.golfbeta.friend.request;
 
+import com.golfbeta.activity.ActivityService;
 import com.golfbeta.friend.Friend;
 import com.golfbeta.friend.FriendDomainHelper;
 import com.golfbeta.friend.FriendRepository;
@@ -30,6 +31,7 @@ public class FriendRequestService {
     private final FriendDomainHelper helper;
     private final PushNotificationService pushNotifications;
     private final NotificationInboxService inbox;
+    private final ActivityService activity;
 
     /**
      * Send a request. If the opposite pending request already exists, auto-accept to FRIENDS.
@@ -51,6 +53,7 @@ public class FriendRequestService {
             f.setStatus(FriendStatus.FRIENDS);
             f.setUpdatedAt(Instant.now());
             recordAttempt(requester.getId(), otherProfile.getId());
+            activity.friendshipStarted(requester, otherProfile);
             return helper.toView(requester, repo.save(f));
         }
 
@@ -88,6 +91,7 @@ public class FriendRequestService {
     }
 
     /** Accept a received request. */
+    @Transactional
     public FriendViewDto accept(String uid, String other) {
         var viewer = helper.requireProfile(uid);
         var otherProfile = helper.requireProfile(other);
@@ -99,6 +103,7 @@ public class FriendRequestService {
         f.setStatus(FriendStatus.FRIENDS);
         f.setUpdatedAt(Instant.now());
         inbox.create(otherProfile.getId(), NotificationType.FRIEND_REQUEST_ACCEPTED, buildAcceptedMessage(viewer), viewer.getId());
+        activity.friendshipStarted(viewer, otherProfile);
         return helper.toView(viewer, repo.save(f), helper.mapProfiles(viewer, otherProfile));
     }
 
@@ -125,14 +130,19 @@ public class FriendRequestService {
     }
 
     /** Inbound requests only. */
+    @Transactional(readOnly = true)
     public List<FriendListItemDto> listIncoming(String uid) {
-        var viewer = helper.requireProfile(uid);
+        return listIncoming(helper.requireProfile(uid));
+    }
+
+    public List<FriendListItemDto> listIncoming(UserProfile viewer) {
         var rows = repo.findAllByUidAndStatus(viewer.getId(), FriendStatus.REQUESTED)
                 .stream().filter(f -> !f.getRequesterId().equals(viewer.getId())).toList();
         return helper.enrichWithProfiles(viewer, rows);
     }
 
     /** Outbound requests only (useful for annotating search results on the client). */
+    @Transactional(readOnly = true)
     public List<FriendListItemDto> listOutgoing(String uid) {
         var viewer = helper.requireProfile(uid);
         var rows = repo.findAllByUidAndStatus(viewer.getId(), FriendStatus.REQUESTED)
@@ -0,0 +1,24 @@
+package com.golfbeta.home;
+
+import com.golfbeta.home.dto.HomeResponseDto;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/home")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeService service;
+
+    /** Aggregate of /user/me, practice-hundred status/analysis, notifications and incoming friend requests. */
+    @GetMapping
+    public HomeResponseDto home(@AuthenticationPrincipal String uid) {
+        return service.load(uid);
+    }
+}
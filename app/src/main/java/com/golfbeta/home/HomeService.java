@@ -0,0 +1,78 @@
+package com.golfbeta.home;
+
+import com.golfbeta.friend.request.FriendRequestService;
+import com.golfbeta.home.dto.HomeResponseDto;
+import com.golfbeta.notifications.NotificationInboxService;
+import com.golfbeta.practice.PracticeHundredService;
+import com.golfbeta.shared.concurrency.FanOutScope;
+import com.golfbeta.user.UserProfileService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Everything the app needs on launch in one call. The principal is resolved once, then the independent
+ * reads run in parallel on virtual threads; a slow or failing part is dropped (and listed in
+ * {@code unavailable}) rather than failing the screen.
+ */
+@Service
+public class HomeService {
+
+    private final UserProfileService userProfiles;
+    private final PracticeHundredService practiceHundreds;
+    private final NotificationInboxService notifications;
+    private final FriendRequestService friendRequests;
+    private final Duration partTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public HomeService(UserProfileService userProfiles,
+                       PracticeHundredService practiceHundreds,
+                       NotificationInboxService notifications,
+                       FriendRequestService friendRequests,
+                       @Value("${home.part-timeout:PT2S}") Duration partTimeout) {
+        this.userProfiles = userProfiles;
+        this.practiceHundreds = practiceHundreds;
+        this.notifications = notifications;
+        this.friendRequests = friendRequests;
+        this.partTimeout = partTimeout;
+    }
+
+    public HomeResponseDto load(String uid) {
+        var profile = userProfiles.loadProfile(uid).profile();
+
+        try (var scope = new FanOutScope(executor, partTimeout)) {
+            var view = scope.fork("profile", () -> userProfiles.view(profile));
+            var incomplete = scope.fork("incompletePracticeHundred", () -> practiceHundreds.findIncomplete(profile));
+            var status = scope.fork("practiceHundredStatus", () -> practiceHundreds.latestCompleted(profile));
+            var analysis = scope.fork("analysis", () -> practiceHundreds.findAnalysis(profile).orElse(null));
+            var inbox = scope.fork("notifications", () -> notifications.listForUser(profile));
+            var incoming = scope.fork("incomingFriendRequests", () -> friendRequests.listIncoming(profile));
+
+            scope.join();
+
+            return new HomeResponseDto(
+                    view.get(),
+                    incomplete.get(),
+                    status.get(),
+                    analysis.get(),
+                    inbox.get(),
+                    incoming.get(),
+                    scope.unavailableParts()
+            );
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Home request interrupted");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
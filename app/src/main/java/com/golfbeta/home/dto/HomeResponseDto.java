@@ -0,0 +1,20 @@
+package com.golfbeta.home.dto;
+
+import com.golfbeta.friend.dto.FriendListItemDto;
+import com.golfbeta.notifications.dto.NotificationInboxDto;
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredStatusDto;
+import com.golfbeta.user.dto.UserProfileViewDto;
+
+import java.util.List;
+
+public record HomeResponseDto(
+        UserProfileViewDto profile,
+        PracticeHundredResponseDto incompletePracticeHundred,
+        PracticeHundredStatusDto practiceHundredStatus,
+        PracticeHundredAnalysisResponseDto analysis,
+        List<NotificationInboxDto> notifications,
+        List<FriendListItemDto> incomingFriendRequests,
+        List<String> unavailable
+) {}
@@ -0,0 +1,10 @@
+package com.golfbeta.notifications;
+
+import java.util.UUID;
+
+public record NotificationDraft(UUID userId, NotificationType type, String message, UUID fromUserId) {
+
+    public static NotificationDraft system(UUID userId, NotificationType type, String message) {
+        return new NotificationDraft(userId, type, message, null);
+    }
+}
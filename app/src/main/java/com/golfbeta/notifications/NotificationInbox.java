@@ -19,7 +19,8 @@ import java.util.UUID;
 public class NotificationInbox {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_inbox_id_seq")
+    @SequenceGenerator(name = "notifications_inbox_id_seq", sequenceName = "notifications_inbox_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false, columnDefinition = "uuid")
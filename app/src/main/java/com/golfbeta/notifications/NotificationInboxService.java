@@ -1,11 +1,14 @@
 package com.golfbeta.notifications;
 
 import com.golfbeta.notifications.dto.NotificationInboxDto;
+import com.golfbeta.user.UserProfile;
 import com.golfbeta.user.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,8 +21,13 @@ public class NotificationInboxService {
     private final NotificationInboxRepository repo;
     private final UserProfileRepository profiles;
 
+    @Transactional(readOnly = true)
     public List<NotificationInboxDto> listForUser(String firebaseId) {
         var user = profiles.findByFirebaseId(firebaseId).orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return listForUser(user);
+    }
+
+    public List<NotificationInboxDto> listForUser(UserProfile user) {
         return repo.findLatest(user.getId()).stream()
                 .limit(MAX_RETURN)
                 .map(this::toDto)
@@ -37,14 +45,37 @@ public class NotificationInboxService {
     }
 
     public NotificationInbox create(UUID userId, NotificationType type, String message, UUID fromUserId) {
+        return repo.save(newNotification(userId, type, message, fromUserId, Instant.now()));
+    }
+
+    /** Fan the same notification out to many recipients; rows are inserted in JDBC batches. */
+    @Transactional
+    public List<NotificationInbox> createAll(Collection<UUID> userIds, NotificationType type, String message, UUID fromUserId) {
+        Instant now = Instant.now();
+        return repo.saveAll(userIds.stream()
+                .map(userId -> newNotification(userId, type, message, fromUserId, now))
+                .toList());
+    }
+
+    /** Per-recipient messages (e.g. one per expiring license), inserted in JDBC batches. */
+    @Transactional
+    public List<NotificationInbox> createAll(Collection<NotificationDraft> drafts) {
+        Instant now = Instant.now();
+        return repo.saveAll(drafts.stream()
+                .map(d -> newNotification(d.userId(), d.type(), d.message(), d.fromUserId(), now))
+                .toList());
+    }
+
+    private static NotificationInbox newNotification(UUID userId, NotificationType type, String message,
+                                                     UUID fromUserId, Instant createdAt) {
         var n = new NotificationInbox();
         n.setUserId(userId);
         n.setType(type);
         n.setMessage(message);
-        n.setCreatedAt(Instant.now());
+        n.setCreatedAt(createdAt);
         n.setSeen(false);
         n.setFromUserId(fromUserId);
-        return repo.save(n);
+        return n;
     }
 
     private NotificationInboxDto toDto(NotificationInbox n) {
@@ -2,5 +2,7 @@ package com.golfbeta.notifications;
 
 public enum NotificationType {
     FRIEND_REQUEST,
-    FRIEND_REQUEST_ACCEPTED
+    FRIEND_REQUEST_ACCEPTED,
+    VIDEO_LICENSE_EXPIRING,
+    VIDEO_LICENSE_EXPIRED
 }
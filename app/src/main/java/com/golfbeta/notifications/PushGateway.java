@@ -0,0 +1,16 @@
+package com.golfbeta.notifications;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.concurrent.Future;
+
+/**
+ * Delivers one push message. FCM in every profile except {@code loadtest}, where a test-only simulated gateway with
+ * configurable latency and error rate stands in.
+ */
+@FunctionalInterface
+public interface PushGateway {
+
+    /** @return a future completing with the provider's message id */
+    Future<String> sendAsync(Message message);
+}
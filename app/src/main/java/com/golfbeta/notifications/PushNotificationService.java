@@ -1,9 +1,9 @@
 package com.golfbeta.notifications;
 
+import com.golfbeta.shared.logging.EventLog;
 import com.golfbeta.user.UserProfile;
 import com.google.firebase.messaging.AndroidConfig;
 import com.google.firebase.messaging.AndroidNotification;
-import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +25,8 @@ public class PushNotificationService {
     private static final Logger log = LoggerFactory.getLogger(PushNotificationService.class);
 
     private final DeviceTokenRepository tokens;
-    private final FirebaseMessaging firebaseMessaging;
+    private final PushGateway pushGateway;
+    private final EventLog eventLog;
 
     public void sendFriendRequest(UserProfile requester, UserProfile recipient) {
         List<DeviceToken> targetTokens = tokens.findAllByUserProfileId(recipient.getId());
@@ -56,16 +57,25 @@ public class PushNotificationService {
                                 .setBody(buildBody(requester))
                                 .build())
                         .build();
-                firebaseMessaging.sendAsync(message).get(5, TimeUnit.SECONDS);
+                pushGateway.sendAsync(message).get(5, TimeUnit.SECONDS);
+                pushEvent("sent", recipient, token).emit();
             } catch (InterruptedException ie) {
                 Thread.currentThread().interrupt();
-                log.warn("Push send interrupted for token {}: {}", token.getToken(), ie.getMessage());
+                pushEvent("interrupted", recipient, token).emit();
             } catch (ExecutionException | TimeoutException ex) {
-                log.warn("Failed to send friend request push to token {}: {}", token.getToken(), ex.getMessage());
+                log.warn("Failed to send friend request push to token {}: {}", EventLog.redact(token.getToken()), ex.getMessage());
+                pushEvent("failed", recipient, token).str("error", ex.getMessage()).emit();
             }
         }
     }
 
+    private EventLog.Event pushEvent(String name, UserProfile recipient, DeviceToken token) {
+        return eventLog.event("push", name)
+                .str("type", "friend_request")
+                .str("uid", recipient.getFirebaseId())
+                .str("token", EventLog.redact(token.getToken()));
+    }
+
     private String buildBody(UserProfile requester) {
         String name = requester.getName();
         if (name == null || name.isBlank()) {
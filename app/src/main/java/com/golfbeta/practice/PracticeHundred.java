@@ -4,7 +4,9 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -12,6 +14,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "golfr_practice_hundred")
 @Data
+@DynamicUpdate
 public class PracticeHundred {
     @Id
     @Column(columnDefinition = "uuid")
@@ -26,6 +29,13 @@ public class PracticeHundred {
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
+    @Column(name = "client_updated_at")
+    private LocalDateTime clientUpdatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "putting_3ft", columnDefinition = "TEXT")
     private String putting3ft;
     @Column(name = "putting_6ft", columnDefinition = "TEXT")
@@ -1,16 +1,29 @@
 package com.golfbeta.practice;
 
 import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredDrillAckDto;
+import com.golfbeta.practice.dto.PracticeHundredDrillPatchDto;
+import com.golfbeta.practice.dto.PracticeHundredPageDto;
 import com.golfbeta.practice.dto.PracticeHundredPatchDto;
+import com.golfbeta.practice.dto.PracticeHundredPercentilesDto;
 import com.golfbeta.practice.dto.PracticeHundredResponseDto;
 import com.golfbeta.practice.dto.PracticeHundredStatusDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncRequestDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncResponseDto;
+import com.golfbeta.practice.dto.PracticeLeaderboardDto;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,10 +33,25 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 public class PracticeHundredController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
     private final PracticeHundredService service;
+    private final PracticeHundredSyncService syncService;
+    private final PracticeLeaderboardService leaderboardService;
+    private final PracticePercentileService percentileService;
+    private final PracticeHundredQueryService queryService;
 
-    public PracticeHundredController(PracticeHundredService service) {
+    public PracticeHundredController(PracticeHundredService service,
+                                     PracticeHundredSyncService syncService,
+                                     PracticeLeaderboardService leaderboardService,
+                                     PracticePercentileService percentileService,
+                                     PracticeHundredQueryService queryService) {
         this.service = service;
+        this.syncService = syncService;
+        this.leaderboardService = leaderboardService;
+        this.percentileService = percentileService;
+        this.queryService = queryService;
     }
 
     @PostMapping
@@ -32,11 +60,42 @@ public class PracticeHundredController {
         return service.create(uid);
     }
 
+    /** Replays queued offline creates, drill updates and completions; returns the reconciled sessions. */
+    @PostMapping("/sync")
+    public PracticeHundredSyncResponseDto sync(@AuthenticationPrincipal String uid,
+                                               @RequestBody @Valid PracticeHundredSyncRequestDto request) {
+        return syncService.sync(uid, request);
+    }
+
+    /** Unbounded; prefer {@code /page} or {@code /export} for long histories. */
     @GetMapping
     public List<PracticeHundredResponseDto> list(@AuthenticationPrincipal String uid) {
         return service.list(uid);
     }
 
+    /** Newest first; pass the returned {@code next_cursor} back to continue. */
+    @GetMapping("/page")
+    public PracticeHundredPageDto page(@AuthenticationPrincipal String uid,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer limit) {
+        return queryService.page(uid, cursor, limit);
+    }
+
+    @GetMapping("/export")
+    public void export(@AuthenticationPrincipal String uid,
+                       @RequestParam(defaultValue = "ndjson") String format,
+                       HttpServletResponse response) throws IOException {
+        PracticeHundredQueryService.ExportFormat exportFormat = switch (format.toLowerCase()) {
+            case "ndjson" -> PracticeHundredQueryService.ExportFormat.NDJSON;
+            case "csv" -> PracticeHundredQueryService.ExportFormat.CSV;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format);
+        };
+        String extension = exportFormat == PracticeHundredQueryService.ExportFormat.CSV ? "csv" : "ndjson";
+        response.setContentType(exportFormat == PracticeHundredQueryService.ExportFormat.CSV ? CSV : NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"practice-hundred." + extension + "\"");
+        queryService.export(uid, exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/history")
     public List<PracticeHundredResponseDto> history(@AuthenticationPrincipal String uid,
                                                     @RequestParam(name = "limit", defaultValue = "20") int limit) {
@@ -58,6 +117,23 @@ public class PracticeHundredController {
         return service.analysis(uid);
     }
 
+    /** Percentile of each category of my latest session among all golfers, my skill level or my handicap band. */
+    @GetMapping("/analysis/percentiles")
+    public PracticeHundredPercentilesDto percentiles(@AuthenticationPrincipal String uid,
+                                                     @RequestParam(name = "by", defaultValue = "all") String by) {
+        return percentileService.percentiles(uid, by);
+    }
+
+    /** Me and my friends ranked by one category (overall, driving, ..., putting) of their latest or best session. */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<PracticeLeaderboardDto> leaderboard(@AuthenticationPrincipal String uid,
+                                                              @RequestParam(name = "basis", defaultValue = "latest") String basis,
+                                                              @RequestParam(name = "category", defaultValue = "overall") String category) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(leaderboardService.cacheTtl()).cachePrivate())
+                .body(leaderboardService.leaderboard(uid, basis, category));
+    }
+
     @GetMapping("/{id}")
     public PracticeHundredResponseDto findById(@AuthenticationPrincipal String uid, @PathVariable UUID id) {
         return service.findById(uid, id);
@@ -70,6 +146,14 @@ public class PracticeHundredController {
         return service.patch(uid, id, dto);
     }
 
+    /** Per-shot updates: only the changed drills go up, only the new version comes back. */
+    @PatchMapping("/{id}/drills")
+    public PracticeHundredDrillAckDto patchDrills(@AuthenticationPrincipal String uid,
+                                                  @PathVariable UUID id,
+                                                  @RequestBody @Valid PracticeHundredDrillPatchDto dto) {
+        return service.patchDrills(uid, id, dto);
+    }
+
     @PostMapping("/{id}/complete")
     public PracticeHundredResponseDto complete(@AuthenticationPrincipal String uid,
                                                @PathVariable UUID id,
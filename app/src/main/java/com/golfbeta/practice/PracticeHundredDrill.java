@@ -0,0 +1,77 @@
+package com.golfbeta.practice;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The twenty drill columns of {@code golfr_practice_hundred}. Keys match the JSON names used by
+ * {@link com.golfbeta.practice.dto.PracticeHundredPatchDto}; the column names are the only identifiers
+ * ever interpolated into drill-level UPDATE statements.
+ */
+enum PracticeHundredDrill {
+    PUTTING_3FT("putting_3ft"),
+    PUTTING_6FT("putting_6ft"),
+    PUTTING_15FT("putting_15ft"),
+    CHIPPING_10YARDS("chipping_10yards"),
+    CHIPPING_20YARDS("chipping_20yards"),
+    PITCHING_FULLPW("pitching_fullpw"),
+    PITCHING_THREEQUARTERPW("pitching_threequarterpw"),
+    PITCHING_HIGHLOBS("pitching_highlobs"),
+    SHORTIRONS_STRAIGHT("shortirons_straight"),
+    SHORTIRONS_DRAW("shortirons_draw"),
+    SHORTIRONS_FADE("shortirons_fade"),
+    LONGIRONS_STRAIGHT("longirons_straight"),
+    LONGIRONS_DRAW("longirons_draw"),
+    LONGIRONS_FADE("longirons_fade"),
+    WOODS_STRAIGHT("woods_straight"),
+    WOODS_DRAW("woods_draw"),
+    WOODS_FADE("woods_fade"),
+    DRIVING_STRAIGHT("driving_straight"),
+    DRIVING_DRAW("driving_draw"),
+    DRIVING_FADE("driving_fade");
+
+    private static final Map<String, PracticeHundredDrill> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(PracticeHundredDrill::column, Function.identity()));
+
+    private final String column;
+
+    PracticeHundredDrill(String column) {
+        this.column = column;
+    }
+
+    String column() {
+        return column;
+    }
+
+    String read(PracticeHundred session) {
+        return switch (this) {
+            case PUTTING_3FT -> session.getPutting3ft();
+            case PUTTING_6FT -> session.getPutting6ft();
+            case PUTTING_15FT -> session.getPutting15ft();
+            case CHIPPING_10YARDS -> session.getChipping10yards();
+            case CHIPPING_20YARDS -> session.getChipping20yards();
+            case PITCHING_FULLPW -> session.getPitchingFullpw();
+            case PITCHING_THREEQUARTERPW -> session.getPitchingThreequarterpw();
+            case PITCHING_HIGHLOBS -> session.getPitchingHighlobs();
+            case SHORTIRONS_STRAIGHT -> session.getShortironsStraight();
+            case SHORTIRONS_DRAW -> session.getShortironsDraw();
+            case SHORTIRONS_FADE -> session.getShortironsFade();
+            case LONGIRONS_STRAIGHT -> session.getLongironsStraight();
+            case LONGIRONS_DRAW -> session.getLongironsDraw();
+            case LONGIRONS_FADE -> session.getLongironsFade();
+            case WOODS_STRAIGHT -> session.getWoodsStraight();
+            case WOODS_DRAW -> session.getWoodsDraw();
+            case WOODS_FADE -> session.getWoodsFade();
+            case DRIVING_STRAIGHT -> session.getDrivingStraight();
+            case DRIVING_DRAW -> session.getDrivingDraw();
+            case DRIVING_FADE -> session.getDrivingFade();
+        };
+    }
+
+    static Optional<PracticeHundredDrill> fromKey(String key) {
+        return Optional.ofNullable(key == null ? null : BY_KEY.get(key));
+    }
+}
@@ -0,0 +1,234 @@
+package com.golfbeta.practice;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.golfbeta.practice.dto.PracticeHundredPageDto;
+import com.golfbeta.practice.dto.PracticeHundredResponseDto;
+import com.golfbeta.shared.pagination.KeysetCursor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads a user's practice hundreds newest first. Pages seek past the last {@code (started_at, id)} seen, an
+ * index range scan on the V28 index however long the history. The export streams the same ordering through a
+ * server-side cursor, so memory stays flat.
+ */
+@Service
+public class PracticeHundredQueryService {
+
+    public enum ExportFormat { NDJSON, CSV }
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final String SELECT = """
+            SELECT ph.id, up.firebase_id, ph.started_at, ph.completed_at,
+                   ph.putting_3ft, ph.putting_6ft, ph.putting_15ft, ph.chipping_10yards, ph.chipping_20yards,
+                   ph.pitching_fullpw, ph.pitching_threequarterpw, ph.pitching_highlobs,
+                   ph.shortirons_straight, ph.shortirons_draw, ph.shortirons_fade,
+                   ph.longirons_straight, ph.longirons_draw, ph.longirons_fade,
+                   ph.woods_straight, ph.woods_draw, ph.woods_fade,
+                   ph.driving_straight, ph.driving_draw, ph.driving_fade, ph.version
+            FROM golfr_practice_hundred ph
+            JOIN user_profile up ON up.id = ph.user_id
+            WHERE up.firebase_id = ?
+            """;
+
+    private static final String[] CSV_HEADER = {
+            "id", "user_id", "started_at", "completed_at",
+            "putting_3ft", "putting_6ft", "putting_15ft", "chipping_10yards", "chipping_20yards",
+            "pitching_fullpw", "pitching_threequarterpw", "pitching_highlobs",
+            "shortirons_straight", "shortirons_draw", "shortirons_fade",
+            "longirons_straight", "longirons_draw", "longirons_fade",
+            "woods_straight", "woods_draw", "woods_fade",
+            "driving_straight", "driving_draw", "driving_fade", "version"
+    };
+
+    private final JdbcTemplate jdbc;
+    private final JdbcTemplate exportJdbc;
+    private final TransactionTemplate exportTx;
+    private final ObjectMapper objectMapper;
+
+    public PracticeHundredQueryService(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+                                       ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.exportJdbc = new JdbcTemplate(jdbc.getDataSource());
+        this.exportJdbc.setFetchSize(EXPORT_FETCH_SIZE);
+        this.exportTx = new TransactionTemplate(transactionManager);
+        this.exportTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public PracticeHundredPageDto page(String firebaseId, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<Object> args = new ArrayList<>();
+        args.add(firebaseId);
+        StringBuilder sql = new StringBuilder(SELECT);
+
+        List<String> after = KeysetCursor.decode(cursor, 2);
+        if (after != null) {
+            sql.append(" AND (ph.started_at, ph.id) < (?, ?)");
+            args.add(parseCursorTime(after.get(0)));
+            args.add(parseCursorId(after.get(1)));
+        }
+        sql.append(" ORDER BY ph.started_at DESC, ph.id DESC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<PracticeHundredResponseDto> rows = jdbc.query(sql.toString(), rowMapper(), args.toArray());
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            PracticeHundredResponseDto last = rows.get(pageSize - 1);
+            next = KeysetCursor.encode(last.startedAt(), last.id());
+        }
+        return new PracticeHundredPageDto(List.copyOf(rows), next);
+    }
+
+    /**
+     * Writes every session as one JSON line or CSV record. Rows are fetched {@value #EXPORT_FETCH_SIZE} at a
+     * time (pgjdbc only honours the fetch size inside a transaction) and written straight to {@code out}.
+     */
+    public void export(String firebaseId, ExportFormat format, OutputStream out) {
+        String sql = SELECT + " ORDER BY ph.started_at DESC, ph.id DESC";
+        RowMapper<PracticeHundredResponseDto> mapper = rowMapper();
+        exportTx.executeWithoutResult(status -> {
+            try {
+                if (format == ExportFormat.CSV) {
+                    exportCsv(sql, firebaseId, mapper, out);
+                } else {
+                    exportNdjson(sql, firebaseId, mapper, out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void exportNdjson(String sql, String firebaseId, RowMapper<PracticeHundredResponseDto> mapper,
+                              OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            exportJdbc.query(sql, rs -> {
+                try {
+                    writer.writeValue(json, mapper.mapRow(rs, 0));
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, firebaseId);
+        }
+    }
+
+    private void exportCsv(String sql, String firebaseId, RowMapper<PracticeHundredResponseDto> mapper,
+                           OutputStream out) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRecord(csv, (Object[]) CSV_HEADER);
+        exportJdbc.query(sql, rs -> {
+            PracticeHundredResponseDto row = mapper.mapRow(rs, 0);
+            try {
+                writeCsvRecord(csv, row.id(), row.userId(), row.startedAt(), row.completedAt(),
+                        row.putting3ft(), row.putting6ft(), row.putting15ft(), row.chipping10yards(), row.chipping20yards(),
+                        row.pitchingFullpw(), row.pitchingThreequarterpw(), row.pitchingHighlobs(),
+                        row.shortironsStraight(), row.shortironsDraw(), row.shortironsFade(),
+                        row.longironsStraight(), row.longironsDraw(), row.longironsFade(),
+                        row.woodsStraight(), row.woodsDraw(), row.woodsFade(),
+                        row.drivingStraight(), row.drivingDraw(), row.drivingFade(), row.version());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, firebaseId);
+        csv.flush();
+    }
+
+    /** RFC 4180: fields containing a comma, quote or line break are quoted, with quotes doubled. */
+    private static void writeCsvRecord(Writer out, Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (fields[i] == null) {
+                continue;
+            }
+            String value = fields[i].toString();
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private static RowMapper<PracticeHundredResponseDto> rowMapper() {
+        return (rs, rowNum) -> {
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            return new PracticeHundredResponseDto(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("firebase_id"),
+                    rs.getTimestamp("started_at").toLocalDateTime(),
+                    completedAt == null ? null : completedAt.toLocalDateTime(),
+                    rs.getString("putting_3ft"),
+                    rs.getString("putting_6ft"),
+                    rs.getString("putting_15ft"),
+                    rs.getString("chipping_10yards"),
+                    rs.getString("chipping_20yards"),
+                    rs.getString("pitching_fullpw"),
+                    rs.getString("pitching_threequarterpw"),
+                    rs.getString("pitching_highlobs"),
+                    rs.getString("shortirons_straight"),
+                    rs.getString("shortirons_draw"),
+                    rs.getString("shortirons_fade"),
+                    rs.getString("longirons_straight"),
+                    rs.getString("longirons_draw"),
+                    rs.getString("longirons_fade"),
+                    rs.getString("woods_straight"),
+                    rs.getString("woods_draw"),
+                    rs.getString("woods_fade"),
+                    rs.getString("driving_straight"),
+                    rs.getString("driving_draw"),
+                    rs.getString("driving_fade"),
+                    rs.getLong("version"));
+        };
+    }
+
+    private static Timestamp parseCursorTime(String value) {
+        try {
+            return Timestamp.valueOf(LocalDateTime.parse(value));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    private static UUID parseCursorId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
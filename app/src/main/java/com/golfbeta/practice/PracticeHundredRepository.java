@@ -3,6 +3,7 @@ package com.golfbeta.practice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +14,6 @@ public interface PracticeHundredRepository extends JpaRepository<PracticeHundred
     Optional<PracticeHundred> findFirstByUserIdAndCompletedAtIsNullOrderByStartedAtAsc(UUID userId);
     Optional<PracticeHundred> findFirstByUserIdAndCompletedAtIsNotNullOrderByCompletedAtDesc(UUID userId);
     List<PracticeHundred> findByUserIdAndCompletedAtIsNotNull(UUID userId, Pageable pageable);
+    List<PracticeHundred> findAllByUserIdAndIdInOrderByStartedAtAsc(UUID userId, Collection<UUID> ids);
+    List<PracticeHundred> findTop500ByCompletedAtIsNotNullAndIdGreaterThanOrderByIdAsc(UUID after);
 }
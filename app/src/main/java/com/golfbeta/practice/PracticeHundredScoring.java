@@ -0,0 +1,71 @@
+package com.golfbeta.practice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.TreeMap;
+
+/**
+ * Turns a session's raw drill strings into normalised category scores. Every version in
+ * {@code practice.scoring.rules} is compiled at startup; {@code practice.scoring.version} picks the one used
+ * for live analysis (default: the highest). Stored aggregates record the version they were computed with, so
+ * changing it triggers a re-score (see {@link PracticeRescoreJob}).
+ */
+@Component
+class PracticeHundredScoring {
+
+    private final PracticeScoringPlan active;
+
+    @Autowired
+    PracticeHundredScoring(ObjectMapper objectMapper,
+                           @Value("${practice.scoring.rules:classpath:practice/scoring-rules.json}") Resource rules,
+                           @Value("${practice.scoring.version:0}") int version) {
+        this(read(objectMapper, rules), version);
+    }
+
+    PracticeHundredScoring(PracticeScoringRules rules, int version) {
+        TreeMap<Integer, PracticeScoringPlan> compiled = new TreeMap<>();
+        if (rules.versions() != null) {
+            for (PracticeScoringRules.Version rulesVersion : rules.versions()) {
+                if (compiled.put(rulesVersion.version(), PracticeScoringPlan.compile(rulesVersion)) != null) {
+                    throw new IllegalStateException("Duplicate practice scoring rules v" + rulesVersion.version());
+                }
+            }
+        }
+        if (compiled.isEmpty()) {
+            throw new IllegalStateException("No practice scoring rules defined");
+        }
+        // every version is compiled, so a broken historical version fails startup too
+        this.active = compiled.get(version > 0 ? version : compiled.lastKey());
+        if (active == null) {
+            throw new IllegalStateException("practice.scoring.version " + version + " is not defined in the rules");
+        }
+    }
+
+    PracticeHundredAnalysisResponseDto analyse(PracticeHundred practiceHundred) {
+        return active.analyse(practiceHundred);
+    }
+
+    PracticeScoringPlan active() {
+        return active;
+    }
+
+    int activeVersion() {
+        return active.version();
+    }
+
+    private static PracticeScoringRules read(ObjectMapper objectMapper, Resource rules) {
+        try (InputStream in = rules.getInputStream()) {
+            return objectMapper.readValue(in, PracticeScoringRules.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read practice scoring rules from " + rules, e);
+        }
+    }
+}
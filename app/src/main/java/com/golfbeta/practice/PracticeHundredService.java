@@ -1,6 +1,9 @@
 package com.golfbeta.practice;
 
+import com.golfbeta.activity.ActivityService;
 import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredDrillAckDto;
+import com.golfbeta.practice.dto.PracticeHundredDrillPatchDto;
 import com.golfbeta.practice.dto.PracticeHundredPatchDto;
 import com.golfbeta.practice.dto.PracticeHundredResponseDto;
 import com.golfbeta.practice.dto.PracticeHundredStatusDto;
@@ -11,15 +14,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +34,10 @@ public class PracticeHundredService {
 
     private final PracticeHundredRepository repository;
     private final UserProfileRepository userProfiles;
+    private final JdbcTemplate jdbc;
+    private final PracticeHundredScoring scoring;
+    private final PracticeScoreAggregates scoreAggregates;
+    private final ActivityService activity;
 
     public PracticeHundredResponseDto create(String firebaseId) {
         var profile = requireProfile(firebaseId);
@@ -38,16 +49,83 @@ public class PracticeHundredService {
         return toDto(repository.save(practiceHundred), profile.getFirebaseId());
     }
 
+    /** Edits a session; editing a completed one rebuilds its owner's score aggregates in the same transaction. */
+    @Transactional
     public PracticeHundredResponseDto patch(String firebaseId, UUID id, PracticeHundredPatchDto dto) {
         var profile = requireProfile(firebaseId);
         var practiceHundred = repository.findByIdAndUserId(id, profile.getId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Practice hundred not found"));
 
         applyPatch(practiceHundred, dto);
+        touch(practiceHundred);
 
-        return toDto(repository.save(practiceHundred), profile.getFirebaseId());
+        var saved = repository.saveAndFlush(practiceHundred);
+        if (saved.getCompletedAt() != null) {
+            scoreAggregates.record(saved, profile, false);
+        }
+        return toDto(saved, profile.getFirebaseId());
+    }
+
+    /**
+     * Writes only the drills in {@code dto} with one UPDATE guarded by owner (resolved from the firebase id in
+     * the same statement) and, when given, the expected version. Columns are bound in a fixed order so each
+     * distinct drill set reuses one server-side prepared statement. Editing a completed session rebuilds its
+     * owner's score aggregates, as {@link #patch} does.
+     */
+    @Transactional
+    public PracticeHundredDrillAckDto patchDrills(String firebaseId, UUID id, PracticeHundredDrillPatchDto dto) {
+        Map<PracticeHundredDrill, String> changes = new EnumMap<>(PracticeHundredDrill.class);
+        dto.drills().forEach((key, value) -> changes.put(PracticeHundredDrill.fromKey(key)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown drill: " + key)), value));
+
+        StringBuilder sql = new StringBuilder("UPDATE golfr_practice_hundred AS ph SET ");
+        List<Object> args = new ArrayList<>(changes.size() + 3);
+        changes.forEach((drill, value) -> {
+            sql.append(drill.column()).append(" = ?, ");
+            args.add(value);
+        });
+        sql.append("""
+                client_updated_at = GREATEST(ph.client_updated_at, ?),
+                version = ph.version + 1
+                FROM user_profile AS up
+                WHERE ph.id = ? AND ph.user_id = up.id AND up.firebase_id = ?""");
+        args.add(clientClockNow());
+        args.add(id);
+        args.add(firebaseId);
+        if (dto.expectedVersion() != null) {
+            sql.append(" AND ph.version = ?");
+            args.add(dto.expectedVersion());
+        }
+        sql.append(" RETURNING ph.version, ph.completed_at IS NOT NULL AS completed");
+
+        List<Map<String, Object>> updated = jdbc.queryForList(sql.toString(), args.toArray());
+        if (updated.isEmpty()) {
+            throw drillPatchRejected(firebaseId, id, dto.expectedVersion());
+        }
+        long version = ((Number) updated.get(0).get("version")).longValue();
+        if (Boolean.TRUE.equals(updated.get(0).get("completed"))) {
+            var profile = requireProfile(firebaseId);
+            repository.findByIdAndUserId(id, profile.getId())
+                    .ifPresent(session -> scoreAggregates.record(session, profile, false));
+        }
+        return new PracticeHundredDrillAckDto(id, version);
+    }
+
+    private ResponseStatusException drillPatchRejected(String firebaseId, UUID id, Long expectedVersion) {
+        List<Long> current = jdbc.queryForList("""
+                SELECT ph.version
+                FROM golfr_practice_hundred AS ph
+                JOIN user_profile AS up ON up.id = ph.user_id
+                WHERE ph.id = ? AND up.firebase_id = ?
+                """, Long.class, id, firebaseId);
+        if (current.isEmpty()) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, "Practice hundred not found");
+        }
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                "Practice hundred is at version " + current.get(0) + ", expected " + expectedVersion);
     }
 
+    @Transactional
     public PracticeHundredResponseDto complete(String firebaseId, UUID id, PracticeHundredPatchDto dto) {
         var profile = requireProfile(firebaseId);
         var practiceHundred = repository.findByIdAndUserId(id, profile.getId())
@@ -57,73 +135,46 @@ public class PracticeHundredService {
             applyPatch(practiceHundred, dto);
         }
 
+        boolean newlyCompleted = practiceHundred.getCompletedAt() == null;
         practiceHundred.setCompletedAt(nowTruncatedToSeconds());
+        touch(practiceHundred);
 
-        return toDto(repository.save(practiceHundred), profile.getFirebaseId());
+        var saved = repository.saveAndFlush(practiceHundred);
+        recordCompletion(saved, profile, newlyCompleted);
+        return toDto(saved, profile.getFirebaseId());
+    }
+
+    /** Updates the owner's score aggregates and, for a first completion, posts it to their friends' feeds. */
+    void recordCompletion(PracticeHundred session, UserProfile owner, boolean newlyCompleted) {
+        var recorded = scoreAggregates.record(session, owner, newlyCompleted);
+        if (newlyCompleted) {
+            activity.practiceHundredCompleted(owner, session.getId(),
+                    PracticeScoreCategory.OVERALL.score(recorded.analysis()),
+                    recorded.personalBest(), recorded.sessionsCompleted());
+        }
     }
 
     public PracticeHundredStatusDto latestCompleted(String firebaseId) {
-        var profile = requireProfile(firebaseId);
+        return latestCompleted(requireProfile(firebaseId));
+    }
+
+    public PracticeHundredStatusDto latestCompleted(UserProfile profile) {
         return repository.findFirstByUserIdAndCompletedAtIsNotNullOrderByCompletedAtDesc(profile.getId())
                 .map(ph -> new PracticeHundredStatusDto(ph.getId(), ph.getCompletedAt()))
                 .orElse(new PracticeHundredStatusDto(null, null));
     }
 
     public PracticeHundredAnalysisResponseDto analysis(String firebaseId) {
-        var profile = requireProfile(firebaseId);
-        var practiceHundred = repository.findFirstByUserIdAndCompletedAtIsNotNullOrderByCompletedAtDesc(profile.getId())
+        return findAnalysis(requireProfile(firebaseId))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No completed practice hundred found"));
+    }
 
-        var drivingTotal = parseSingleScore(practiceHundred.getDrivingStraight())
-                + parseSingleScore(practiceHundred.getDrivingDraw())
-                + parseSingleScore(practiceHundred.getDrivingFade());
-        var woodsTotal = parseSingleScore(practiceHundred.getWoodsStraight())
-                + parseSingleScore(practiceHundred.getWoodsDraw())
-                + parseSingleScore(practiceHundred.getWoodsFade());
-        var longIronsTotal = parseSingleScore(practiceHundred.getLongironsStraight())
-                + parseSingleScore(practiceHundred.getLongironsDraw())
-                + parseSingleScore(practiceHundred.getLongironsFade());
-        var shortIronsTotal = parseSingleScore(practiceHundred.getShortironsStraight())
-                + parseSingleScore(practiceHundred.getShortironsDraw())
-                + parseSingleScore(practiceHundred.getShortironsFade());
-
-        var threeQuarterPitch = parseCounterScores(practiceHundred.getPitchingThreequarterpw());
-        var fullPitch = parseCounterScores(practiceHundred.getPitchingFullpw());
-        var highLobPitch = parseCounterScores(practiceHundred.getPitchingHighlobs());
-
-        int pitchingPoints =
-                (3 * getCounterValue(threeQuarterPitch, "inside25ft")) +
-                (5 * getCounterValue(threeQuarterPitch, "inside10ft")) +
-                (3 * getCounterValue(fullPitch, "inside25ft")) +
-                (4 * getCounterValue(fullPitch, "inside10ft")) +
-                (3 * getCounterValue(highLobPitch, "inside25ft")) +
-                (4 * getCounterValue(highLobPitch, "inside10ft"));
-
-        var chippingTen = parseCounterScores(practiceHundred.getChipping10yards());
-        var chippingTwenty = parseCounterScores(practiceHundred.getChipping20yards());
-
-        int chippingPoints =
-                (4 * getCounterValue(chippingTen, "inside3ft")) +
-                (5 * getCounterValue(chippingTen, "holed")) +
-                (3 * getCounterValue(chippingTwenty, "inside3ft")) +
-                (4 * getCounterValue(chippingTwenty, "holed"));
-
-        int puttingPoints =
-                (3 * parseSingleScore(practiceHundred.getPutting3ft())) +
-                (2 * parseSingleScore(practiceHundred.getPutting6ft())) +
-                (parseSingleScore(practiceHundred.getPutting15ft()));
-
-        return new PracticeHundredAnalysisResponseDto(
-                normalise(drivingTotal, 12),
-                normalise(woodsTotal, 12),
-                normalise(longIronsTotal, 12),
-                normalise(shortIronsTotal, 12),
-                normalise(pitchingPoints, 52),
-                normalise(chippingPoints, 72),
-                normalise(puttingPoints, 48)
-        );
+    public Optional<PracticeHundredAnalysisResponseDto> findAnalysis(UserProfile profile) {
+        return repository.findFirstByUserIdAndCompletedAtIsNotNullOrderByCompletedAtDesc(profile.getId())
+                .map(scoring::analyse);
     }
 
+    @Transactional(readOnly = true)
     public List<PracticeHundredResponseDto> list(String firebaseId) {
         var profile = requireProfile(firebaseId);
         return repository.findAllByUserIdOrderByStartedAtDesc(profile.getId())
@@ -132,6 +183,7 @@ public class PracticeHundredService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<PracticeHundredResponseDto> history(String firebaseId, int limit) {
         var profile = requireProfile(firebaseId);
         int sanitizedLimit = limit <= 0 ? 20 : Math.min(limit, 50);
@@ -142,6 +194,7 @@ public class PracticeHundredService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public PracticeHundredResponseDto findById(String firebaseId, UUID id) {
         var profile = requireProfile(firebaseId);
         return repository.findByIdAndUserId(id, profile.getId())
@@ -150,7 +203,10 @@ public class PracticeHundredService {
     }
 
     public PracticeHundredResponseDto findIncomplete(String firebaseId) {
-        var profile = requireProfile(firebaseId);
+        return findIncomplete(requireProfile(firebaseId));
+    }
+
+    public PracticeHundredResponseDto findIncomplete(UserProfile profile) {
         return repository.findFirstByUserIdAndCompletedAtIsNullOrderByStartedAtAsc(profile.getId())
                 .map(ph -> toDto(ph, profile.getFirebaseId()))
                 .orElse(null);
@@ -191,13 +247,26 @@ public class PracticeHundredService {
         if (dto.drivingFade() != null) practiceHundred.setDrivingFade(dto.drivingFade());
     }
 
-    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+");
+    /**
+     * Stamps an online write into {@code client_updated_at} so an offline queue recorded before it cannot
+     * overwrite it on sync. Never moves the stamp backwards.
+     */
+    private static void touch(PracticeHundred practiceHundred) {
+        LocalDateTime now = clientClockNow();
+        LocalDateTime previous = practiceHundred.getClientUpdatedAt();
+        practiceHundred.setClientUpdatedAt(previous != null && previous.isAfter(now) ? previous : now);
+    }
+
+    /** {@code client_updated_at} is kept in UTC, like the clamped client times the sync writes. */
+    static LocalDateTime clientClockNow() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
 
     private LocalDateTime nowTruncatedToSeconds() {
         return LocalDateTime.now().withNano(0);
     }
 
-    private PracticeHundredResponseDto toDto(PracticeHundred practiceHundred, String firebaseId) {
+    PracticeHundredResponseDto toDto(PracticeHundred practiceHundred, String firebaseId) {
         return new PracticeHundredResponseDto(
                 practiceHundred.getId(),
                 firebaseId,
@@ -222,7 +291,8 @@ public class PracticeHundredService {
                 practiceHundred.getWoodsFade(),
                 practiceHundred.getDrivingStraight(),
                 practiceHundred.getDrivingDraw(),
-                practiceHundred.getDrivingFade()
+                practiceHundred.getDrivingFade(),
+                practiceHundred.getVersion()
         );
     }
 
@@ -230,62 +300,4 @@ public class PracticeHundredService {
         return userProfiles.findByFirebaseId(firebaseId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile not found"));
     }
-
-    private int parseSingleScore(String value) {
-        if (value == null || value.isBlank()) {
-            return 0;
-        }
-        var matcher = NUMBER_PATTERN.matcher(value);
-        if (matcher.find()) {
-            try {
-                return Integer.parseInt(matcher.group());
-            } catch (NumberFormatException ignored) {
-                return 0;
-            }
-        }
-        return 0;
-    }
-
-    private Map<String, Integer> parseCounterScores(String value) {
-        if (value == null || value.isBlank()) {
-            return Map.of();
-        }
-        Map<String, Integer> scores = new HashMap<>();
-        for (String part : value.split(",")) {
-            var trimmed = part.trim();
-            if (trimmed.isEmpty()) {
-                continue;
-            }
-            int delimiterIdx = trimmed.indexOf(':');
-            if (delimiterIdx <= 0) {
-                continue;
-            }
-            var numberPart = trimmed.substring(0, delimiterIdx).trim();
-            var key = trimmed.substring(delimiterIdx + 1).trim().toLowerCase();
-            if (key.isEmpty()) {
-                continue;
-            }
-            var parsed = parseSingleScore(numberPart);
-            scores.put(key, parsed);
-        }
-        return scores;
-    }
-
-    private int getCounterValue(Map<String, Integer> counters, String key) {
-        return counters.getOrDefault(key.toLowerCase(), 0);
-    }
-
-    private double normalise(int value, int maximum) {
-        if (maximum <= 0) {
-            return 0.0;
-        }
-        var ratio = (double) value / maximum;
-        if (ratio < 0.0) {
-            return 0.0;
-        }
-        if (ratio > 1.0) {
-            return 1.0;
-        }
-        return ratio;
-    }
 }
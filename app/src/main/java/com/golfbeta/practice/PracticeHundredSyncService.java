@@ -0,0 +1,201 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncOpDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncRequestDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncResponseDto;
+import com.golfbeta.user.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Replays a queue of offline practice-hundred calls in one transaction.
+ *
+ * <p>Ops are ordered by client time, as an instant (ties keep request order), and folded per session: the
+ * latest value of each drill wins (a null clears it, as on {@code /drills}) and the first completion wins. Each
+ * session then costs at most one batched INSERT and one batched UPDATE. Conflicts with server state resolve the same way on every replay:
+ * <ul>
+ *   <li>creates are {@code ON CONFLICT DO NOTHING}, so a replayed or already-synced create is a no-op;</li>
+ *   <li>completed sessions are immutable, whether completed online or by an earlier sync;</li>
+ *   <li>a session's changes apply only if they are newer than its {@code client_updated_at}, so a stale queue
+ *       from another device, or the same batch sent twice, changes nothing.</li>
+ * </ul>
+ * Sessions completed by the batch are folded into the owner's leaderboard scores.
+ */
+@Service
+@RequiredArgsConstructor
+public class PracticeHundredSyncService {
+
+    private static final String INSERT = """
+            INSERT INTO golfr_practice_hundred (id, user_id, started_at)
+            VALUES (?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String UPDATE = buildUpdate();
+
+    private final JdbcTemplate jdbc;
+    private final PracticeHundredRepository repository;
+    private final PracticeHundredService practiceHundredService;
+    private final UserProfileRepository userProfiles;
+
+    @Transactional
+    public PracticeHundredSyncResponseDto sync(String firebaseId, PracticeHundredSyncRequestDto request) {
+        var profile = userProfiles.findByFirebaseId(firebaseId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile not found"));
+
+        Map<UUID, Session> sessions = fold(request.ops(), Instant.now());
+
+        List<Session> creates = sessions.values().stream().filter(s -> s.startedAt != null).toList();
+        if (!creates.isEmpty()) {
+            jdbc.batchUpdate(INSERT, creates, creates.size(), (ps, session) -> {
+                ps.setObject(1, session.id);
+                ps.setObject(2, profile.getId());
+                ps.setObject(3, session.startedAt);
+            });
+        }
+
+        Set<UUID> completedNow = new HashSet<>();
+        List<Session> updates = sessions.values().stream().filter(Session::hasChanges).toList();
+        if (!updates.isEmpty()) {
+            int[][] counts = jdbc.batchUpdate(UPDATE, updates, updates.size(),
+                    (ps, session) -> bindUpdate(ps, session, profile.getId()));
+            int i = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    Session session = updates.get(i++);
+                    if (count > 0 && session.completedAt != null) {
+                        completedNow.add(session.id);
+                    }
+                }
+            }
+        }
+
+        List<PracticeHundred> rows = repository
+                .findAllByUserIdAndIdInOrderByStartedAtAsc(profile.getId(), sessions.keySet());
+        rows.stream()
+                .filter(ph -> completedNow.contains(ph.getId()))
+                .forEach(ph -> practiceHundredService.recordCompletion(ph, profile, true));
+        List<PracticeHundredResponseDto> state = rows.stream()
+                .map(ph -> practiceHundredService.toDto(ph, profile.getFirebaseId()))
+                .toList();
+        Set<UUID> owned = state.stream().map(PracticeHundredResponseDto::id).collect(Collectors.toSet());
+        List<UUID> rejected = sessions.keySet().stream().filter(id -> !owned.contains(id)).toList();
+        return new PracticeHundredSyncResponseDto(state, rejected);
+    }
+
+    /**
+     * Client times are compared as instants and clamped to {@code now}, so neither the device's zone nor a clock
+     * running ahead decides a conflict. Start and completion times come from the server clock.
+     */
+    static Map<UUID, Session> fold(List<PracticeHundredSyncOpDto> ops, Instant now) {
+        LocalDateTime stamp = LocalDateTime.ofInstant(now, ZoneId.systemDefault()).withNano(0);
+        List<PracticeHundredSyncOpDto> ordered = new ArrayList<>(ops);
+        ordered.sort(Comparator.comparing(op -> op.at().toInstant())); // stable: ties keep request order
+
+        Map<UUID, Session> sessions = new LinkedHashMap<>();
+        for (PracticeHundredSyncOpDto op : ordered) {
+            Session session = sessions.computeIfAbsent(op.id(), Session::new);
+            if (op.op() == PracticeHundredSyncOpDto.Op.CREATE) {
+                if (session.startedAt == null) {
+                    session.startedAt = stamp;
+                }
+                continue;
+            }
+            if (session.completedAt != null) {
+                continue;
+            }
+            LocalDateTime at = clientTime(op.at(), now);
+            if (op.drills() != null) {
+                op.drills().forEach((key, value) -> {
+                    PracticeHundredDrill drill = PracticeHundredDrill.fromKey(key)
+                            .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown drill: " + key));
+                    session.drills[drill.ordinal()] = value;
+                    session.touched[drill.ordinal()] = true;
+                    session.changedAt = at;
+                });
+            }
+            if (op.op() == PracticeHundredSyncOpDto.Op.COMPLETE) {
+                session.completedAt = stamp;
+                session.changedAt = at;
+            }
+        }
+        return sessions;
+    }
+
+    /** The client time as UTC, never later than {@code now}; the form {@code client_updated_at} is kept in. */
+    private static LocalDateTime clientTime(OffsetDateTime at, Instant now) {
+        Instant instant = at.toInstant();
+        return LocalDateTime.ofInstant(instant.isAfter(now) ? now : instant, ZoneOffset.UTC);
+    }
+
+    private static void bindUpdate(PreparedStatement ps, Session session, UUID userId) throws SQLException {
+        int i = 1;
+        for (int d = 0; d < session.drills.length; d++) {
+            ps.setBoolean(i++, session.touched[d]);
+            ps.setString(i++, session.drills[d]);
+        }
+        if (session.completedAt == null) {
+            ps.setNull(i++, Types.TIMESTAMP);
+        } else {
+            ps.setObject(i++, session.completedAt);
+        }
+        ps.setObject(i++, session.changedAt);
+        ps.setObject(i++, session.id);
+        ps.setObject(i++, userId);
+        ps.setObject(i, session.changedAt);
+    }
+
+    private static String buildUpdate() {
+        StringBuilder sql = new StringBuilder("UPDATE golfr_practice_hundred SET ");
+        for (PracticeHundredDrill drill : PracticeHundredDrill.values()) {
+            sql.append(drill.column()).append(" = CASE WHEN ? THEN ? ELSE ").append(drill.column()).append(" END, ");
+        }
+        return sql.append("""
+                completed_at = ?,
+                client_updated_at = ?,
+                version = version + 1
+                WHERE id = ? AND user_id = ? AND completed_at IS NULL
+                  AND (client_updated_at IS NULL OR client_updated_at < ?)
+                """).toString();
+    }
+
+    static final class Session {
+        final UUID id;
+        final String[] drills = new String[PracticeHundredDrill.values().length];
+        final boolean[] touched = new boolean[PracticeHundredDrill.values().length];
+        LocalDateTime startedAt;
+        LocalDateTime completedAt;
+        LocalDateTime changedAt;
+
+        Session(UUID id) {
+            this.id = id;
+        }
+
+        boolean hasChanges() {
+            return changedAt != null;
+        }
+    }
+}
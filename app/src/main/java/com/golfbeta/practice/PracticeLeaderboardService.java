@@ -0,0 +1,138 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeLeaderboardDto;
+import com.golfbeta.practice.dto.PracticeLeaderboardEntryDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ranks the caller and their {@code FRIENDS} by one category of {@code practice_hundred_score}, either each
+ * player's latest session or their best. One indexed query over the friend set; results are cached per caller
+ * for a short TTL, and a caller's own entries are dropped when they complete a session.
+ */
+@Service
+public class PracticeLeaderboardService {
+
+    public enum Basis { LATEST, BEST }
+
+    private static final int MAX_CACHED = 10_000;
+
+    private final JdbcTemplate jdbc;
+    private final Duration ttl;
+    private final Map<Key, Cached> cache = new ConcurrentHashMap<>();
+
+    public PracticeLeaderboardService(JdbcTemplate jdbc,
+                                      @Value("${practice.leaderboard.cache-ttl:PT30S}") Duration ttl) {
+        this.jdbc = jdbc;
+        this.ttl = ttl;
+    }
+
+    public Duration cacheTtl() {
+        return ttl;
+    }
+
+    @Transactional(readOnly = true)
+    public PracticeLeaderboardDto leaderboard(String firebaseId, String basisKey, String categoryKey) {
+        Basis basis = parseBasis(basisKey);
+        PracticeScoreCategory category = PracticeScoreCategory.fromKey(categoryKey)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown category: " + categoryKey));
+
+        Key key = new Key(firebaseId, basis, category);
+        Instant now = Instant.now();
+        Cached cached = cache.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.leaderboard();
+        }
+        PracticeLeaderboardDto fresh = load(firebaseId, basis, category, now);
+        if (cache.size() >= MAX_CACHED) {
+            cache.values().removeIf(c -> !c.expiresAt().isAfter(now));
+        }
+        if (cache.size() < MAX_CACHED) {
+            cache.put(key, new Cached(fresh, now.plus(ttl)));
+        }
+        return fresh;
+    }
+
+    /** Drops the caller's cached boards once the surrounding transaction commits. Friends converge within the TTL. */
+    public void invalidate(String firebaseId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.keySet().removeIf(k -> k.firebaseId().equals(firebaseId));
+                }
+            });
+        } else {
+            cache.keySet().removeIf(k -> k.firebaseId().equals(firebaseId));
+        }
+    }
+
+    private PracticeLeaderboardDto load(String firebaseId, Basis basis, PracticeScoreCategory category, Instant now) {
+        // Column names come from enums, never from the request
+        String column = basis.name().toLowerCase(Locale.ROOT) + "_" + category.key();
+        List<PracticeLeaderboardEntryDto> entries = jdbc.query("""
+                WITH me AS (
+                    SELECT id FROM user_profile WHERE firebase_id = ?
+                ),
+                members AS (
+                    SELECT id FROM me
+                    UNION
+                    SELECT CASE WHEN f.user_id_a = me.id THEN f.user_id_b ELSE f.user_id_a END
+                    FROM friends f, me
+                    WHERE (f.user_id_a = me.id OR f.user_id_b = me.id)
+                      AND f.status = 'FRIENDS'
+                )
+                SELECT RANK() OVER (ORDER BY s.%1$s DESC) AS rank,
+                       up.firebase_id, up.name, up.username,
+                       s.%1$s AS score, s.sessions_completed, s.latest_completed_at,
+                       up.id = (SELECT id FROM me) AS is_me
+                FROM members m
+                JOIN practice_hundred_score s ON s.user_id = m.id
+                JOIN user_profile up ON up.id = m.id
+                ORDER BY s.%1$s DESC, s.latest_completed_at ASC, up.firebase_id
+                """.formatted(column),
+                (rs, i) -> {
+                    Timestamp completedAt = rs.getTimestamp("latest_completed_at");
+                    return new PracticeLeaderboardEntryDto(
+                            rs.getInt("rank"),
+                            rs.getString("firebase_id"),
+                            rs.getString("name"),
+                            rs.getString("username"),
+                            rs.getDouble("score"),
+                            rs.getInt("sessions_completed"),
+                            completedAt == null ? null : completedAt.toLocalDateTime(),
+                            rs.getBoolean("is_me"));
+                },
+                firebaseId);
+        return new PracticeLeaderboardDto(basis.name().toLowerCase(Locale.ROOT), category.key(), now, entries);
+    }
+
+    private static Basis parseBasis(String key) {
+        for (Basis basis : Basis.values()) {
+            if (basis.name().equalsIgnoreCase(key)) {
+                return basis;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown basis: " + key);
+    }
+
+    private record Key(String firebaseId, Basis basis, PracticeScoreCategory category) {
+    }
+
+    private record Cached(PracticeLeaderboardDto leaderboard, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,358 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredPercentilesDto;
+import com.golfbeta.user.UserProfile;
+import com.golfbeta.user.UserProfileRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Percentile ranks of practice-hundred category scores against all completed sessions, or against sessions
+ * by golfers with the same skill level or handicap band.
+ *
+ * <p>Each instance serves lookups from an in-memory view: the last sketches loaded from
+ * {@code practice_score_sketch} plus the sessions it has completed since. Completions are also kept as pending
+ * deltas that {@link #flush()} merges into the stored sketches (element-wise addition in SQL, so instances
+ * never overwrite each other) before reloading everyone's contributions, and once more on shutdown. Sketches
+ * are kept per scoring-rules version, so a rules change starts a fresh population seeded from all completed
+ * sessions. The seed covers sessions completed before a recorded boundary and deltas are merged only from
+ * that boundary on, so a completion racing the seed is counted exactly once.
+ */
+@Service
+public class PracticePercentileService {
+
+    public static final String ALL = "all";
+
+    private static final Logger log = LoggerFactory.getLogger(PracticePercentileService.class);
+
+    /** How far the seed boundary trails the seed itself, so completions stamped before it have committed. */
+    private static final Duration SEED_SETTLE = Duration.ofSeconds(30);
+
+    private static final String MERGE = """
+            INSERT INTO practice_score_sketch AS s (scoring_version, category, bucket, counts, total)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (scoring_version, category, bucket) DO UPDATE SET
+                counts = ARRAY(SELECT t.a + t.b
+                               FROM unnest(s.counts, EXCLUDED.counts) WITH ORDINALITY AS t(a, b, i)
+                               ORDER BY t.i),
+                total = s.total + EXCLUDED.total,
+                updated_at = now()
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final PracticeHundredRepository repository;
+    private final UserProfileRepository userProfiles;
+    private final PracticeHundredScoring scoring;
+    private final long minSampleSize;
+
+    private final List<Completion> pending = new ArrayList<>();
+    private final Map<SketchKey, ScoreHistogramSketch> pendingSketches = new HashMap<>();
+    private Map<SketchKey, ScoreHistogramSketch> stored = Map.of();
+    private volatile Map<SketchKey, ScoreHistogramSketch> view = Map.of();
+
+    public PracticePercentileService(JdbcTemplate jdbc,
+                                     PlatformTransactionManager transactionManager,
+                                     PracticeHundredRepository repository,
+                                     UserProfileRepository userProfiles,
+                                     PracticeHundredScoring scoring,
+                                     @Value("${practice.percentiles.min-sample-size:30}") long minSampleSize) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.repository = repository;
+        this.userProfiles = userProfiles;
+        this.scoring = scoring;
+        this.minSampleSize = minSampleSize;
+    }
+
+    /** Caller's latest completed session against {@code by} ("all", "skill_level" or "handicap"). */
+    public PracticeHundredPercentilesDto percentiles(String firebaseId, String by) {
+        UserProfile profile = userProfiles.findByFirebaseId(firebaseId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Profile not found"));
+        String bucket = switch (by == null ? ALL : by.toLowerCase(Locale.ROOT)) {
+            case ALL -> ALL;
+            case "skill_level" -> skillBucket(profile.getSkillLevel());
+            case "handicap" -> handicapBucket(profile.getGolfHandicap());
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown population: " + by);
+        };
+        PracticeHundredAnalysisResponseDto analysis = repository
+                .findFirstByUserIdAndCompletedAtIsNotNullOrderByCompletedAtDesc(profile.getId())
+                .map(scoring::analyse)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No completed practice hundred found"));
+
+        Map<SketchKey, ScoreHistogramSketch> current = view;
+        if (bucket == null || sampleSize(current, bucket) < minSampleSize) {
+            bucket = ALL;
+        }
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (PracticeScoreCategory category : PracticeScoreCategory.values()) {
+            Double percentile = current.getOrDefault(new SketchKey(category, bucket), ScoreHistogramSketch.EMPTY)
+                    .percentile(category.score(analysis));
+            percentiles.put(category.key(), percentile == null ? null : Math.round(percentile * 10) / 10.0);
+        }
+        return new PracticeHundredPercentilesDto(bucket, sampleSize(current, bucket), percentiles);
+    }
+
+    /** Adds a newly completed session to the population once the surrounding transaction commits. */
+    public void record(PracticeHundredAnalysisResponseDto analysis, UserProfile profile, LocalDateTime completedAt) {
+        Completion completion = new Completion(completedAt, analysis,
+                buckets(profile.getSkillLevel(), profile.getGolfHandicap()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(completion);
+                }
+            });
+        } else {
+            add(completion);
+        }
+    }
+
+    /**
+     * Merges pending completions from the seed boundary on and reloads the stored sketches. Until the active
+     * version has been seeded, completions stay pending.
+     */
+    @Scheduled(fixedDelayString = "${practice.percentiles.flush-interval:PT1M}", initialDelayString = "PT1M")
+    void flush() {
+        List<Completion> taken;
+        synchronized (this) {
+            taken = List.copyOf(pending);
+            pending.clear();
+            pendingSketches.clear();
+        }
+        List<Completion> kept = List.of();
+        Map<SketchKey, ScoreHistogramSketch> loaded;
+        try {
+            LocalDateTime seededBefore = seededBefore();
+            if (seededBefore == null) {
+                kept = taken;
+            } else {
+                Map<SketchKey, ScoreHistogramSketch> deltas = new HashMap<>();
+                taken.stream()
+                        .filter(completion -> !completion.completedAt().isBefore(seededBefore))
+                        .forEach(completion -> addTo(deltas, completion.analysis(), completion.buckets()));
+                if (!deltas.isEmpty()) {
+                    merge(deltas);
+                }
+            }
+            loaded = load();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush practice score sketches; keeping {} completions for the next run: {}",
+                    taken.size(), ex.getMessage());
+            synchronized (this) {
+                taken.forEach(this::addPending);
+                rebuildView();
+            }
+            return;
+        }
+        synchronized (this) {
+            stored = loaded;
+            kept.forEach(this::addPending);
+            rebuildView();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        synchronized (this) {
+            if (!pending.isEmpty()) {
+                log.warn("Dropping {} practice completions not merged into the percentile sketches",
+                        pending.size());
+            }
+        }
+    }
+
+    /** Seeds the active scoring version's sketches from existing sessions if it has none yet, then loads them. */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialise() {
+        tx.executeWithoutResult(status -> {
+            Boolean locked = jdbc.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext('practice_score_sketch'))",
+                    Boolean.class);
+            if (Boolean.TRUE.equals(locked) && seededBefore() == null) {
+                seed();
+            }
+        });
+        flush();
+    }
+
+    private LocalDateTime seededBefore() {
+        return jdbc.query("SELECT seeded_before FROM practice_score_sketch_seed WHERE scoring_version = ?",
+                rs -> rs.next() ? rs.getObject(1, LocalDateTime.class) : null, scoring.activeVersion());
+    }
+
+    /** Counts every session completed before the boundary and records the boundary, in one transaction. */
+    private void seed() {
+        LocalDateTime boundary = LocalDateTime.now().minus(SEED_SETTLE);
+        Map<SketchKey, ScoreHistogramSketch> sketches = new HashMap<>();
+        long sessions = 0;
+        UUID after = new UUID(0, 0);
+        List<PracticeHundred> page;
+        do {
+            page = repository.findTop500ByCompletedAtIsNotNullAndIdGreaterThanOrderByIdAsc(after);
+            Set<UUID> userIds = page.stream().map(PracticeHundred::getUserId).collect(Collectors.toSet());
+            Map<UUID, UserProfile> owners = userProfiles.findAllById(userIds).stream()
+                    .collect(Collectors.toMap(UserProfile::getId, Function.identity()));
+            for (PracticeHundred session : page) {
+                UserProfile owner = owners.get(session.getUserId());
+                if (owner != null && session.getCompletedAt().isBefore(boundary)) {
+                    addTo(sketches, scoring.analyse(session), buckets(owner.getSkillLevel(), owner.getGolfHandicap()));
+                    sessions++;
+                }
+                after = session.getId();
+            }
+        } while (!page.isEmpty());
+        if (!sketches.isEmpty()) {
+            merge(sketches);
+        }
+        jdbc.update("INSERT INTO practice_score_sketch_seed (scoring_version, seeded_before) VALUES (?, ?)",
+                scoring.activeVersion(), boundary);
+        log.info("Seeded practice score sketches from {} sessions completed before {}", sessions, boundary);
+    }
+
+    private void merge(Map<SketchKey, ScoreHistogramSketch> deltas) {
+        List<Map.Entry<SketchKey, ScoreHistogramSketch>> rows = new ArrayList<>(deltas.entrySet());
+        jdbc.batchUpdate(MERGE, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, scoring.activeVersion());
+            ps.setString(2, row.getKey().category().key());
+            ps.setString(3, row.getKey().bucket());
+            long[] counts = row.getValue().counts();
+            Long[] boxed = new Long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                boxed[i] = counts[i];
+            }
+            ps.setArray(4, ps.getConnection().createArrayOf("bigint", boxed));
+            ps.setLong(5, row.getValue().total());
+        });
+    }
+
+    private Map<SketchKey, ScoreHistogramSketch> load() {
+        Map<SketchKey, ScoreHistogramSketch> loaded = new HashMap<>();
+        jdbc.query("SELECT category, bucket, counts FROM practice_score_sketch WHERE scoring_version = ?", rs -> {
+            PracticeScoreCategory category = PracticeScoreCategory.fromKey(rs.getString("category")).orElse(null);
+            Object[] values = (Object[]) rs.getArray("counts").getArray();
+            if (category == null || values.length != ScoreHistogramSketch.BINS) {
+                return;
+            }
+            long[] counts = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                counts[i] = ((Number) values[i]).longValue();
+            }
+            loaded.put(new SketchKey(category, rs.getString("bucket")), ScoreHistogramSketch.of(counts));
+        }, scoring.activeVersion());
+        return Map.copyOf(loaded);
+    }
+
+    private synchronized void add(Completion completion) {
+        addPending(completion);
+        rebuildView();
+    }
+
+    private void addPending(Completion completion) {
+        pending.add(completion);
+        addTo(pendingSketches, completion.analysis(), completion.buckets());
+    }
+
+    private void rebuildView() {
+        Map<SketchKey, ScoreHistogramSketch> next = new HashMap<>(stored);
+        pendingSketches.forEach((key, delta) -> next.merge(key, delta, ScoreHistogramSketch::merge));
+        view = Map.copyOf(next);
+    }
+
+    private static void addTo(Map<SketchKey, ScoreHistogramSketch> sketches,
+                              PracticeHundredAnalysisResponseDto analysis,
+                              List<String> buckets) {
+        for (String bucket : buckets) {
+            for (PracticeScoreCategory category : PracticeScoreCategory.values()) {
+                sketches.merge(new SketchKey(category, bucket),
+                        ScoreHistogramSketch.EMPTY.plus(category.score(analysis)), ScoreHistogramSketch::merge);
+            }
+        }
+    }
+
+    private static long sampleSize(Map<SketchKey, ScoreHistogramSketch> sketches, String bucket) {
+        return sketches.getOrDefault(new SketchKey(PracticeScoreCategory.OVERALL, bucket), ScoreHistogramSketch.EMPTY)
+                .total();
+    }
+
+    static List<String> buckets(String skillLevel, Double handicap) {
+        List<String> buckets = new ArrayList<>(3);
+        buckets.add(ALL);
+        String skill = skillBucket(skillLevel);
+        if (skill != null) {
+            buckets.add(skill);
+        }
+        String band = handicapBucket(handicap);
+        if (band != null) {
+            buckets.add(band);
+        }
+        return buckets;
+    }
+
+    static String skillBucket(String skillLevel) {
+        if (skillLevel == null || skillLevel.isBlank()) {
+            return null;
+        }
+        return "skill:" + skillLevel.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String handicapBucket(Double handicap) {
+        if (handicap == null || handicap.isNaN()) {
+            return null;
+        }
+        String band;
+        if (handicap < 0) {
+            band = "plus";
+        } else if (handicap < 5) {
+            band = "0-4";
+        } else if (handicap < 10) {
+            band = "5-9";
+        } else if (handicap < 15) {
+            band = "10-14";
+        } else if (handicap < 20) {
+            band = "15-19";
+        } else if (handicap < 28) {
+            band = "20-27";
+        } else {
+            band = "28+";
+        }
+        return "handicap:" + band;
+    }
+
+    private record SketchKey(PracticeScoreCategory category, String bucket) {
+    }
+
+    private record Completion(LocalDateTime completedAt, PracticeHundredAnalysisResponseDto analysis,
+                              List<String> buckets) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.golfbeta.practice;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rebuilds {@code practice_hundred_score} rows that are missing, were computed with a scoring version other
+ * than the active one, or count a different number of sessions than are completed. Rebuilds replace the row, so
+ * runs on several instances at once only repeat work. Users are paged in id order and rebuilt on a fixed pool, one transaction per user, so
+ * a bulk re-score after a rules change uses {@code practice.scoring.rescore-parallelism} connections at most.
+ * Runs at startup and on demand from the admin API; only one run per instance at a time.
+ */
+@Component
+public class PracticeRescoreJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PracticeRescoreJob.class);
+    private static final int PAGE_SIZE = 500;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final PracticeScoreAggregates aggregates;
+    private final PracticeHundredScoring scoring;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong rescored = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public PracticeRescoreJob(JdbcTemplate jdbc,
+                              PlatformTransactionManager transactionManager,
+                              PracticeScoreAggregates aggregates,
+                              PracticeHundredScoring scoring,
+                              @Value("${practice.scoring.rescore-parallelism:4}") int parallelism) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.aggregates = aggregates;
+        this.scoring = scoring;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    /** Starts a run in the background unless one is already in progress. */
+    @Async
+    public void trigger() {
+        run();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Status status() {
+        return new Status(scoring.activeVersion(), running.get(), rescored.get(), failed.get(), startedAt, finishedAt);
+    }
+
+    void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        startedAt = Instant.now();
+        finishedAt = null;
+        rescored.set(0);
+        failed.set(0);
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("practice-rescore-", 0).daemon().factory());
+        try {
+            UUID after = new UUID(0, 0);
+            List<UUID> page;
+            do {
+                page = jdbc.queryForList("""
+                        SELECT ph.user_id
+                        FROM golfr_practice_hundred ph
+                        LEFT JOIN practice_hundred_score s ON s.user_id = ph.user_id
+                        WHERE ph.completed_at IS NOT NULL
+                          AND ph.user_id > ?
+                        GROUP BY ph.user_id, s.user_id, s.scoring_version, s.sessions_completed
+                        HAVING s.user_id IS NULL OR s.scoring_version <> ? OR s.sessions_completed <> COUNT(*)
+                        ORDER BY ph.user_id
+                        LIMIT ?
+                        """, UUID.class, after, scoring.activeVersion(), PAGE_SIZE);
+                List<Future<?>> rebuilds = new ArrayList<>(page.size());
+                for (UUID userId : page) {
+                    rebuilds.add(pool.submit(() -> rebuild(userId)));
+                }
+                for (Future<?> rebuild : rebuilds) {
+                    rebuild.get();
+                }
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1);
+                }
+            } while (page.size() == PAGE_SIZE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("Practice re-score stopped early: {}", e.getMessage());
+        } finally {
+            pool.shutdownNow();
+            finishedAt = Instant.now();
+            running.set(false);
+        }
+        if (rescored.get() > 0 || failed.get() > 0) {
+            log.info("Re-scored practice hundreds for {} users with scoring v{} ({} failed)",
+                    rescored.get(), scoring.activeVersion(), failed.get());
+        }
+    }
+
+    private void rebuild(UUID userId) {
+        try {
+            tx.executeWithoutResult(status -> aggregates.rebuild(userId));
+            rescored.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Failed to re-score practice hundreds for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    public record Status(int scoringVersion, boolean running, long usersRescored, long usersFailed,
+                         Instant startedAt, Instant finishedAt) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import com.golfbeta.user.UserProfile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains {@code practice_hundred_score}: one row per user with the latest and best score per category.
+ * Written in the transaction that completes a session. Rows that are missing (sessions completed before the
+ * table existed), computed with an older scoring version or whose count has drifted are rebuilt by
+ * {@link PracticeRescoreJob}. Every write takes a per-user advisory lock, so a rebuild never interleaves with a
+ * completion for the same user.
+ */
+@Component
+@RequiredArgsConstructor
+public class PracticeScoreAggregates {
+
+    private static final PracticeScoreCategory[] CATEGORIES = PracticeScoreCategory.values();
+    private static final String COLUMNS = buildColumns();
+    private static final String PLACEHOLDERS = "?" + ", ?".repeat(5 + 2 * CATEGORIES.length - 1);
+
+    private static final String UPSERT = buildUpsert();
+    private static final String REPLACE = buildReplace();
+    private static final String LOCK_USER =
+            "SELECT pg_advisory_xact_lock(hashtext('practice_hundred_score'), hashtext(?))";
+
+    private final JdbcTemplate jdbc;
+    private final PracticeHundredRepository repository;
+    private final PracticeHundredScoring scoring;
+    private final PracticeLeaderboardService leaderboard;
+    private final PracticePercentileService percentiles;
+
+    /**
+     * Folds one completed session into its owner's row, drops the owner's cached leaderboards and adds the
+     * session to the percentile population. {@code newlyCompleted} is false when an already completed session
+     * is completed again; its scores may have gone down, so the row is rebuilt rather than folded.
+     */
+    public Recorded record(PracticeHundred session, UserProfile owner, boolean newlyCompleted) {
+        PracticeHundredAnalysisResponseDto analysis = scoring.analyse(session);
+        lock(owner.getId());
+        if (!newlyCompleted) {
+            int sessionsCompleted = recompute(owner.getId());
+            leaderboard.invalidate(owner.getFirebaseId());
+            return new Recorded(analysis, sessionsCompleted, false);
+        }
+        Recorded recorded = jdbc.queryForObject(UPSERT + "\nRETURNING sessions_completed, best_overall",
+                (rs, rowNum) -> {
+                    double overall = PracticeScoreCategory.OVERALL.score(analysis);
+                    int sessionsCompleted = rs.getInt("sessions_completed");
+                    return new Recorded(analysis, sessionsCompleted,
+                            sessionsCompleted > 1 && overall >= rs.getDouble("best_overall"));
+                },
+                row(scoring.activeVersion(), 1, session, analysis, analysis));
+        leaderboard.invalidate(owner.getFirebaseId());
+        percentiles.record(analysis, owner, session.getCompletedAt());
+        return recorded;
+    }
+
+    /**
+     * Recomputes a user's row from all their completed sessions with the active scoring version, replacing
+     * whatever was there. Call inside a transaction.
+     */
+    void rebuild(UUID userId) {
+        lock(userId);
+        recompute(userId);
+    }
+
+    private void lock(UUID userId) {
+        jdbc.queryForList(LOCK_USER, userId.toString());
+    }
+
+    /** Returns the number of completed sessions the row now counts. */
+    private int recompute(UUID userId) {
+        List<PracticeHundred> sessions = repository
+                .findByUserIdAndCompletedAtIsNotNull(userId, Pageable.unpaged(Sort.by("completedAt")));
+        if (sessions.isEmpty()) {
+            jdbc.update("DELETE FROM practice_hundred_score WHERE user_id = ?", userId);
+            return 0;
+        }
+        PracticeHundred latest = sessions.get(sessions.size() - 1);
+        PracticeHundredAnalysisResponseDto latestAnalysis = null;
+        double[] best = new double[CATEGORIES.length];
+        for (PracticeHundred session : sessions) {
+            PracticeHundredAnalysisResponseDto analysis = scoring.analyse(session);
+            for (PracticeScoreCategory category : CATEGORIES) {
+                best[category.ordinal()] = Math.max(best[category.ordinal()], category.score(analysis));
+            }
+            if (session == latest) {
+                latestAnalysis = analysis;
+            }
+        }
+        Object[] args = row(scoring.activeVersion(), sessions.size(), latest, latestAnalysis, latestAnalysis);
+        int bestOffset = 5 + CATEGORIES.length;
+        for (PracticeScoreCategory category : CATEGORIES) {
+            args[bestOffset + category.ordinal()] = best[category.ordinal()];
+        }
+        jdbc.update(REPLACE, args);
+        return sessions.size();
+    }
+
+    private static Object[] row(int version, int sessionsCompleted, PracticeHundred latest,
+                                PracticeHundredAnalysisResponseDto latestScores,
+                                PracticeHundredAnalysisResponseDto bestScores) {
+        Object[] args = new Object[5 + 2 * CATEGORIES.length];
+        args[0] = latest.getUserId();
+        args[1] = sessionsCompleted;
+        args[2] = latest.getId();
+        args[3] = latest.getCompletedAt();
+        args[4] = version;
+        for (PracticeScoreCategory category : CATEGORIES) {
+            args[5 + category.ordinal()] = category.score(latestScores);
+            args[5 + CATEGORIES.length + category.ordinal()] = category.score(bestScores);
+        }
+        return args;
+    }
+
+    private static String buildColumns() {
+        StringBuilder columns = new StringBuilder(
+                "user_id, sessions_completed, latest_practice_hundred_id, latest_completed_at, scoring_version");
+        for (PracticeScoreCategory category : CATEGORIES) {
+            columns.append(", latest_").append(category.key());
+        }
+        for (PracticeScoreCategory category : CATEGORIES) {
+            columns.append(", best_").append(category.key());
+        }
+        return columns.toString();
+    }
+
+    /**
+     * Additive, for first completions only: counts one more session, keeps the best per category and moves
+     * "latest" only forward. A row
+     * computed with an older scoring version keeps that version, so the re-score job still rebuilds it.
+     */
+    private static String buildUpsert() {
+        StringBuilder updates = new StringBuilder(
+                "sessions_completed = s.sessions_completed + EXCLUDED.sessions_completed,\nupdated_at = now()");
+        List<String> latest = new ArrayList<>(List.of("latest_practice_hundred_id", "latest_completed_at"));
+        for (PracticeScoreCategory category : CATEGORIES) {
+            latest.add("latest_" + category.key());
+            String column = "best_" + category.key();
+            updates.append(",\n").append(column).append(" = GREATEST(s.").append(column)
+                    .append(", EXCLUDED.").append(column).append(")");
+        }
+        // "latest" follows the most recently completed session, whatever order completions arrive in
+        for (String column : latest) {
+            updates.append(",\n").append(column).append(" = CASE WHEN EXCLUDED.latest_completed_at >= s.latest_completed_at")
+                    .append(" THEN EXCLUDED.").append(column).append(" ELSE s.").append(column).append(" END");
+        }
+        return "INSERT INTO practice_hundred_score AS s (" + COLUMNS + ")\nVALUES (" + PLACEHOLDERS + ")\n"
+                + "ON CONFLICT (user_id) DO UPDATE SET\n" + updates;
+    }
+
+    private static String buildReplace() {
+        StringBuilder updates = new StringBuilder("updated_at = now()");
+        for (String column : COLUMNS.split(", ")) {
+            if (!column.equals("user_id")) {
+                updates.append(",\n").append(column).append(" = EXCLUDED.").append(column);
+            }
+        }
+        return "INSERT INTO practice_hundred_score AS s (" + COLUMNS + ")\nVALUES (" + PLACEHOLDERS + ")\n"
+                + "ON CONFLICT (user_id) DO UPDATE SET\n" + updates;
+    }
+
+    /** {@code personalBest}: the session's overall score is the owner's best, and not their first session. */
+    record Recorded(PracticeHundredAnalysisResponseDto analysis, int sessionsCompleted, boolean personalBest) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/** Leaderboard categories; {@link #key()} is both the API value and the {@code practice_hundred_score} column suffix. */
+public enum PracticeScoreCategory {
+    OVERALL(a -> (a.driving() + a.woods() + a.longirons() + a.shortirons()
+            + a.pitching() + a.chipping() + a.putting()) / 7.0),
+    DRIVING(PracticeHundredAnalysisResponseDto::driving),
+    WOODS(PracticeHundredAnalysisResponseDto::woods),
+    LONGIRONS(PracticeHundredAnalysisResponseDto::longirons),
+    SHORTIRONS(PracticeHundredAnalysisResponseDto::shortirons),
+    PITCHING(PracticeHundredAnalysisResponseDto::pitching),
+    CHIPPING(PracticeHundredAnalysisResponseDto::chipping),
+    PUTTING(PracticeHundredAnalysisResponseDto::putting);
+
+    private final ToDoubleFunction<PracticeHundredAnalysisResponseDto> score;
+
+    PracticeScoreCategory(ToDoubleFunction<PracticeHundredAnalysisResponseDto> score) {
+        this.score = score;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    double score(PracticeHundredAnalysisResponseDto analysis) {
+        return score.applyAsDouble(analysis);
+    }
+
+    public static Optional<PracticeScoreCategory> fromKey(String key) {
+        for (PracticeScoreCategory category : values()) {
+            if (category.key().equalsIgnoreCase(key)) {
+                return Optional.of(category);
+            }
+        }
+        return Optional.empty();
+    }
+}
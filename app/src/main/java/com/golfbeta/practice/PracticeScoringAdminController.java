@@ -0,0 +1,45 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.admin.AdminAuthorization;
+import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/admin/practice-scoring")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class PracticeScoringAdminController {
+
+    private final AdminAuthorization adminAuthorization;
+    private final AdminAuditLogService auditLogService;
+    private final PracticeRescoreJob rescoreJob;
+
+    @GetMapping("/rescore")
+    public PracticeRescoreJob.Status status(@AuthenticationPrincipal String uid) {
+        adminAuthorization.assertAdmin(uid);
+        return rescoreJob.status();
+    }
+
+    /** Re-scores every user whose stored scores predate the active scoring version. */
+    @PostMapping("/rescore")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public PracticeRescoreJob.Status rescore(@AuthenticationPrincipal String uid) {
+        adminAuthorization.assertAdmin(uid);
+        if (rescoreJob.isRunning()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A re-score is already running");
+        }
+        rescoreJob.trigger();
+        auditLogService.record(uid, "PRACTICE_RESCORE", AuditDetails.of("scoringVersion", rescoreJob.status().scoringVersion()));
+        return rescoreJob.status();
+    }
+}
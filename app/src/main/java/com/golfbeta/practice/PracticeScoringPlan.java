@@ -0,0 +1,202 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * One version of {@link PracticeScoringRules} compiled into parallel arrays: evaluating a session walks the
+ * terms once, scanning each drill string in place. No regex, no splitting or lower-casing, no maps; the only
+ * allocation is the result.
+ */
+final class PracticeScoringPlan {
+
+    /** Category names in {@link PracticeHundredAnalysisResponseDto} order; every version must define all of them. */
+    private static final List<String> ANALYSIS_CATEGORIES =
+            List.of("driving", "woods", "longirons", "shortirons", "pitching", "chipping", "putting");
+
+    private final int version;
+    private final PracticeHundredDrill[] termDrill;
+    private final char[][] termCounter;
+    private final int[] termWeight;
+    private final int[] termCategory;
+    private final int[] categoryMax;
+
+    private PracticeScoringPlan(int version, PracticeHundredDrill[] termDrill, char[][] termCounter,
+                                int[] termWeight, int[] termCategory, int[] categoryMax) {
+        this.version = version;
+        this.termDrill = termDrill;
+        this.termCounter = termCounter;
+        this.termWeight = termWeight;
+        this.termCategory = termCategory;
+        this.categoryMax = categoryMax;
+    }
+
+    static PracticeScoringPlan compile(PracticeScoringRules.Version rules) {
+        List<PracticeScoringRules.Category> categories = rules.categories() == null ? List.of() : rules.categories();
+        Set<String> names = new HashSet<>();
+        for (PracticeScoringRules.Category category : categories) {
+            if (!names.add(category.name())) {
+                throw invalid(rules, "duplicate category " + category.name());
+            }
+        }
+        if (!names.equals(Set.copyOf(ANALYSIS_CATEGORIES))) {
+            throw invalid(rules, "categories must be exactly " + ANALYSIS_CATEGORIES);
+        }
+
+        List<PracticeScoringRules.Term> terms = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        int[] max = new int[ANALYSIS_CATEGORIES.size()];
+        for (PracticeScoringRules.Category category : categories) {
+            int slot = ANALYSIS_CATEGORIES.indexOf(category.name());
+            if (category.max() <= 0) {
+                throw invalid(rules, category.name() + " max must be positive");
+            }
+            max[slot] = category.max();
+            for (PracticeScoringRules.Term term : category.terms() == null ? List.<PracticeScoringRules.Term>of() : category.terms()) {
+                terms.add(term);
+                owners.add(slot);
+            }
+        }
+
+        int n = terms.size();
+        PracticeHundredDrill[] drills = new PracticeHundredDrill[n];
+        char[][] counters = new char[n][];
+        int[] weights = new int[n];
+        int[] categoryOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            PracticeScoringRules.Term term = terms.get(i);
+            drills[i] = PracticeHundredDrill.fromKey(term.drill())
+                    .orElseThrow(() -> invalid(rules, "unknown drill " + term.drill()));
+            if (term.counter() != null) {
+                if (term.counter().isBlank()) {
+                    throw invalid(rules, "blank counter on " + term.drill());
+                }
+                counters[i] = term.counter().trim().toLowerCase(Locale.ROOT).toCharArray();
+            }
+            weights[i] = term.weight();
+            categoryOf[i] = owners.get(i);
+        }
+        return new PracticeScoringPlan(rules.version(), drills, counters, weights, categoryOf, max);
+    }
+
+    int version() {
+        return version;
+    }
+
+    PracticeHundredAnalysisResponseDto analyse(PracticeHundred session) {
+        int[] points = new int[categoryMax.length];
+        points(session, points);
+        return new PracticeHundredAnalysisResponseDto(
+                normalise(points[0], categoryMax[0]),
+                normalise(points[1], categoryMax[1]),
+                normalise(points[2], categoryMax[2]),
+                normalise(points[3], categoryMax[3]),
+                normalise(points[4], categoryMax[4]),
+                normalise(points[5], categoryMax[5]),
+                normalise(points[6], categoryMax[6]));
+    }
+
+    /** Raw weighted points per category, in {@link PracticeHundredAnalysisResponseDto} order. */
+    void points(PracticeHundred session, int[] into) {
+        Arrays.fill(into, 0);
+        for (int t = 0; t < termDrill.length; t++) {
+            String value = termDrill[t].read(session);
+            if (value == null) {
+                continue;
+            }
+            int count = termCounter[t] == null
+                    ? firstInt(value, 0, value.length())
+                    : counter(value, termCounter[t]);
+            into[termCategory[t]] += termWeight[t] * count;
+        }
+    }
+
+    /**
+     * Last count recorded against {@code key} in {@code "N:key, N:key"}. Segments without a key, or with nothing
+     * before the colon, are skipped; keys match case-insensitively; a missing key counts 0.
+     */
+    static int counter(String value, char[] key) {
+        int result = 0;
+        int length = value.length();
+        int segmentStart = 0;
+        while (segmentStart <= length) {
+            int segmentEnd = value.indexOf(',', segmentStart);
+            if (segmentEnd < 0) {
+                segmentEnd = length;
+            }
+            int start = segmentStart;
+            while (start < segmentEnd && value.charAt(start) <= ' ') {
+                start++;
+            }
+            int colon = value.indexOf(':', start);
+            if (colon > start && colon < segmentEnd && keyMatches(value, colon + 1, segmentEnd, key)) {
+                result = firstInt(value, start, colon);
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return result;
+    }
+
+    private static boolean keyMatches(String value, int from, int to, char[] key) {
+        while (from < to && value.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && value.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (to - from != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (Character.toLowerCase(value.charAt(from + i)) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** First {@code -?[0-9]+} in {@code value[from, to)}, or 0 if there is none or it does not fit an int. */
+    static int firstInt(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            boolean negative = c == '-' && i + 1 < to && isDigit(value.charAt(i + 1));
+            if (!negative && !isDigit(c)) {
+                continue;
+            }
+            int j = negative ? i + 1 : i;
+            long magnitude = 0;
+            while (j < to && isDigit(value.charAt(j))) {
+                magnitude = magnitude * 10 + (value.charAt(j) - '0');
+                if (magnitude > 1L + Integer.MAX_VALUE) {
+                    return 0;
+                }
+                j++;
+            }
+            long signed = negative ? -magnitude : magnitude;
+            return signed > Integer.MAX_VALUE ? 0 : (int) signed;
+        }
+        return 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static double normalise(int value, int maximum) {
+        double ratio = (double) value / maximum;
+        if (ratio < 0.0) {
+            return 0.0;
+        }
+        return Math.min(ratio, 1.0);
+    }
+
+    private static IllegalStateException invalid(PracticeScoringRules.Version rules, String reason) {
+        return new IllegalStateException("Invalid practice scoring rules v" + rules.version() + ": " + reason);
+    }
+}
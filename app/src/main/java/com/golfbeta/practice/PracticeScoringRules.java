@@ -0,0 +1,20 @@
+package com.golfbeta.practice;
+
+import java.util.List;
+
+/**
+ * Scoring rules as loaded from {@code practice.scoring.rules} (JSON). A category's points are the weighted sum
+ * of its terms, normalised by {@code max}. A term reads one drill: the first integer in it, or with
+ * {@code counter} set, the count recorded against that key in an {@code "N:key, N:key"} drill.
+ */
+record PracticeScoringRules(List<Version> versions) {
+
+    record Version(int version, List<Category> categories) {
+    }
+
+    record Category(String name, int max, List<Term> terms) {
+    }
+
+    record Term(String drill, String counter, int weight) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.golfbeta.practice;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable quantile sketch for scores in [0, 1]: counts per fixed-width bin. Because the domain is bounded,
+ * equal-width bins give a fixed rank error of one bin (0.001) with constant memory, and merging is element-wise
+ * addition, so per-instance deltas and the stored global sketch combine exactly in any order.
+ *
+ * <p>Instances are immutable; {@link #percentile(double)} is an O(1) read of the precomputed cumulative counts.
+ */
+final class ScoreHistogramSketch {
+
+    static final int BINS = 1000;
+
+    static final ScoreHistogramSketch EMPTY = new ScoreHistogramSketch(new long[BINS]);
+
+    private final long[] counts;
+    private final long[] below;
+    private final long total;
+
+    private ScoreHistogramSketch(long[] counts) {
+        this.counts = counts;
+        this.below = new long[BINS + 1];
+        for (int i = 0; i < BINS; i++) {
+            below[i + 1] = below[i] + counts[i];
+        }
+        this.total = below[BINS];
+    }
+
+    static ScoreHistogramSketch of(long[] counts) {
+        if (counts.length != BINS) {
+            throw new IllegalArgumentException("Expected " + BINS + " bins, got " + counts.length);
+        }
+        return new ScoreHistogramSketch(counts.clone());
+    }
+
+    static int bin(double score) {
+        if (Double.isNaN(score) || score <= 0.0) {
+            return 0;
+        }
+        return Math.min(BINS - 1, (int) (score * BINS));
+    }
+
+    ScoreHistogramSketch plus(double score) {
+        long[] next = counts.clone();
+        next[bin(score)]++;
+        return new ScoreHistogramSketch(next);
+    }
+
+    ScoreHistogramSketch merge(ScoreHistogramSketch other) {
+        long[] next = counts.clone();
+        for (int i = 0; i < BINS; i++) {
+            next[i] += other.counts[i];
+        }
+        return new ScoreHistogramSketch(next);
+    }
+
+    /** Percentage of recorded scores below {@code score}, counting ties as half; null when empty. */
+    Double percentile(double score) {
+        if (total == 0) {
+            return null;
+        }
+        int bin = bin(score);
+        return 100.0 * (below[bin] + counts[bin] / 2.0) / total;
+    }
+
+    long total() {
+        return total;
+    }
+
+    long[] counts() {
+        return counts.clone();
+    }
+
+    boolean isEmpty() {
+        return total == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ScoreHistogramSketch other && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
@@ -0,0 +1,10 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+public record PracticeHundredDrillAckDto(
+        @JsonProperty("id") UUID id,
+        @JsonProperty("version") long version
+) { }
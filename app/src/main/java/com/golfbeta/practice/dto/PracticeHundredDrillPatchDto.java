@@ -0,0 +1,17 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.Map;
+
+/**
+ * Changed drills only, keyed by the same names as {@link PracticeHundredPatchDto}
+ * (e.g. {@code {"drills": {"putting_3ft": "7"}, "expected_version": 12}}). A {@code null} value clears the drill.
+ */
+public record PracticeHundredDrillPatchDto(
+        @NotEmpty @Size(max = 20) @JsonProperty("drills") Map<String, @Size(max = 512) String> drills,
+        @Nullable @JsonProperty("expected_version") Long expectedVersion
+) { }
@@ -0,0 +1,10 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record PracticeHundredPageDto(
+        @JsonProperty("items") List<PracticeHundredResponseDto> items,
+        @JsonProperty("next_cursor") String nextCursor
+) { }
@@ -0,0 +1,15 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Where the caller's latest completed session sits among all completed sessions in {@code population}
+ * ("all", "skill:&lt;level&gt;" or "handicap:&lt;band&gt;"); percentiles are keyed by category.
+ */
+public record PracticeHundredPercentilesDto(
+        @JsonProperty("population") String population,
+        @JsonProperty("sample_size") long sampleSize,
+        @JsonProperty("percentiles") Map<String, Double> percentiles
+) { }
@@ -31,5 +31,6 @@ public record PracticeHundredResponseDto(
         @JsonProperty("woods_fade") String woodsFade,
         @JsonProperty("driving_straight") String drivingStraight,
         @JsonProperty("driving_draw") String drivingDraw,
-        @JsonProperty("driving_fade") String drivingFade
+        @JsonProperty("driving_fade") String drivingFade,
+        @JsonProperty("version") Long version
 ) { }
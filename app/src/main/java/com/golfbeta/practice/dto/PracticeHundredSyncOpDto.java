@@ -0,0 +1,23 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One queued offline call. {@code id} is generated by the client when the session is created; {@code at} is the
+ * client clock when the call was queued, with its UTC offset (e.g. {@code 2026-03-01T09:15:00+01:00}). Drill keys match {@link PracticeHundredPatchDto}; as on {@code /drills}, a null value clears the drill.
+ */
+public record PracticeHundredSyncOpDto(
+        @NotNull @JsonProperty("op") Op op,
+        @NotNull @JsonProperty("id") UUID id,
+        @NotNull @JsonProperty("at") OffsetDateTime at,
+        @Nullable @Size(max = 20) @JsonProperty("drills") Map<String, @Size(max = 512) String> drills
+) {
+    public enum Op { CREATE, UPDATE, COMPLETE }
+}
@@ -0,0 +1,13 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PracticeHundredSyncRequestDto(
+        @NotEmpty @Size(max = 500) @JsonProperty("ops") List<@Valid @NotNull PracticeHundredSyncOpDto> ops
+) { }
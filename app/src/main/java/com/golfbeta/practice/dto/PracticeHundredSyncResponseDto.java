@@ -0,0 +1,12 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Server state of every session the batch touched, plus ids the caller does not own. */
+public record PracticeHundredSyncResponseDto(
+        @JsonProperty("sessions") List<PracticeHundredResponseDto> sessions,
+        @JsonProperty("rejected") List<UUID> rejected
+) { }
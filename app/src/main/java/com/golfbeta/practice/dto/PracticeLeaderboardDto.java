@@ -0,0 +1,13 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PracticeLeaderboardDto(
+        @JsonProperty("basis") String basis,
+        @JsonProperty("category") String category,
+        @JsonProperty("generated_at") Instant generatedAt,
+        @JsonProperty("entries") List<PracticeLeaderboardEntryDto> entries
+) { }
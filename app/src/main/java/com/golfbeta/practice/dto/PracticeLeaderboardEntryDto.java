@@ -0,0 +1,16 @@
+package com.golfbeta.practice.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+public record PracticeLeaderboardEntryDto(
+        @JsonProperty("rank") int rank,
+        @JsonProperty("user_id") String userId,
+        @JsonProperty("name") String name,
+        @JsonProperty("username") String username,
+        @JsonProperty("score") double score,
+        @JsonProperty("sessions_completed") int sessionsCompleted,
+        @JsonProperty("last_completed_at") LocalDateTime lastCompletedAt,
+        @JsonProperty("me") boolean me
+) { }
@@ -0,0 +1,232 @@
+package com.golfbeta.shared.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory queue drained by one background thread that hands items to a {@link Sink} in batches.
+ * <p>
+ * When the queue is full, {@link OverflowPolicy#BLOCK} makes the producer wait up to {@code blockTimeout}
+ * and then write its item inline, while {@link OverflowPolicy#SPILL} appends it to an on-disk NDJSON file
+ * that is replayed once the queue goes idle, and {@link OverflowPolicy#DROP} discards it and counts the loss
+ * (for lossy data such as analytics, where producers must never wait). Batches the sink rejects are retried once and then spilled.
+ * {@link #stop()} drains everything still queued before returning, and anything left over on startup
+ * from a previous run is replayed first. Items submitted before {@link #start()} wait in the queue; items
+ * submitted after {@link #stop()} are spilled, or dropped when there is no spill directory. Neither is written
+ * on the caller's thread.
+ */
+public final class BatchingWriter<T> implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingWriter.class);
+
+    public enum OverflowPolicy { BLOCK, SPILL, DROP }
+
+    @FunctionalInterface
+    public interface Sink<T> {
+        void write(List<T> batch) throws Exception;
+    }
+
+    public record Settings(int capacity,
+                           int batchSize,
+                           Duration linger,
+                           OverflowPolicy overflowPolicy,
+                           Duration blockTimeout,
+                           Duration shutdownTimeout,
+                           Path spillDirectory) {
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Sink<T> sink;
+    private final BlockingQueue<T> queue;
+    private final SpillFile<T> spill;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private volatile Thread drainer;
+
+    public BatchingWriter(String name, Settings settings, Sink<T> sink, ObjectMapper mapper, Class<T> type) {
+        if (settings.overflowPolicy() == OverflowPolicy.SPILL && settings.spillDirectory() == null) {
+            throw new IllegalArgumentException("SPILL overflow policy needs a spill directory");
+        }
+        this.name = name;
+        this.settings = settings;
+        this.sink = sink;
+        this.queue = new ArrayBlockingQueue<>(settings.capacity());
+        this.spill = settings.spillDirectory() == null
+                ? null
+                : new SpillFile<>(settings.spillDirectory(), name, mapper, type);
+    }
+
+    public void submit(T item) {
+        if (stopped) {
+            discard(List.of(item));
+            return;
+        }
+        if (queue.offer(item)) {
+            return;
+        }
+        if (!running) {
+            discard(List.of(item));
+            return;
+        }
+        if (settings.overflowPolicy() == OverflowPolicy.SPILL) {
+            spillOrLog(List.of(item), null);
+            return;
+        }
+        if (settings.overflowPolicy() == OverflowPolicy.DROP) {
+            dropped.increment();
+            return;
+        }
+        try {
+            if (queue.offer(item, settings.blockTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        deliver(List.of(item));
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    /** Items discarded under {@link OverflowPolicy#DROP}, or submitted while stopped without a spill directory. */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        running = true;
+        drainer = Thread.ofPlatform().name("batching-writer-" + name).daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped = true;
+        Thread thread = drainer;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(settings.shutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.interrupt();
+        }
+        List<T> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            log.warn("[{}] {} items still queued after shutdown timeout; spilling", name, leftover.size());
+            spillOrLog(leftover, null);
+        }
+        drainer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Stop after the web server has stopped accepting requests, and before the data source closes. */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        replaySpill();
+        List<T> batch = new ArrayList<>(settings.batchSize());
+        while (running || !queue.isEmpty()) {
+            T first;
+            try {
+                first = queue.poll(settings.linger().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null) {
+                replaySpill();
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, settings.batchSize() - 1);
+            deliver(batch);
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<T> batch) {
+        try {
+            sink.write(batch);
+        } catch (Exception first) {
+            try {
+                sink.write(batch);
+            } catch (Exception second) {
+                second.addSuppressed(first);
+                spillOrLog(batch, second);
+            }
+        }
+    }
+
+    private void replaySpill() {
+        if (spill == null || !spill.hasPending() || queue.size() > settings.capacity() / 2) {
+            return;
+        }
+        try {
+            SpillFile.Replayed replayed = spill.replay(settings.batchSize(), sink);
+            if (replayed.delivered() > 0) {
+                log.info("[{}] replayed {} spilled items", name, replayed.delivered());
+            }
+            if (replayed.rejected() > 0) {
+                log.error("[{}] set aside {} unreadable spilled items in {}.rejected.ndjson",
+                        name, replayed.rejected(), name);
+            }
+        } catch (Exception e) {
+            log.warn("[{}] spill replay failed, will retry: {}", name, e.getMessage());
+        }
+    }
+
+    /** For items no drainer will pick up: spilled for the next run if possible, otherwise counted as dropped. */
+    private void discard(List<T> items) {
+        if (spill != null) {
+            spillOrLog(items, null);
+        } else {
+            dropped.add(items.size());
+        }
+    }
+
+    private void spillOrLog(List<T> items, Exception cause) {
+        if (spill != null) {
+            try {
+                spill.append(items);
+                return;
+            } catch (IOException e) {
+                if (cause != null) {
+                    e.addSuppressed(cause);
+                }
+                cause = e;
+            }
+        }
+        log.error("[{}] dropping {} items: {}", name, items.size(), items, cause);
+    }
+}
@@ -0,0 +1,123 @@
+package com.golfbeta.shared.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Newline-delimited JSON overflow file. Appends are forced to disk before returning so a spilled item
+ * survives a crash. Replay renames the file first, so appends racing with a replay land in a fresh file.
+ * Lines that no longer deserialise (a spill written by an older shape of {@code T}) are moved to a
+ * {@code .rejected.ndjson} file for inspection instead of failing every replay.
+ */
+final class SpillFile<T> {
+
+    private final Path active;
+    private final Path replaying;
+    private final Path rejected;
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+    private final Object lock = new Object();
+
+    SpillFile(Path directory, String name, ObjectMapper mapper, Class<T> type) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create spill directory " + directory, e);
+        }
+        this.active = directory.resolve(name + ".ndjson");
+        this.replaying = directory.resolve(name + ".replaying.ndjson");
+        this.rejected = directory.resolve(name + ".rejected.ndjson");
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    void append(List<T> items) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (T item : items) {
+            lines.append(mapper.writeValueAsString(item)).append('\n');
+        }
+        synchronized (lock) {
+            write(active, lines);
+        }
+    }
+
+    private static void write(Path file, CharSequence lines) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    boolean hasPending() {
+        return Files.exists(replaying) || Files.exists(active);
+    }
+
+    /**
+     * Feeds spilled items to {@code sink} in batches. A replay file left by an earlier failed attempt is
+     * finished first. On sink failure the file is kept and retried on the next call; a batch may then be
+     * delivered twice. Unreadable lines are set aside only once the whole file has been delivered.
+     */
+    Replayed replay(int batchSize, BatchingWriter.Sink<T> sink) throws Exception {
+        synchronized (lock) {
+            if (!Files.exists(replaying)) {
+                if (!Files.exists(active)) {
+                    return new Replayed(0, 0);
+                }
+                Files.move(active, replaying, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        int delivered = 0;
+        StringBuilder unreadable = new StringBuilder();
+        int rejectedLines = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(mapper.readValue(line, type));
+                } catch (JsonProcessingException e) {
+                    unreadable.append(line).append('\n');
+                    rejectedLines++;
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    sink.write(batch);
+                    delivered += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.write(batch);
+            delivered += batch.size();
+        }
+        if (rejectedLines > 0) {
+            write(rejected, unreadable);
+        }
+        Files.delete(replaying);
+        return new Replayed(delivered, rejectedLines);
+    }
+
+    record Replayed(int delivered, int rejected) {
+    }
+}
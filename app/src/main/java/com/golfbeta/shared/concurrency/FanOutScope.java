@@ -0,0 +1,122 @@
+package com.golfbeta.shared.concurrency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Structured fan-out over an executor: every forked part is owned by the scope, joined against its own
+ * deadline and cancelled when the scope closes. Parts that fail or time out yield {@code null} and are
+ * reported through {@link #unavailableParts()} instead of failing the whole scope.
+ * <p>
+ * Stands in for {@code StructuredTaskScope}, which is still a preview API on Java 21.
+ */
+public final class FanOutScope implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FanOutScope.class);
+
+    private final ExecutorService executor;
+    private final Duration defaultTimeout;
+    private final List<Part<?>> parts = new ArrayList<>();
+    private boolean joined;
+
+    public FanOutScope(ExecutorService executor, Duration defaultTimeout) {
+        this.executor = executor;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public <T> Part<T> fork(String name, Callable<T> task) {
+        return fork(name, defaultTimeout, task);
+    }
+
+    public <T> Part<T> fork(String name, Duration timeout, Callable<T> task) {
+        if (joined) {
+            throw new IllegalStateException("Cannot fork after join");
+        }
+        Part<T> part = new Part<>(name, System.nanoTime() + timeout.toNanos(), executor.submit(task));
+        parts.add(part);
+        return part;
+    }
+
+    /** Waits for every part until its deadline. Late parts are cancelled and marked unavailable. */
+    public void join() throws InterruptedException {
+        joined = true;
+        for (Part<?> part : parts) {
+            try {
+                part.await();
+            } catch (InterruptedException ie) {
+                cancelUnfinished();
+                throw ie;
+            }
+        }
+    }
+
+    public List<String> unavailableParts() {
+        return parts.stream()
+                .filter(part -> part.state != State.SUCCEEDED)
+                .map(Part::name)
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        cancelUnfinished();
+    }
+
+    private void cancelUnfinished() {
+        for (Part<?> part : parts) {
+            if (!part.future.isDone()) {
+                part.future.cancel(true);
+            }
+        }
+    }
+
+    private enum State { PENDING, SUCCEEDED, FAILED, TIMED_OUT }
+
+    public static final class Part<T> {
+        private final String name;
+        private final long deadlineNanos;
+        private final Future<T> future;
+        private State state = State.PENDING;
+        private T value;
+
+        private Part(String name, long deadlineNanos, Future<T> future) {
+            this.name = name;
+            this.deadlineNanos = deadlineNanos;
+            this.future = future;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** The part's result, or {@code null} if it failed, timed out or has not been joined. */
+        public T get() {
+            return value;
+        }
+
+        private void await() throws InterruptedException {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            try {
+                value = future.get(remaining, TimeUnit.NANOSECONDS);
+                state = State.SUCCEEDED;
+            } catch (TimeoutException te) {
+                future.cancel(true);
+                state = State.TIMED_OUT;
+                log.warn("Fan-out part {} timed out", name);
+            } catch (ExecutionException ee) {
+                state = State.FAILED;
+                log.warn("Fan-out part {} failed: {}", name, ee.getCause() == null ? ee.getMessage() : ee.getCause().toString());
+            }
+        }
+    }
+}
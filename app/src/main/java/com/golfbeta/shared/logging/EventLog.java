@@ -0,0 +1,198 @@
+package com.golfbeta.shared.logging;
+
+import com.golfbeta.shared.batch.BatchingWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Structured, sampled, asynchronous event logging for hot paths. Each call is sampled per category
+ * ({@code app.events.sample-rates.<category>}, default {@code app.events.default-sample-rate}); an event that
+ * is sampled out costs one map lookup and one random draw and allocates nothing. Sampled events are encoded
+ * as one JSON line and queued; a background writer hands them to the {@code golfbeta.events} logger, so the
+ * request thread never does console or file I/O, and a full queue drops events instead of waiting.
+ *
+ * <pre>
+ * eventLog.event("video.playback", "signed_urls").str("uid", uid).num("ttlSeconds", ttl).emit();
+ * </pre>
+ */
+@Component
+public class EventLog {
+
+    private final BatchingWriter<String> writer;
+    private final double defaultSampleRate;
+    private final Map<String, Double> configuredRates;
+    private final Map<String, Category> categories = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EventLog(@Qualifier("eventLogWriter") BatchingWriter<String> writer, Environment environment) {
+        this(writer,
+                environment.getProperty("app.events.default-sample-rate", Double.class, 1.0),
+                Binder.get(environment)
+                        .bind("app.events.sample-rates", Bindable.mapOf(String.class, Double.class))
+                        .orElse(Map.of()));
+    }
+
+    EventLog(BatchingWriter<String> writer, double defaultSampleRate, Map<String, Double> sampleRates) {
+        this.writer = writer;
+        this.defaultSampleRate = defaultSampleRate;
+        this.configuredRates = Map.copyOf(sampleRates);
+    }
+
+    /** Starts an event, or returns a no-op builder when this call is sampled out. */
+    public Event event(String category, String name) {
+        Category c = categories.computeIfAbsent(category, this::newCategory);
+        if (c.sampleRate < 1.0 && (c.sampleRate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= c.sampleRate)) {
+            c.sampledOut.increment();
+            return Event.NOOP;
+        }
+        c.emitted.increment();
+        return new Event(writer, category, name, c.sampleRate);
+    }
+
+    /** Per-category counters, for diagnostics. */
+    public Map<String, Stats> stats() {
+        Map<String, Stats> snapshot = new TreeMap<>();
+        categories.forEach((name, c) -> snapshot.put(name, new Stats(c.sampleRate, c.emitted.sum(), c.sampledOut.sum())));
+        return snapshot;
+    }
+
+    public long dropped() {
+        return writer.dropped();
+    }
+
+    /** Keeps enough of a secret (device token, key id) to correlate log lines without leaking it. */
+    public static String redact(String secret) {
+        if (secret == null) {
+            return null;
+        }
+        int visible = Math.min(6, secret.length() / 4);
+        return secret.substring(0, visible) + "…(" + secret.length() + ")";
+    }
+
+    private Category newCategory(String name) {
+        // "video.playback" falls back to "video" before the default
+        Double rate = configuredRates.get(name);
+        int dot = name.lastIndexOf('.');
+        while (rate == null && dot > 0) {
+            name = name.substring(0, dot);
+            rate = configuredRates.get(name);
+            dot = name.lastIndexOf('.');
+        }
+        return new Category(rate != null ? rate : defaultSampleRate);
+    }
+
+    private static final class Category {
+        final double sampleRate;
+        final LongAdder emitted = new LongAdder();
+        final LongAdder sampledOut = new LongAdder();
+
+        Category(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    public record Stats(double sampleRate, long emitted, long sampledOut) {
+    }
+
+    /**
+     * Appends fields straight into one JSON buffer: no varargs arrays, boxing or format-string parsing.
+     * Not thread-safe; build and emit on one thread.
+     */
+    public static class Event {
+
+        static final Event NOOP = new Event();
+
+        private final BatchingWriter<String> writer;
+        private final StringBuilder json;
+
+        private Event() {
+            this.writer = null;
+            this.json = null;
+        }
+
+        Event(BatchingWriter<String> writer, String category, String name, double sampleRate) {
+            this.writer = writer;
+            this.json = new StringBuilder(256)
+                    .append("{\"ts\":").append(System.currentTimeMillis())
+                    .append(",\"category\":");
+            quote(json, category);
+            json.append(",\"event\":");
+            quote(json, name);
+            if (sampleRate < 1.0) {
+                json.append(",\"sampleRate\":").append(sampleRate);
+            }
+        }
+
+        public Event str(String key, String value) {
+            if (json != null) {
+                key(key);
+                if (value == null) {
+                    json.append("null");
+                } else {
+                    quote(json, value);
+                }
+            }
+            return this;
+        }
+
+        public Event num(String key, long value) {
+            if (json != null) {
+                key(key);
+                json.append(value);
+            }
+            return this;
+        }
+
+        public Event bool(String key, boolean value) {
+            if (json != null) {
+                key(key);
+                json.append(value);
+            }
+            return this;
+        }
+
+        public void emit() {
+            if (json != null) {
+                writer.submit(json.append('}').toString());
+            }
+        }
+
+        private void key(String key) {
+            json.append(',');
+            quote(json, key);
+            json.append(':');
+        }
+
+        private static void quote(StringBuilder out, String value) {
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.golfbeta.shared.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.shared.batch.BatchingWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class EventLogConfig {
+
+    /** Route or silence events through this logger name, e.g. {@code logging.level.golfbeta.events=off}. */
+    static final String EVENTS_LOGGER = "golfbeta.events";
+
+    @Bean
+    public BatchingWriter<String> eventLogWriter(
+            ObjectMapper objectMapper,
+            @Value("${app.events.queue-capacity:20000}") int capacity,
+            @Value("${app.events.batch-size:256}") int batchSize,
+            @Value("${app.events.linger:PT0.2S}") Duration linger) {
+        Logger events = LoggerFactory.getLogger(EVENTS_LOGGER);
+        BatchingWriter.Settings settings = new BatchingWriter.Settings(capacity, batchSize, linger,
+                BatchingWriter.OverflowPolicy.DROP, Duration.ZERO, Duration.ofSeconds(5), null);
+        return new BatchingWriter<>("event-log", settings, batch -> {
+            if (events.isInfoEnabled()) {
+                batch.forEach(events::info);
+            }
+        }, objectMapper, String.class);
+    }
+}
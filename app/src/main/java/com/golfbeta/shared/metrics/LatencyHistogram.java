@@ -0,0 +1,56 @@
+package com.golfbeta.shared.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two microsecond buckets (1µs .. ~35min). Percentiles are reported
+ * as the upper bound of the bucket they fall in, which is precise enough for spotting saturation.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+        counts.incrementAndGet(bucket);
+        total.increment();
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(count, percentile(copy, count, 0.50), percentile(copy, count, 0.99),
+                Duration.ofNanos(maxNanos.get()));
+    }
+
+    private static Duration percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Duration.ofNanos((2L << i) * 1_000);
+            }
+        }
+        return Duration.ofNanos((2L << (counts.length - 1)) * 1_000);
+    }
+
+    public record Snapshot(long count, Duration p50, Duration p99, Duration max) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.golfbeta.shared.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Opaque cursor for keyset pagination: the sort-key values of the last row returned, joined and
+ * base64url-encoded. Clients echo it back to fetch the next page; a tampered or truncated cursor is a 400.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "\u001f";
+    private static final Pattern SPLIT = Pattern.compile(SEPARATOR);
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** @return the {@code expectedParts} key values, or {@code null} when {@code cursor} is blank. */
+    public static List<String> decode(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> parts = List.of(SPLIT.split(raw, -1));
+            if (parts.size() == expectedParts) {
+                return parts;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+}
@@ -0,0 +1,52 @@
+package com.golfbeta.user;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Component
+public class UserProfileProvisioner {
+
+    private final JdbcTemplate jdbc;
+
+    public UserProfileProvisioner(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Creates the profile row and its account type assignment if either is missing, in one statement.
+     * Safe to call concurrently and repeatedly; existing rows are left untouched.
+     */
+    @Transactional
+    public void provision(String firebaseId, String defaultAccountType) {
+        // email is NOT NULL; an empty value is reported as missing by the profile status until PUT /user/profile.
+        // The statement snapshot cannot see the CTE's own insert, hence the UNION with the existing row.
+        jdbc.update("""
+      WITH inserted AS (
+        INSERT INTO user_profile (firebase_id, email)
+        VALUES (?, '')
+        ON CONFLICT (firebase_id) DO NOTHING
+        RETURNING id
+      ), profile AS (
+        SELECT id FROM inserted
+        UNION ALL
+        SELECT id FROM user_profile WHERE firebase_id = ?
+      )
+      INSERT INTO user_account_types (user_profile_id, account_type)
+      SELECT id, ? FROM profile
+      LIMIT 1
+      ON CONFLICT (user_profile_id) DO NOTHING
+      """, firebaseId, firebaseId, defaultAccountType);
+    }
+
+    @Transactional
+    public void ensureAccountType(UUID profileId, String defaultAccountType) {
+        jdbc.update("""
+      INSERT INTO user_account_types (user_profile_id, account_type)
+      VALUES (?, ?)
+      ON CONFLICT (user_profile_id) DO NOTHING
+      """, profileId, defaultAccountType);
+    }
+}
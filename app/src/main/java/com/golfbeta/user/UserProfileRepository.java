@@ -12,6 +12,15 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, UUID>
     Optional<UserProfile> findByEmail(String email);
     Optional<UserProfile> findByFirebaseId(String firebaseId);
 
+    @Query("""
+        select new com.golfbeta.user.UserProfileWithAccountType(p, at.name)
+        from UserProfile p
+        left join UserAccountType uat on uat.userProfile = p
+        left join uat.accountType at
+        where p.firebaseId = :firebaseId
+        """)
+    Optional<UserProfileWithAccountType> findWithAccountTypeByFirebaseId(@Param("firebaseId") String firebaseId);
+
     @Query(value = """
         SELECT firebase_id, name, username
         FROM user_profile
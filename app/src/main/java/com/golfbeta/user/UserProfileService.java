@@ -1,10 +1,7 @@
 package com.golfbeta.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.golfbeta.account.AccountType;
-import com.golfbeta.account.AccountTypeRepository;
-import com.golfbeta.account.UserAccountType;
-import com.golfbeta.account.UserAccountTypeRepository;
+import com.golfbeta.account.AccountTypeCache;
 import com.golfbeta.shared.enums.ImprovementAreas;
 import com.golfbeta.user.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -22,19 +19,34 @@ public class UserProfileService {
 
     private final UsernameAllocator allocator;
     private final UserProfileRepository repo;
-    private final UserAccountTypeRepository userAccountTypes;
-    private final AccountTypeRepository accountTypeRepository;
+    private final UserProfileProvisioner provisioner;
+    private final AccountTypeCache accountTypes;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
 
     public UserProfileViewDto getView(String uid) {
-        var p = repo.findByFirebaseId(uid)
-                .orElseGet(() -> repo.save(seed(uid, null)));
-        ensureAccountType(p);
+        return view(loadProfile(uid).profile());
+    }
+
+    public UserProfileViewDto view(UserProfile p) {
         var status = computeStatus(p);
         return toView(p, status);
     }
 
+    /**
+     * Steady state is a single read of the profile joined with its account type. Only a first visit
+     * (no profile or no assignment yet) falls through to the idempotent provisioning upsert.
+     */
+    public UserProfileWithAccountType loadProfile(String uid) {
+        var loaded = repo.findWithAccountTypeByFirebaseId(uid);
+        if (loaded.isPresent() && loaded.get().accountType() != null) {
+            return loaded.get();
+        }
+        provisioner.provision(uid, accountTypes.defaultAccountType().getName());
+        return repo.findWithAccountTypeByFirebaseId(uid)
+                .orElseThrow(() -> new IllegalStateException("Profile provisioning failed for " + uid));
+    }
+
     public UserProfileViewDto patch(String uid, UserProfilePatchDto dto) {
         var p = repo.findByFirebaseId(uid).orElseGet(() -> seed(uid, null));
 
@@ -138,21 +150,10 @@ public class UserProfileService {
     }
 
     private void ensureAccountType(UserProfile profile) {
-        if (profile.getFirebaseId() == null) {
+        if (profile.getId() == null) {
             return;
         }
-
-        if (userAccountTypes.existsByUserProfileFirebaseId(profile.getFirebaseId())) {
-            return;
-        }
-
-        var userAccountType = new UserAccountType();
-        userAccountType.setUserProfile(profile);
-        AccountType defaultAccountType = accountTypeRepository.findById("tier_1")
-                .orElseGet(() -> accountTypeRepository.findById("tier_0")
-                        .orElseThrow(() -> new IllegalStateException("Default account types not seeded")));
-        userAccountType.setAccountType(defaultAccountType);
-        userAccountTypes.save(userAccountType);
+        provisioner.ensureAccountType(profile.getId(), accountTypes.defaultAccountType().getName());
     }
 
     public List<UserSearchResultDto> searchByName(String uid, String q, Integer limit) {
@@ -0,0 +1,10 @@
+package com.golfbeta.user;
+
+/**
+ * A profile together with the name of its assigned account type, loaded in a single query.
+ * {@code accountType} is {@code null} when the profile has no assignment yet.
+ */
+public record UserProfileWithAccountType(
+        UserProfile profile,
+        String accountType
+) {}
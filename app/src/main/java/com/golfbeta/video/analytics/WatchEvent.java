@@ -0,0 +1,18 @@
+package com.golfbeta.video.analytics;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** One validated playback event as queued for storage (also the on-disk spill format). */
+public record WatchEvent(UUID eventId,
+                         Instant receivedAt,
+                         Instant occurredAt,
+                         String firebaseId,
+                         UUID sessionId,
+                         String videoPath,
+                         WatchEventType type,
+                         Long positionMs,
+                         long watchedMs,
+                         String codec,
+                         String rendition) {
+}
@@ -0,0 +1,69 @@
+package com.golfbeta.video.analytics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.shared.batch.BatchingWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+
+@Configuration
+public class WatchEventConfig {
+
+    /** Claims the event id first; an id already claimed by an earlier attempt inserts nothing. */
+    private static final String INSERT = """
+            WITH fresh AS (
+                INSERT INTO video_watch_event_id (firebase_id, event_id, received_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT (firebase_id, event_id) DO NOTHING
+                RETURNING event_id
+            )
+            INSERT INTO video_watch_event (event_id, received_at, occurred_at, firebase_id, session_id, video_path,
+                                           event_type, position_ms, watched_ms, codec, rendition)
+            SELECT fresh.event_id, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? FROM fresh
+            """;
+
+    /**
+     * Analytics are lossy by design: a full queue drops events rather than making a request wait. Batches are
+     * sent with one {@code batchUpdate} round trip; retried events are skipped by their id.
+     */
+    @Bean
+    public BatchingWriter<WatchEvent> watchEventWriter(
+            JdbcTemplate jdbc,
+            ObjectMapper objectMapper,
+            @Value("${video.analytics.queue-capacity:50000}") int capacity,
+            @Value("${video.analytics.batch-size:1000}") int batchSize,
+            @Value("${video.analytics.linger:PT1S}") Duration linger,
+            @Value("${video.analytics.shutdown-timeout:PT20S}") Duration shutdownTimeout,
+            @Value("${video.analytics.spill-dir:}") String spillDir) {
+        BatchingWriter.Settings settings = new BatchingWriter.Settings(capacity, batchSize, linger,
+                BatchingWriter.OverflowPolicy.DROP, Duration.ZERO, shutdownTimeout,
+                spillDir.isBlank() ? null : Path.of(spillDir));
+        return new BatchingWriter<>("watch-events", settings,
+                batch -> jdbc.batchUpdate(INSERT, batch, batch.size(), (ps, event) -> {
+                    ps.setString(1, event.firebaseId());
+                    ps.setObject(2, event.eventId());
+                    ps.setTimestamp(3, Timestamp.from(event.receivedAt()));
+                    ps.setTimestamp(4, Timestamp.from(event.receivedAt()));
+                    ps.setTimestamp(5, Timestamp.from(event.occurredAt()));
+                    ps.setString(6, event.firebaseId());
+                    ps.setObject(7, event.sessionId());
+                    ps.setString(8, event.videoPath());
+                    ps.setString(9, event.type().name());
+                    if (event.positionMs() == null) {
+                        ps.setNull(10, Types.BIGINT);
+                    } else {
+                        ps.setLong(10, event.positionMs());
+                    }
+                    ps.setLong(11, event.watchedMs());
+                    ps.setString(12, event.codec());
+                    ps.setString(13, event.rendition());
+                }),
+                objectMapper, WatchEvent.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.golfbeta.video.analytics;
+
+import com.golfbeta.video.analytics.dto.WatchEventBatchRequestDto;
+import com.golfbeta.video.analytics.dto.WatchEventBatchResultDto;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/user/video/events")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class WatchEventController {
+
+    private final WatchEventIngestService service;
+
+    /** Accepted events are queued, not yet stored; clients should not retry a 202. */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public WatchEventBatchResultDto ingest(@AuthenticationPrincipal String uid,
+                                           @Valid @RequestBody WatchEventBatchRequestDto request) {
+        return service.ingest(uid, request.events());
+    }
+}
@@ -0,0 +1,64 @@
+package com.golfbeta.video.analytics;
+
+import com.golfbeta.shared.batch.BatchingWriter;
+import com.golfbeta.video.VideoPathUtils;
+import com.golfbeta.video.analytics.dto.WatchEventBatchResultDto;
+import com.golfbeta.video.analytics.dto.WatchEventDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Validates client watch events and hands them to the in-memory writer. Nothing here touches the database,
+ * so the request returns as soon as the events are queued (or dropped, if the queue is full).
+ */
+@Service
+public class WatchEventIngestService {
+
+    /** Client clocks drift and offline batches arrive late; anything outside this window is discarded. */
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+    private static final long MAX_WATCHED_MS_PER_EVENT = Duration.ofHours(6).toMillis();
+
+    private final BatchingWriter<WatchEvent> writer;
+
+    public WatchEventIngestService(@Qualifier("watchEventWriter") BatchingWriter<WatchEvent> writer) {
+        this.writer = writer;
+    }
+
+    public WatchEventBatchResultDto ingest(String uid, List<WatchEventDto> events) {
+        Instant now = Instant.now();
+        int accepted = 0;
+        for (WatchEventDto event : events) {
+            String path = normalisePath(event.videoPath());
+            long watchedMs = event.watchedMs() == null ? 0 : event.watchedMs();
+            if (path == null
+                    || event.occurredAt().isAfter(now.plus(MAX_CLOCK_SKEW))
+                    || event.occurredAt().isBefore(now.minus(MAX_AGE))
+                    || watchedMs > MAX_WATCHED_MS_PER_EVENT) {
+                continue;
+            }
+            writer.submit(new WatchEvent(event.eventId(), now, event.occurredAt(), uid, event.sessionId(), path, event.type(),
+                    event.positionMs(), watchedMs, trimToNull(event.codec()), trimToNull(event.rendition())));
+            accepted++;
+        }
+        return new WatchEventBatchResultDto(accepted, events.size() - accepted);
+    }
+
+    private static String normalisePath(String raw) {
+        try {
+            return VideoPathUtils.normalise(raw);
+        } catch (ResponseStatusException e) {
+            return null;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return StringUtils.hasText(value) ? value.trim() : null;
+    }
+}
@@ -0,0 +1,148 @@
+package com.golfbeta.video.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Background upkeep for {@code video_watch_event}: folds newly inserted events into the daily per-video and
+ * per-user rollups, creates monthly partitions ahead of time, drops those past retention and forgets event ids
+ * too old to be retried. Both jobs take a transaction-scoped advisory lock, so only one instance runs each.
+ */
+@Component
+public class WatchEventMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchEventMaintenance.class);
+    private static final String PARTITION_PREFIX = "video_watch_event_";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int PARTITIONS_AHEAD = 2;
+    /** Longer than the oldest event {@link WatchEventIngestService} still accepts, so a retry is always caught. */
+    private static final Duration EVENT_ID_RETENTION = Duration.ofDays(8);
+
+    private static final String ROLLUP_DAILY = """
+            INSERT INTO video_watch_daily (day, video_path, starts, completes, watched_ms)
+            SELECT (occurred_at AT TIME ZONE 'UTC')::date, video_path,
+                   COUNT(*) FILTER (WHERE event_type = 'START'),
+                   COUNT(*) FILTER (WHERE event_type = 'COMPLETE'),
+                   SUM(watched_ms)
+            FROM video_watch_event
+            WHERE inserted_at > ? AND inserted_at <= ?
+            GROUP BY 1, 2
+            ON CONFLICT (day, video_path) DO UPDATE SET
+                starts = video_watch_daily.starts + EXCLUDED.starts,
+                completes = video_watch_daily.completes + EXCLUDED.completes,
+                watched_ms = video_watch_daily.watched_ms + EXCLUDED.watched_ms
+            """;
+
+    private static final String ROLLUP_USER = """
+            INSERT INTO video_watch_user_total (firebase_id, video_path, starts, completes, watched_ms, last_watched_at)
+            SELECT firebase_id, video_path,
+                   COUNT(*) FILTER (WHERE event_type = 'START'),
+                   COUNT(*) FILTER (WHERE event_type = 'COMPLETE'),
+                   SUM(watched_ms),
+                   MAX(occurred_at)
+            FROM video_watch_event
+            WHERE inserted_at > ? AND inserted_at <= ?
+            GROUP BY 1, 2
+            ON CONFLICT (firebase_id, video_path) DO UPDATE SET
+                starts = video_watch_user_total.starts + EXCLUDED.starts,
+                completes = video_watch_user_total.completes + EXCLUDED.completes,
+                watched_ms = video_watch_user_total.watched_ms + EXCLUDED.watched_ms,
+                last_watched_at = GREATEST(video_watch_user_total.last_watched_at, EXCLUDED.last_watched_at)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final Duration grace;
+    private final int retentionMonths;
+
+    public WatchEventMaintenance(JdbcTemplate jdbc,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${video.analytics.rollup-grace:PT2M}") Duration grace,
+                                 @Value("${video.analytics.retention-months:13}") int retentionMonths) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.grace = grace;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Folds events inserted in {@code (watermark, now - grace]}, by database clock. Events the writer spilled or
+     * retried are stamped when they are finally stored, so they land ahead of the watermark however late they
+     * are. The grace period covers inserts that are still uncommitted at the cut-off.
+     */
+    @Scheduled(fixedDelayString = "${video.analytics.rollup-interval:PT5M}", initialDelayString = "PT1M")
+    void rollUp() {
+        tx.executeWithoutResult(status -> {
+            Boolean locked = jdbc.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext('video_watch_rollup'))",
+                    Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            Timestamp from = jdbc.queryForObject(
+                    "SELECT rolled_up_to FROM video_watch_rollup_state WHERE name = 'watch_events' FOR UPDATE",
+                    Timestamp.class);
+            Timestamp to = jdbc.queryForObject("SELECT clock_timestamp() - make_interval(secs => ?)",
+                    Timestamp.class, grace.toMillis() / 1000.0);
+            if (from == null || !to.after(from)) {
+                return;
+            }
+            int videos = jdbc.update(ROLLUP_DAILY, from, to);
+            int users = jdbc.update(ROLLUP_USER, from, to);
+            jdbc.update("UPDATE video_watch_rollup_state SET rolled_up_to = ? WHERE name = 'watch_events'", to);
+            log.debug("Watch event rollup {} -> {}: {} video-days, {} user-videos", from, to, videos, users);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "PT6H", initialDelayString = "PT2M")
+    void maintainPartitions() {
+        tx.executeWithoutResult(status -> {
+            Boolean locked = jdbc.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext('video_watch_partitions'))",
+                    Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            YearMonth current = YearMonth.now(ZoneOffset.UTC);
+            for (int i = 0; i <= PARTITIONS_AHEAD; i++) {
+                YearMonth month = current.plusMonths(i);
+                LocalDate start = month.atDay(1);
+                jdbc.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF video_watch_event FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(PARTITION_PREFIX + month.format(PARTITION_SUFFIX), start, start.plusMonths(1)));
+            }
+
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            List<String> partitions = jdbc.queryForList("""
+                    SELECT c.relname FROM pg_inherits i
+                    JOIN pg_class c ON c.oid = i.inhrelid
+                    JOIN pg_class p ON p.oid = i.inhparent
+                    WHERE p.relname = 'video_watch_event'
+                    """, String.class);
+            for (String partition : partitions) {
+                Matcher matcher = PARTITION_NAME.matcher(partition);
+                if (matcher.matches() && YearMonth.parse(matcher.group(1), PARTITION_SUFFIX).isBefore(oldestKept)) {
+                    jdbc.execute("DROP TABLE IF EXISTS " + partition);
+                    log.info("Dropped watch event partition {} (retention {} months)", partition, retentionMonths);
+                }
+            }
+
+            jdbc.update("DELETE FROM video_watch_event_id WHERE received_at < now() - make_interval(secs => ?)",
+                    (double) EVENT_ID_RETENTION.toSeconds());
+        });
+    }
+}
@@ -0,0 +1,7 @@
+package com.golfbeta.video.analytics;
+
+public enum WatchEventType {
+    START,
+    PROGRESS,
+    COMPLETE
+}
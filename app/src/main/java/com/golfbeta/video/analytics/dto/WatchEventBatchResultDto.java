@@ -0,0 +1,6 @@
+package com.golfbeta.video.analytics.dto;
+
+public record WatchEventBatchResultDto(
+        int accepted,
+        int rejected
+) {}
@@ -0,0 +1,26 @@
+package com.golfbeta.video.analytics.dto;
+
+import com.golfbeta.video.analytics.WatchEventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * {@code watchedMs} is playback time since the previous event of the same session. {@code eventId} is generated
+ * by the client once per event and resent unchanged on retry, so a retried batch is stored once.
+ */
+public record WatchEventDto(
+        @NotNull UUID eventId,
+        @NotNull UUID sessionId,
+        @NotBlank @Size(max = 1024) String videoPath,
+        @NotNull WatchEventType type,
+        @NotNull Instant occurredAt,
+        @PositiveOrZero Long positionMs,
+        @PositiveOrZero Long watchedMs,
+        @Size(max = 32) String codec,
+        @Size(max = 64) String rendition
+) {}
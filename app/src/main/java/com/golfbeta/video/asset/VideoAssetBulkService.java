@@ -0,0 +1,206 @@
+package com.golfbeta.video.asset;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
+import com.golfbeta.video.VideoPathUtils;
+import com.golfbeta.video.asset.group.VideoAssetGroupMembership;
+import com.golfbeta.video.asset.dto.VideoAssetBulkItemResultDto;
+import com.golfbeta.video.asset.dto.VideoAssetBulkItemResultDto.Status;
+import com.golfbeta.video.asset.dto.VideoAssetBulkResultDto;
+import com.golfbeta.video.asset.dto.VideoAssetRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Registers many video assets from one request body. The body is either a JSON array or NDJSON. It is read
+ * in full first, so an oversized or malformed body is rejected before anything is written; then every
+ * {@value #CHUNK_SIZE} items are validated in parallel and upserted with one {@code INSERT ... ON CONFLICT}
+ * over unnested arrays. Each chunk gets a single audit record.
+ */
+@Service
+public class VideoAssetBulkService {
+
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_ITEMS = 20_000;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final AdminAuditLogService auditLogService;
+    private final VideoKeyCache keyCache;
+    private final VideoAssetGroupMembership membership;
+
+    public VideoAssetBulkService(JdbcTemplate jdbc, ObjectMapper objectMapper, Validator validator,
+                                 AdminAuditLogService auditLogService, VideoKeyCache keyCache,
+                                 VideoAssetGroupMembership membership) {
+        this.jdbc = jdbc;
+        this.reader = objectMapper.readerFor(VideoAssetRequestDto.class);
+        this.validator = validator;
+        this.auditLogService = auditLogService;
+        this.keyCache = keyCache;
+        this.membership = membership;
+    }
+
+    public VideoAssetBulkResultDto upsertAll(String adminUid, InputStream body) {
+        List<VideoAssetRequestDto> items = readAll(body);
+        List<VideoAssetBulkItemResultDto> results = new ArrayList<>(items.size());
+        for (int offset = 0; offset < items.size(); offset += CHUNK_SIZE) {
+            results.addAll(upsertChunk(adminUid, offset, items.subList(offset, Math.min(offset + CHUNK_SIZE, items.size()))));
+        }
+
+        Map<Status, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(VideoAssetBulkItemResultDto::status, Collectors.counting()));
+        int inserted = counts.getOrDefault(Status.INSERTED, 0L).intValue();
+        int updated = counts.getOrDefault(Status.UPDATED, 0L).intValue();
+        return new VideoAssetBulkResultDto(results.size(), inserted, updated, results.size() - inserted - updated, results);
+    }
+
+    private List<VideoAssetRequestDto> readAll(InputStream body) {
+        List<VideoAssetRequestDto> items = new ArrayList<>();
+        try (MappingIterator<VideoAssetRequestDto> values = reader.readValues(body)) {
+            while (values.hasNextValue()) {
+                if (items.size() >= MAX_ITEMS) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "At most %d assets per request; nothing was applied".formatted(MAX_ITEMS));
+                }
+                items.add(values.nextValue());
+            }
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Malformed item at index %d; nothing was applied: %s".formatted(items.size(), e.getMessage()));
+        }
+        return items;
+    }
+
+    private List<VideoAssetBulkItemResultDto> upsertChunk(String adminUid, int offset, List<VideoAssetRequestDto> chunk) {
+        List<Prepared> prepared = chunk.parallelStream()
+                .map(this::prepare)
+                .toList();
+
+        // Postgres rejects an ON CONFLICT DO UPDATE that touches the same row twice, so the last entry wins.
+        // Rows go in video_path order so concurrent bulk calls lock in the same order.
+        Map<String, Integer> lastIndexByPath = new HashMap<>();
+        for (int i = 0; i < prepared.size(); i++) {
+            if (prepared.get(i).error() == null) {
+                lastIndexByPath.put(prepared.get(i).videoPath(), i);
+            }
+        }
+        List<Prepared> rows = lastIndexByPath.values().stream()
+                .map(prepared::get)
+                .sorted(Comparator.comparing(Prepared::videoPath))
+                .toList();
+        Map<String, UpsertedRow> upserted = upsert(rows);
+        upserted.keySet().forEach(keyCache::invalidate);
+        membership.clearPrefixesCoveringNonMembers(upserted.entrySet().stream()
+                .filter(e -> e.getValue().inserted())
+                .map(Map.Entry::getKey)
+                .toList());
+
+        List<VideoAssetBulkItemResultDto> results = new ArrayList<>(prepared.size());
+        for (int i = 0; i < prepared.size(); i++) {
+            Prepared p = prepared.get(i);
+            if (p.error() != null) {
+                results.add(new VideoAssetBulkItemResultDto(offset + i, p.videoPath(), Status.INVALID, null, null, p.error()));
+            } else if (lastIndexByPath.get(p.videoPath()) != i) {
+                results.add(new VideoAssetBulkItemResultDto(offset + i, p.videoPath(), Status.DUPLICATE, null, null,
+                        "Superseded by a later entry for the same videoPath"));
+            } else {
+                UpsertedRow row = upserted.get(p.videoPath());
+                results.add(new VideoAssetBulkItemResultDto(offset + i, p.videoPath(),
+                        row.inserted() ? Status.INSERTED : Status.UPDATED, row.id(), row.keyVersion(), null));
+            }
+        }
+
+        long inserted = upserted.values().stream().filter(UpsertedRow::inserted).count();
+        auditLogService.record(adminUid, "VIDEO_ASSET_BULK_UPSERT", AuditDetails.of(
+                "offset", offset,
+                "received", chunk.size(),
+                "inserted", inserted,
+                "updated", upserted.size() - inserted,
+                "failed", chunk.size() - upserted.size()));
+        return results;
+    }
+
+    private Map<String, UpsertedRow> upsert(List<Prepared> rows) {
+        Map<String, UpsertedRow> byPath = new HashMap<>();
+        if (rows.isEmpty()) {
+            return byPath;
+        }
+        jdbc.query("""
+                WITH input AS (
+                    SELECT * FROM unnest(?, ?, ?, ?) AS i(video_path, key_hex, key_base64, key_version)
+                )
+                INSERT INTO video_asset AS va (video_path, key_hex, key_base64, key_version)
+                SELECT video_path, key_hex, key_base64, COALESCE(key_version, 1) FROM input
+                ON CONFLICT (video_path) DO UPDATE
+                    SET key_hex = EXCLUDED.key_hex,
+                        key_base64 = EXCLUDED.key_base64,
+                        key_version = COALESCE(
+                            (SELECT i.key_version FROM input i WHERE i.video_path = EXCLUDED.video_path),
+                            va.key_version),
+                        updated_at = now()
+                RETURNING va.id, va.video_path, va.key_version, (va.xmax = 0) AS inserted
+                """, rs -> {
+            byPath.put(rs.getString("video_path"), new UpsertedRow(
+                    rs.getObject("id", UUID.class), rs.getInt("key_version"), rs.getBoolean("inserted")));
+        },
+                new SqlArrayValue("text", rows.stream().map(Prepared::videoPath).toArray()),
+                new SqlArrayValue("text", rows.stream().map(Prepared::keyHex).toArray()),
+                new SqlArrayValue("text", rows.stream().map(Prepared::keyBase64).toArray()),
+                new SqlArrayValue("int4", rows.stream().map(Prepared::keyVersion).toArray()));
+        return byPath;
+    }
+
+    private Prepared prepare(VideoAssetRequestDto request) {
+        if (request == null) {
+            return Prepared.invalid(null, "Item must be a JSON object");
+        }
+        String videoPath = request.videoPath();
+        Set<ConstraintViolation<VideoAssetRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return Prepared.invalid(videoPath, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        try {
+            videoPath = VideoPathUtils.normalise(videoPath);
+            String keyHex = VideoAssetService.normaliseHex(request.keyHex());
+            String keyBase64 = VideoAssetService.normaliseBase64(request.keyBase64());
+            VideoAssetService.validateKeyMaterial(keyHex, keyBase64);
+            return new Prepared(videoPath, keyHex, keyBase64, request.keyVersion(), null);
+        } catch (ResponseStatusException e) {
+            return Prepared.invalid(videoPath, e.getReason());
+        } catch (IllegalArgumentException e) {
+            return Prepared.invalid(videoPath, e.getMessage());
+        }
+    }
+
+    private record Prepared(String videoPath, String keyHex, String keyBase64, Integer keyVersion, String error) {
+        static Prepared invalid(String videoPath, String error) {
+            return new Prepared(videoPath, null, null, null, error);
+        }
+    }
+
+    private record UpsertedRow(UUID id, int keyVersion, boolean inserted) {
+    }
+}
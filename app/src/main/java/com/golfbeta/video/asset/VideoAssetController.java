@@ -1,15 +1,19 @@
 package com.golfbeta.video.asset;
 
 import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
 import com.golfbeta.admin.AdminAuthorization;
+import com.golfbeta.video.asset.dto.VideoAssetBulkResultDto;
 import com.golfbeta.video.asset.dto.VideoAssetRequestDto;
 import com.golfbeta.video.asset.dto.VideoAssetResponseDto;
 import com.golfbeta.video.asset.dto.VideoAssetSummaryDto;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +26,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/admin/video-assets")
 @SecurityRequirement(name = "bearerAuth")
@@ -30,6 +36,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class VideoAssetController {
 
     private final VideoAssetService service;
+    private final VideoAssetBulkService bulkService;
     private final AdminAuthorization adminAuthorization;
     private final AdminAuditLogService auditLogService;
 
@@ -39,10 +46,18 @@ public class VideoAssetController {
         adminAuthorization.assertAdmin(uid);
         VideoAssetResponseDto response = service.upsert(request);
         auditLogService.record(uid, "VIDEO_ASSET_UPSERT",
-                "videoPath=%s,keyVersion=%s".formatted(request.videoPath(), request.keyVersion()));
+                AuditDetails.of("videoPath", request.videoPath(), "keyVersion", request.keyVersion()));
         return response;
     }
 
+    /** Accepts a JSON array or NDJSON of registrations; see {@link VideoAssetBulkService}. */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public VideoAssetBulkResultDto bulkUpsert(@AuthenticationPrincipal String uid,
+                                              HttpServletRequest request) throws IOException {
+        adminAuthorization.assertAdmin(uid);
+        return bulkService.upsertAll(uid, request.getInputStream());
+    }
+
     @DeleteMapping
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal String uid,
@@ -52,7 +67,7 @@ public class VideoAssetController {
         if (!removed) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Video asset not found: " + videoPath);
         }
-        auditLogService.record(uid, "VIDEO_ASSET_DELETE", "videoPath=%s".formatted(videoPath));
+        auditLogService.record(uid, "VIDEO_ASSET_DELETE", AuditDetails.of("videoPath", videoPath));
     }
 
     @GetMapping("/search")
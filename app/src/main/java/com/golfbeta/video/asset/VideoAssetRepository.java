@@ -2,11 +2,13 @@ package com.golfbeta.video.asset;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface VideoAssetRepository extends JpaRepository<VideoAsset, UUID> {
     Optional<VideoAsset> findByVideoPath(String videoPath);
+    List<VideoAsset> findByVideoPathIn(Collection<String> videoPaths);
     List<VideoAsset> findTop50ByVideoPathContainingIgnoreCaseOrderByVideoPathAsc(String videoPath);
 }
@@ -2,6 +2,7 @@ package com.golfbeta.video.asset;
 
 import com.golfbeta.video.VideoPathUtils;
 import com.golfbeta.video.asset.dto.VideoAssetRequestDto;
+import com.golfbeta.video.asset.group.VideoAssetGroupMembership;
 import com.golfbeta.video.asset.dto.VideoAssetResponseDto;
 import com.golfbeta.video.asset.dto.VideoAssetSummaryDto;
 import lombok.RequiredArgsConstructor;
@@ -18,9 +19,11 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class VideoAssetService {
 
-    private static final int EXPECTED_KEY_BYTES = 16;
+    private static final int EXPECTED_KEY_BYTES = VideoKeyCache.EXPECTED_KEY_BYTES;
 
     private final VideoAssetRepository repository;
+    private final VideoKeyCache keyCache;
+    private final VideoAssetGroupMembership membership;
 
     @Transactional
     public VideoAssetResponseDto upsert(VideoAssetRequestDto request) {
@@ -31,6 +34,7 @@ public class VideoAssetService {
 
         VideoAsset asset = repository.findByVideoPath(videoPath)
                 .orElseGet(VideoAsset::new);
+        boolean created = asset.getId() == null;
         asset.setVideoPath(videoPath);
         asset.setKeyHex(keyHex);
         asset.setKeyBase64(keyBase64);
@@ -39,7 +43,11 @@ public class VideoAssetService {
             asset.setKeyVersion(1);
         }
 
-        VideoAsset saved = repository.save(asset);
+        VideoAsset saved = repository.saveAndFlush(asset);
+        keyCache.invalidate(videoPath);
+        if (created) {
+            membership.clearPrefixesCoveringNonMembers(List.of(videoPath));
+        }
         return toResponse(saved);
     }
 
@@ -49,22 +57,15 @@ public class VideoAssetService {
         return repository.findByVideoPath(normalised)
                 .map(asset -> {
                     repository.delete(asset);
+                    keyCache.invalidate(normalised);
                     return true;
                 })
                 .orElse(false);
     }
 
-    @Transactional
+    /** Reads the stored key rather than the cache, so the authenticated path never serves a stale key. */
     public byte[] resolveKeyBytesOrThrow(String videoPath) {
-        String normalised = VideoPathUtils.normalise(videoPath);
-        VideoAsset asset = repository.findByVideoPath(normalised)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Video asset not registered: " + normalised));
-        byte[] decoded = Base64.getDecoder().decode(asset.getKeyBase64());
-        if (decoded.length != EXPECTED_KEY_BYTES) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                    "Stored key for %s is not %d bytes".formatted(asset.getVideoPath(), EXPECTED_KEY_BYTES));
-        }
-        return decoded;
+        return keyCache.refresh(VideoPathUtils.normalise(videoPath)).bytes().clone();
     }
 
     @Transactional(readOnly = true)
@@ -81,15 +82,15 @@ public class VideoAssetService {
                 .toList();
     }
 
-    private static String normaliseHex(String keyHex) {
+    static String normaliseHex(String keyHex) {
         return keyHex.trim().toUpperCase(Locale.ROOT);
     }
 
-    private static String normaliseBase64(String keyBase64) {
+    static String normaliseBase64(String keyBase64) {
         return keyBase64.trim();
     }
 
-    private static void validateKeyMaterial(String keyHex, String keyBase64) {
+    static void validateKeyMaterial(String keyHex, String keyBase64) {
         if (keyHex.length() != 32) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "keyHex must be 32 characters");
         }
@@ -0,0 +1,132 @@
+package com.golfbeta.video.asset;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded AES key material by video path. Asset writes on this instance invalidate after commit; entries expire
+ * after {@code video.key-cache-ttl} so re-encodes and deletions made on other instances are picked up. Callers
+ * that carry a key version (key tokens) also call {@link #refresh} when it does not match.
+ */
+@Component
+public class VideoKeyCache {
+
+    static final int EXPECTED_KEY_BYTES = 16;
+
+    private final VideoAssetRepository repository;
+    private final Duration ttl;
+    private final Map<String, Entry> keys = new ConcurrentHashMap<>();
+
+    public VideoKeyCache(VideoAssetRepository repository,
+                         @Value("${video.key-cache-ttl:PT1M}") Duration ttl) {
+        this.repository = repository;
+        this.ttl = ttl;
+    }
+
+    /** @param videoPath an already-normalised path */
+    public VideoKey require(String videoPath) {
+        VideoKey cached = fresh(videoPath);
+        return cached != null ? cached : refresh(videoPath);
+    }
+
+    public VideoKey refresh(String videoPath) {
+        VideoAsset asset = repository.findByVideoPath(videoPath)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Video asset not registered: " + videoPath));
+        VideoKey key = decode(asset);
+        if (key == null) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Stored key for %s is not %d bytes".formatted(asset.getVideoPath(), EXPECTED_KEY_BYTES));
+        }
+        keys.put(videoPath, new Entry(key, Instant.now().plus(ttl)));
+        return key;
+    }
+
+    /**
+     * Keys for every registered path in {@code videoPaths}, loading all misses with one query. Paths that are
+     * not registered, or whose stored key is malformed, are absent from the result.
+     */
+    public Map<String, VideoKey> findAll(Collection<String> videoPaths) {
+        Map<String, VideoKey> found = new HashMap<>();
+        List<String> misses = videoPaths.stream()
+                .filter(path -> {
+                    VideoKey cached = fresh(path);
+                    if (cached != null) {
+                        found.put(path, cached);
+                    }
+                    return cached == null;
+                })
+                .toList();
+        if (!misses.isEmpty()) {
+            Instant expiresAt = Instant.now().plus(ttl);
+            for (VideoAsset asset : repository.findByVideoPathIn(misses)) {
+                VideoKey key = decode(asset);
+                if (key != null) {
+                    keys.put(asset.getVideoPath(), new Entry(key, expiresAt));
+                    found.put(asset.getVideoPath(), key);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void invalidate(String videoPath) {
+        afterCommit(() -> keys.remove(videoPath));
+    }
+
+    public void invalidateAll() {
+        afterCommit(keys::clear);
+    }
+
+    private VideoKey fresh(String videoPath) {
+        Entry entry = keys.get(videoPath);
+        if (entry == null) {
+            return null;
+        }
+        if (Instant.now().isBefore(entry.expiresAt())) {
+            return entry.key();
+        }
+        keys.remove(videoPath, entry);
+        return null;
+    }
+
+    private static VideoKey decode(VideoAsset asset) {
+        byte[] decoded = Base64.getDecoder().decode(asset.getKeyBase64());
+        if (decoded.length != EXPECTED_KEY_BYTES) {
+            return null;
+        }
+        return new VideoKey(asset.getId(), asset.getVideoPath(), asset.getKeyVersion(), decoded);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(VideoKey key, Instant expiresAt) {
+    }
+
+    public record VideoKey(UUID assetId, String videoPath, int keyVersion, byte[] bytes) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.golfbeta.video.asset.dto;
+
+import java.util.UUID;
+
+public record VideoAssetBulkItemResultDto(
+        int index,
+        String videoPath,
+        Status status,
+        UUID id,
+        Integer keyVersion,
+        String error
+) {
+    public enum Status { INSERTED, UPDATED, INVALID, DUPLICATE }
+}
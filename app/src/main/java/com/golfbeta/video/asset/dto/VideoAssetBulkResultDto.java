@@ -0,0 +1,11 @@
+package com.golfbeta.video.asset.dto;
+
+import java.util.List;
+
+public record VideoAssetBulkResultDto(
+        int received,
+        int inserted,
+        int updated,
+        int failed,
+        List<VideoAssetBulkItemResultDto> items
+) {}
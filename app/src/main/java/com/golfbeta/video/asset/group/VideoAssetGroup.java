@@ -2,11 +2,7 @@ package com.golfbeta.video.asset.group;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -21,7 +17,7 @@ public class VideoAssetGroup {
     @Column(name = "name", nullable = false, unique = true)
     private String name;
 
-    @JdbcTypeCode(SqlTypes.ARRAY)
-    @Column(name = "video_asset_ids", columnDefinition = "uuid[]", nullable = false)
-    private List<UUID> videoAssetIds = new ArrayList<>();
+    /** Path under {@code videos/} that contains only this group's assets, or null. */
+    @Column(name = "cloudfront_prefix")
+    private String cloudfrontPrefix;
 }
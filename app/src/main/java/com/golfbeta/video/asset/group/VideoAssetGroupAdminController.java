@@ -1,10 +1,15 @@
 package com.golfbeta.video.asset.group;
 
 import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
 import com.golfbeta.admin.AdminAuthorization;
+import com.golfbeta.video.asset.group.dto.VideoGroupAssetBulkRequestDto;
+import com.golfbeta.video.asset.group.dto.VideoGroupAssetBulkResultDto;
 import com.golfbeta.video.asset.group.dto.VideoGroupAssetRequestDto;
 import com.golfbeta.video.asset.group.dto.VideoGroupCreateRequestDto;
+import com.golfbeta.video.asset.group.dto.VideoGroupPrefixRequestDto;
 import com.golfbeta.video.asset.group.dto.VideoGroupResponseDto;
+import com.golfbeta.video.asset.group.dto.VideoGroupSummaryDto;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +34,7 @@ public class VideoAssetGroupAdminController {
                                              @Valid @RequestBody VideoGroupCreateRequestDto request) {
         adminAuthorization.assertAdmin(uid);
         VideoGroupResponseDto response = service.createVideoGroup(request);
-        auditLogService.record(uid, "VIDEO_GROUP_CREATE", "name=%s".formatted(response.name()));
+        auditLogService.record(uid, "VIDEO_GROUP_CREATE", AuditDetails.of("name", response.name()));
         return response;
     }
 
@@ -40,7 +45,7 @@ public class VideoAssetGroupAdminController {
         adminAuthorization.assertAdmin(uid);
         VideoGroupResponseDto response = service.addVideoAsset(groupId, request);
         auditLogService.record(uid, "VIDEO_GROUP_ADD_ASSET",
-                "groupId=%s,assetId=%s".formatted(groupId, request.videoAssetId()));
+                AuditDetails.of("groupId", groupId, "assetId", request.videoAssetId()));
         return response;
     }
 
@@ -51,10 +56,50 @@ public class VideoAssetGroupAdminController {
         adminAuthorization.assertAdmin(uid);
         VideoGroupResponseDto response = service.removeVideoAsset(groupId, videoAssetId);
         auditLogService.record(uid, "VIDEO_GROUP_REMOVE_ASSET",
-                "groupId=%s,assetId=%s".formatted(groupId, videoAssetId));
+                AuditDetails.of("groupId", groupId, "assetId", videoAssetId));
         return response;
     }
 
+    @PostMapping("/{groupId}/assets/bulk")
+    public VideoGroupAssetBulkResultDto addVideoAssets(@AuthenticationPrincipal String uid,
+                                                       @PathVariable UUID groupId,
+                                                       @Valid @RequestBody VideoGroupAssetBulkRequestDto request) {
+        adminAuthorization.assertAdmin(uid);
+        VideoGroupAssetBulkResultDto result = service.addVideoAssets(groupId, request);
+        auditLogService.record(uid, "VIDEO_GROUP_ADD_ASSETS",
+                AuditDetails.of("groupId", groupId, "requested", result.requested(), "added", result.changed()));
+        return result;
+    }
+
+    @PostMapping("/{groupId}/assets/bulk-remove")
+    public VideoGroupAssetBulkResultDto removeVideoAssets(@AuthenticationPrincipal String uid,
+                                                          @PathVariable UUID groupId,
+                                                          @Valid @RequestBody VideoGroupAssetBulkRequestDto request) {
+        adminAuthorization.assertAdmin(uid);
+        VideoGroupAssetBulkResultDto result = service.removeVideoAssets(groupId, request);
+        auditLogService.record(uid, "VIDEO_GROUP_REMOVE_ASSETS",
+                AuditDetails.of("groupId", groupId, "requested", result.requested(), "removed", result.changed()));
+        return result;
+    }
+
+    @PutMapping("/{groupId}/cloudfront-prefix")
+    public VideoGroupResponseDto setCloudfrontPrefix(@AuthenticationPrincipal String uid,
+                                                     @PathVariable UUID groupId,
+                                                     @Valid @RequestBody VideoGroupPrefixRequestDto request) {
+        adminAuthorization.assertAdmin(uid);
+        VideoGroupResponseDto response = service.setCloudfrontPrefix(groupId, request.cloudfrontPrefix());
+        auditLogService.record(uid, "VIDEO_GROUP_SET_PREFIX",
+                AuditDetails.of("groupId", groupId, "prefix", response.cloudfrontPrefix()));
+        return response;
+    }
+
+    @GetMapping("/by-asset/{videoAssetId}")
+    public List<VideoGroupSummaryDto> groupsForAsset(@AuthenticationPrincipal String uid,
+                                                     @PathVariable UUID videoAssetId) {
+        adminAuthorization.assertAdmin(uid);
+        return service.groupsForAsset(videoAssetId);
+    }
+
     @GetMapping("/search")
     public List<VideoGroupResponseDto> search(@AuthenticationPrincipal String uid,
                                               @RequestParam(name = "query", required = false) String query) {
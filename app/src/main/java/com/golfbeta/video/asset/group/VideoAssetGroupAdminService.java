@@ -1,18 +1,26 @@
 package com.golfbeta.video.asset.group;
 
+import com.golfbeta.video.VideoPathUtils;
 import com.golfbeta.video.asset.VideoAssetRepository;
+import com.golfbeta.video.asset.group.dto.VideoGroupAssetBulkRequestDto;
+import com.golfbeta.video.asset.group.dto.VideoGroupAssetBulkResultDto;
 import com.golfbeta.video.asset.group.dto.VideoGroupAssetRequestDto;
 import com.golfbeta.video.asset.group.dto.VideoGroupCreateRequestDto;
 import com.golfbeta.video.asset.group.dto.VideoGroupResponseDto;
+import com.golfbeta.video.asset.group.dto.VideoGroupSummaryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -21,42 +29,82 @@ public class VideoAssetGroupAdminService {
 
     private final VideoAssetGroupRepository groupRepository;
     private final VideoAssetRepository videoAssetRepository;
+    private final VideoAssetGroupMembership membership;
 
     @Transactional
     public VideoGroupResponseDto createVideoGroup(VideoGroupCreateRequestDto request) {
         String name = normaliseName(request.name());
         VideoAssetGroup group = new VideoAssetGroup();
         group.setName(name);
-        group.setVideoAssetIds(new ArrayList<>());
         VideoAssetGroup saved = groupRepository.save(group);
-        return toResponse(saved);
+        return toResponse(saved, List.of());
     }
 
     @Transactional
     public VideoGroupResponseDto addVideoAsset(UUID groupId, VideoGroupAssetRequestDto request) {
         VideoAssetGroup group = findGroupOrThrow(groupId);
         ensureVideoAssetExists(request.videoAssetId());
-        List<UUID> assets = ensureMutableAssets(group);
-        if (!assets.contains(request.videoAssetId())) {
-            assets.add(request.videoAssetId());
-            group.setVideoAssetIds(assets);
-            group = groupRepository.save(group);
-        }
-        return toResponse(group);
+        membership.addAll(groupId, List.of(request.videoAssetId()));
+        return toResponse(group, membership.assetIds(groupId));
     }
 
     @Transactional
     public VideoGroupResponseDto removeVideoAsset(UUID groupId, UUID videoAssetId) {
         VideoAssetGroup group = findGroupOrThrow(groupId);
-        List<UUID> assets = ensureMutableAssets(group);
-        boolean removed = assets.removeIf(id -> id.equals(videoAssetId));
-        if (!removed) {
+        if (membership.removeAll(groupId, List.of(videoAssetId)) == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND,
                     "Video asset %s not present in group %s".formatted(videoAssetId, groupId));
         }
-        group.setVideoAssetIds(assets);
-        VideoAssetGroup updated = groupRepository.save(group);
-        return toResponse(updated);
+        ensurePrefixStillCovered(group);
+        return toResponse(group, membership.assetIds(groupId));
+    }
+
+    /**
+     * Sets or clears the group's CloudFront prefix. Session cookies for the prefix open every object beneath
+     * it, so the prefix is rejected while any asset under it is not a member of the group. Removals that would
+     * break the rule are rejected the same way, and registering a non-member asset under the prefix clears it.
+     */
+    @Transactional
+    public VideoGroupResponseDto setCloudfrontPrefix(UUID groupId, String rawPrefix) {
+        VideoAssetGroup group = findGroupOrThrow(groupId);
+        String prefix = StringUtils.hasText(rawPrefix) ? VideoPathUtils.normalise(rawPrefix) : null;
+        if (prefix != null) {
+            int outside = membership.assetsOutsideGroupUnderPrefix(groupId, prefix);
+            if (outside > 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "%d video asset(s) under %s/ are not in this group".formatted(outside, prefix));
+            }
+        }
+        group.setCloudfrontPrefix(prefix);
+        return toResponse(group, membership.assetIds(groupId));
+    }
+
+    /** Adds every listed asset that exists; unknown ids are reported rather than failing the batch. */
+    @Transactional
+    public VideoGroupAssetBulkResultDto addVideoAssets(UUID groupId, VideoGroupAssetBulkRequestDto request) {
+        findGroupOrThrow(groupId);
+        Set<UUID> requested = new LinkedHashSet<>(request.videoAssetIds());
+        List<UUID> missing = membership.missingAssets(requested);
+        int added = membership.addAll(groupId, requested);
+        return new VideoGroupAssetBulkResultDto(groupId, requested.size(), added, missing);
+    }
+
+    @Transactional
+    public VideoGroupAssetBulkResultDto removeVideoAssets(UUID groupId, VideoGroupAssetBulkRequestDto request) {
+        VideoAssetGroup group = findGroupOrThrow(groupId);
+        Set<UUID> requested = new LinkedHashSet<>(request.videoAssetIds());
+        int removed = membership.removeAll(groupId, requested);
+        ensurePrefixStillCovered(group);
+        return new VideoGroupAssetBulkResultDto(groupId, requested.size(), removed, List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public List<VideoGroupSummaryDto> groupsForAsset(UUID videoAssetId) {
+        ensureVideoAssetExists(videoAssetId);
+        return groupRepository.findAllById(membership.groupIds(videoAssetId)).stream()
+                .map(group -> new VideoGroupSummaryDto(group.getId(), group.getName()))
+                .sorted(Comparator.comparing(VideoGroupSummaryDto::name))
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -64,7 +112,25 @@ public class VideoAssetGroupAdminService {
         String sanitized = query == null ? "" : query.trim();
         List<VideoAssetGroup> results = groupRepository
                 .findTop50ByNameContainingIgnoreCaseOrderByNameAsc(sanitized);
-        return results.stream().map(VideoAssetGroupAdminService::toResponse).toList();
+        Map<UUID, List<UUID>> assets = membership.assetIdsByGroup(
+                results.stream().map(VideoAssetGroup::getId).toList());
+        return results.stream()
+                .map(group -> toResponse(group, assets.get(group.getId())))
+                .toList();
+    }
+
+    /** Rolls back a removal that would leave an asset under the group's prefix outside the group. */
+    private void ensurePrefixStillCovered(VideoAssetGroup group) {
+        String prefix = group.getCloudfrontPrefix();
+        if (prefix == null) {
+            return;
+        }
+        int outside = membership.assetsOutsideGroupUnderPrefix(group.getId(), prefix);
+        if (outside > 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Removing would leave %d video asset(s) under %s/ outside this group; clear the prefix first"
+                            .formatted(outside, prefix));
+        }
     }
 
     private VideoAssetGroup findGroupOrThrow(UUID id) {
@@ -80,11 +146,6 @@ public class VideoAssetGroupAdminService {
         }
     }
 
-    private static List<UUID> ensureMutableAssets(VideoAssetGroup group) {
-        List<UUID> assets = group.getVideoAssetIds();
-        return assets == null ? new ArrayList<>() : new ArrayList<>(assets);
-    }
-
     private static String normaliseName(String raw) {
         if (raw == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Video group name is required.");
@@ -96,12 +157,12 @@ public class VideoAssetGroupAdminService {
         return trimmed.toLowerCase(Locale.ROOT);
     }
 
-    private static VideoGroupResponseDto toResponse(VideoAssetGroup group) {
-        List<UUID> ids = group.getVideoAssetIds();
+    private static VideoGroupResponseDto toResponse(VideoAssetGroup group, List<UUID> assetIds) {
         return new VideoGroupResponseDto(
                 group.getId(),
                 group.getName(),
-                ids == null ? List.of() : List.copyOf(ids)
+                group.getCloudfrontPrefix(),
+                assetIds == null ? List.of() : List.copyOf(assetIds)
         );
     }
 }
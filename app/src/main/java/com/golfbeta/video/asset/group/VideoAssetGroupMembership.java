@@ -0,0 +1,151 @@
+package com.golfbeta.video.asset.group;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based access to {@code video_asset_group_member}. Bulk changes are single statements over an
+ * unnested uuid array, so their cost does not depend on how many assets the group already holds.
+ */
+@Component
+public class VideoAssetGroupMembership {
+
+    private final JdbcTemplate jdbc;
+
+    public VideoAssetGroupMembership(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public List<UUID> assetIds(UUID groupId) {
+        return jdbc.queryForList("""
+                SELECT video_asset_id FROM video_asset_group_member
+                WHERE group_id = ?
+                ORDER BY added_at, video_asset_id
+                """, UUID.class, groupId);
+    }
+
+    public Map<UUID, List<UUID>> assetIdsByGroup(Collection<UUID> groupIds) {
+        Map<UUID, List<UUID>> byGroup = new LinkedHashMap<>();
+        groupIds.forEach(id -> byGroup.put(id, new ArrayList<>()));
+        if (groupIds.isEmpty()) {
+            return byGroup;
+        }
+        jdbc.query("""
+                SELECT group_id, video_asset_id FROM video_asset_group_member
+                WHERE group_id = ANY (?)
+                ORDER BY group_id, added_at, video_asset_id
+                """, rs -> {
+            byGroup.get(rs.getObject("group_id", UUID.class)).add(rs.getObject("video_asset_id", UUID.class));
+        }, uuidArray(groupIds));
+        return byGroup;
+    }
+
+    /** Asset ids from {@code assetIds} that do not exist in {@code video_asset}. */
+    public List<UUID> missingAssets(Collection<UUID> assetIds) {
+        return jdbc.queryForList("""
+                SELECT requested.id
+                FROM unnest(?) AS requested(id)
+                WHERE NOT EXISTS (SELECT 1 FROM video_asset va WHERE va.id = requested.id)
+                """, UUID.class, uuidArray(assetIds));
+    }
+
+    /** Adds every existing asset in {@code assetIds}; returns how many were not already members. */
+    public int addAll(UUID groupId, Collection<UUID> assetIds) {
+        return jdbc.update("""
+                INSERT INTO video_asset_group_member (group_id, video_asset_id, added_at)
+                SELECT ?, requested.id, NOW() + (requested.ord * INTERVAL '1 microsecond')
+                FROM unnest(?) WITH ORDINALITY AS requested(id, ord)
+                JOIN video_asset va ON va.id = requested.id
+                ON CONFLICT (group_id, video_asset_id) DO NOTHING
+                """, groupId, uuidArray(assetIds));
+    }
+
+    public int removeAll(UUID groupId, Collection<UUID> assetIds) {
+        return jdbc.update("""
+                DELETE FROM video_asset_group_member
+                WHERE group_id = ? AND video_asset_id = ANY (?)
+                """, groupId, uuidArray(assetIds));
+    }
+
+    public List<UUID> groupIds(UUID assetId) {
+        return jdbc.queryForList("""
+                SELECT group_id FROM video_asset_group_member
+                WHERE video_asset_id = ?
+                """, UUID.class, assetId);
+    }
+
+    /** True when the asset at {@code videoPath} belongs to at least one of {@code groupIds}. */
+    public boolean anyGroupContainsVideo(Collection<UUID> groupIds, String videoPath) {
+        if (groupIds.isEmpty()) {
+            return false;
+        }
+        Boolean found = jdbc.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM video_asset va
+                    JOIN video_asset_group_member m ON m.video_asset_id = va.id
+                    WHERE va.video_path = ? AND m.group_id = ANY (?)
+                )
+                """, Boolean.class, videoPath, uuidArray(groupIds));
+        return Boolean.TRUE.equals(found);
+    }
+
+    /** The subset of {@code videoPaths} whose asset belongs to at least one of {@code groupIds}. */
+    public Set<String> videosInAnyGroup(Collection<UUID> groupIds, Collection<String> videoPaths) {
+        if (groupIds.isEmpty() || videoPaths.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbc.queryForList("""
+                SELECT DISTINCT va.video_path
+                FROM video_asset va
+                JOIN video_asset_group_member m ON m.video_asset_id = va.id
+                WHERE va.video_path = ANY (?) AND m.group_id = ANY (?)
+                """, String.class, new SqlArrayValue("text", videoPaths.toArray()), uuidArray(groupIds)));
+    }
+
+    /** How many assets live under {@code videos/<prefix>/} without being members of {@code groupId}. */
+    public int assetsOutsideGroupUnderPrefix(UUID groupId, String prefix) {
+        Integer count = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM video_asset va
+                WHERE starts_with(va.video_path, ?)
+                  AND NOT EXISTS (SELECT 1 FROM video_asset_group_member m
+                                  WHERE m.group_id = ? AND m.video_asset_id = va.id)
+                """, Integer.class, prefix + "/", groupId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Clears the CloudFront prefix of every group whose prefix now covers one of {@code videoPaths} without that
+     * asset being a member, so a newly registered clip never becomes readable through another group's cookies.
+     * Returns the ids of the groups that lost their prefix.
+     */
+    public List<UUID> clearPrefixesCoveringNonMembers(Collection<String> videoPaths) {
+        if (videoPaths.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.queryForList("""
+                UPDATE video_asset_groups g SET cloudfront_prefix = NULL
+                WHERE g.cloudfront_prefix IS NOT NULL
+                  AND EXISTS (SELECT 1 FROM video_asset va
+                              WHERE va.video_path = ANY (?)
+                                AND starts_with(va.video_path, g.cloudfront_prefix || '/')
+                                AND NOT EXISTS (SELECT 1 FROM video_asset_group_member m
+                                                WHERE m.group_id = g.id AND m.video_asset_id = va.id))
+                RETURNING g.id
+                """, UUID.class, new SqlArrayValue("text", videoPaths.toArray()));
+    }
+
+    private static SqlArrayValue uuidArray(Collection<UUID> ids) {
+        return new SqlArrayValue("uuid", ids.toArray());
+    }
+}
@@ -0,0 +1,11 @@
+package com.golfbeta.video.asset.group.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record VideoGroupAssetBulkResultDto(
+        UUID groupId,
+        int requested,
+        int changed,
+        List<UUID> missingVideoAssetIds
+) {}
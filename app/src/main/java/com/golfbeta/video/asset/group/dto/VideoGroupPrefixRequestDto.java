@@ -0,0 +1,8 @@
+package com.golfbeta.video.asset.group.dto;
+
+import jakarta.validation.constraints.Size;
+
+/** A blank or null prefix clears it. */
+public record VideoGroupPrefixRequestDto(
+        @Size(max = 512) String cloudfrontPrefix
+) {}
@@ -6,5 +6,6 @@ import java.util.UUID;
 public record VideoGroupResponseDto(
         UUID id,
         String name,
+        String cloudfrontPrefix,
         List<UUID> videoAssetIds
 ) {}
@@ -0,0 +1,8 @@
+package com.golfbeta.video.asset.group.dto;
+
+import java.util.UUID;
+
+public record VideoGroupSummaryDto(
+        UUID id,
+        String name
+) {}
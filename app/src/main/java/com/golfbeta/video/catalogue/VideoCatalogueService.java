@@ -0,0 +1,123 @@
+package com.golfbeta.video.catalogue;
+
+import com.golfbeta.shared.pagination.KeysetCursor;
+import com.golfbeta.video.catalogue.dto.VideoCatalogueItemDto;
+import com.golfbeta.video.catalogue.dto.VideoCataloguePageDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The set of videos a user may play, computed in one statement instead of per-video license checks.
+ * Mirrors {@code UserVideoLicenseService}: a license row decides on its own (granted only while ACTIVE and
+ * unexpired); videos without one are granted through the account type's groups, or all videos when the
+ * account type has no group list. The version is a digest of the whole set, so clients can cache the
+ * catalogue and pages from different versions are never stitched together.
+ */
+@Service
+public class VideoCatalogueService {
+
+    static final String SOURCE_LICENSE = "LICENSE";
+    static final String SOURCE_ACCOUNT_TYPE = "ACCOUNT_TYPE";
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 500;
+
+    private static final String ENTITLED = """
+            WITH me AS (
+                SELECT up.id AS profile_id, uat.account_type IS NOT NULL AS has_account_type, at.video_group_ids
+                FROM user_profile up
+                LEFT JOIN user_account_types uat ON uat.user_profile_id = up.id
+                LEFT JOIN account_type at ON at.name = uat.account_type
+                WHERE up.firebase_id = ?
+            ),
+            licensed AS (
+                SELECT l.video_id, l.status, l.expires_at
+                FROM user_video_license l
+                JOIN me ON l.user_profile_id = me.profile_id
+            ),
+            entitled AS (
+                SELECT video_id AS video_path, 'LICENSE' AS source, expires_at
+                FROM licensed
+                WHERE status = 'ACTIVE' AND (expires_at IS NULL OR expires_at >= NOW())
+                UNION ALL
+                SELECT va.video_path, 'ACCOUNT_TYPE', NULL
+                FROM video_asset va
+                CROSS JOIN me
+                WHERE me.has_account_type
+                  AND (me.video_group_ids IS NULL
+                       OR EXISTS (SELECT 1 FROM video_asset_group_member m
+                                  WHERE m.video_asset_id = va.id AND m.group_id = ANY (me.video_group_ids)))
+                  AND NOT EXISTS (SELECT 1 FROM licensed WHERE licensed.video_id = va.video_path)
+            )
+            """;
+
+    /**
+     * One page plus the version of the whole set. {@code entitled} is referenced twice, so Postgres
+     * materialises it and the entitlement joins run once per page.
+     */
+    private static final String PAGE = ENTITLED.stripTrailing() + """
+            ,
+            versioned AS (
+                SELECT md5(COALESCE(string_agg(
+                           video_path || '|' || source || '|' || COALESCE(EXTRACT(EPOCH FROM expires_at)::bigint::text, ''),
+                           E'\\n' ORDER BY video_path), '')) AS version
+                FROM entitled
+            )
+            SELECT v.version, e.video_path, e.source, e.expires_at
+            FROM versioned v
+            LEFT JOIN LATERAL (
+                SELECT video_path, source, expires_at FROM entitled
+                WHERE video_path > ?
+                ORDER BY video_path
+                LIMIT ?
+            ) e ON TRUE
+            ORDER BY e.video_path
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    public VideoCatalogueService(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Transactional(readOnly = true)
+    public VideoCataloguePageDto page(String uid, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<String> after = KeysetCursor.decode(cursor, 2);
+        String afterPath = after == null ? "" : after.get(1);
+
+        List<VideoCatalogueItemDto> rows = new ArrayList<>();
+        String version = jdbc.query(PAGE, rs -> {
+            String digest = null;
+            while (rs.next()) {
+                digest = rs.getString("version");
+                String videoPath = rs.getString("video_path");
+                if (videoPath != null) {
+                    Timestamp expiresAt = rs.getTimestamp("expires_at");
+                    rows.add(new VideoCatalogueItemDto(videoPath, rs.getString("source"),
+                            expiresAt == null ? null : expiresAt.toInstant()));
+                }
+            }
+            return digest;
+        }, uid, afterPath, pageSize + 1);
+
+        if (after != null && !after.get(0).equals(version)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Catalogue changed; restart from the first page");
+        }
+
+        List<VideoCatalogueItemDto> page = rows;
+        String next = null;
+        if (page.size() > pageSize) {
+            page = page.subList(0, pageSize);
+            next = KeysetCursor.encode(version, page.get(pageSize - 1).videoPath());
+        }
+        return new VideoCataloguePageDto(List.copyOf(page), next, version);
+    }
+}
@@ -0,0 +1,9 @@
+package com.golfbeta.video.catalogue.dto;
+
+import java.time.Instant;
+
+public record VideoCatalogueItemDto(
+        String videoPath,
+        String source,
+        Instant expiresAt
+) {}
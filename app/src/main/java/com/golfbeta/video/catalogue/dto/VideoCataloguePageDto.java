@@ -0,0 +1,9 @@
+package com.golfbeta.video.catalogue.dto;
+
+import java.util.List;
+
+public record VideoCataloguePageDto(
+        List<VideoCatalogueItemDto> items,
+        String nextCursor,
+        String version
+) {}
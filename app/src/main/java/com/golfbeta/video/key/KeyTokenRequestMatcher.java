@@ -0,0 +1,29 @@
+package com.golfbeta.video.key;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.StringUtils;
+
+/**
+ * Matches key fetches that authenticate with a key-delivery token rather than a Firebase bearer token.
+ * Such requests skip {@code FirebaseAuthFilter}; the controller verifies the token itself.
+ */
+public final class KeyTokenRequestMatcher implements RequestMatcher {
+
+    public static final KeyTokenRequestMatcher INSTANCE = new KeyTokenRequestMatcher();
+
+    static final String KEY_PATH = "/user/video/license/key";
+    public static final String TOKEN_PARAM = "token";
+
+    private KeyTokenRequestMatcher() {
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && KEY_PATH.equals(request.getRequestURI())
+                && StringUtils.hasText(request.getParameter(TOKEN_PARAM))
+                && request.getHeader(HttpHeaders.AUTHORIZATION) == null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.golfbeta.video.key;
+
+import com.golfbeta.video.VideoPathUtils;
+import com.golfbeta.video.asset.VideoKeyCache;
+import com.golfbeta.video.license.UserVideoLicenseService;
+import com.golfbeta.video.license.dto.VideoLicenseStatusResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the offline download key bundle: one license evaluation pass for all requested lessons, then the
+ * permitted keys in a compact big-endian binary frame.
+ *
+ * <pre>
+ * header: "GBKB" | u8 version (1) | i64 issuedAt (epoch s) | u16 itemCount
+ * item:   u16 pathLength | path (UTF-8) | u8 status ({@link VideoKeyBundleStatus})
+ *         [GRANTED only: u32 keyVersion | i64 expiresAt (epoch s) | 16 key bytes]
+ * </pre>
+ *
+ * Items follow request order with duplicates removed. {@code expiresAt} is the earlier of the license expiry
+ * and {@code video.offline.key-validity}, after which the app must drop the key and re-sync.
+ */
+@Service
+public class VideoKeyBundleService {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoKeyBundleService.class);
+
+    public static final String MEDIA_TYPE = "application/vnd.golfbeta.key-bundle";
+    private static final byte[] MAGIC = {'G', 'B', 'K', 'B'};
+    private static final int FORMAT_VERSION = 1;
+
+    private final UserVideoLicenseService licenseService;
+    private final VideoKeyCache keyCache;
+    private final Duration offlineValidity;
+
+    public VideoKeyBundleService(UserVideoLicenseService licenseService,
+                                 VideoKeyCache keyCache,
+                                 @Value("${video.offline.key-validity:P7D}") Duration offlineValidity) {
+        this.licenseService = licenseService;
+        this.keyCache = keyCache;
+        this.offlineValidity = offlineValidity;
+    }
+
+    public byte[] buildBundle(String uid, List<String> videoPaths) {
+        Set<String> paths = new LinkedHashSet<>();
+        videoPaths.forEach(path -> paths.add(VideoPathUtils.normalise(path)));
+
+        Map<String, VideoLicenseStatusResponseDto> decisions = licenseService.evaluateForPlayback(uid, paths);
+        List<String> granted = paths.stream().filter(path -> decisions.get(path).licenseGranted()).toList();
+        Map<String, VideoKeyCache.VideoKey> keys = keyCache.findAll(granted);
+
+        Instant now = Instant.now();
+        Instant offlineExpiry = now.plus(offlineValidity);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + paths.size() * 96);
+        int grantedCount = 0;
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.write(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(now.getEpochSecond());
+            out.writeShort(paths.size());
+            for (String path : paths) {
+                byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(pathBytes.length);
+                out.write(pathBytes);
+
+                VideoLicenseStatusResponseDto decision = decisions.get(path);
+                VideoKeyCache.VideoKey key = keys.get(path);
+                if (!decision.licenseGranted()) {
+                    out.writeByte(VideoKeyBundleStatus.denied(decision.denialReason()).code());
+                } else if (key == null) {
+                    out.writeByte(VideoKeyBundleStatus.KEY_UNAVAILABLE.code());
+                } else {
+                    Instant expiresAt = decision.expiresAt() != null && decision.expiresAt().isBefore(offlineExpiry)
+                            ? decision.expiresAt()
+                            : offlineExpiry;
+                    out.writeByte(VideoKeyBundleStatus.GRANTED.code());
+                    out.writeInt(key.keyVersion());
+                    out.writeLong(expiresAt.getEpochSecond());
+                    out.write(key.bytes());
+                    grantedCount++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Issued key bundle uid={} requested={} granted={}", uid, paths.size(), grantedCount);
+        return buffer.toByteArray();
+    }
+}
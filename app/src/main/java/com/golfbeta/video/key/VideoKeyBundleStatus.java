@@ -0,0 +1,35 @@
+package com.golfbeta.video.key;
+
+import com.golfbeta.video.license.VideoLicenseDenialReason;
+
+/** Per-item status byte in a key bundle. Codes are part of the wire format; append only. */
+public enum VideoKeyBundleStatus {
+    GRANTED(0),
+    LICENSE_NOT_FOUND(1),
+    LICENSE_SUSPENDED(2),
+    LICENSE_REVOKED(3),
+    LICENSE_EXPIRED(4),
+    KEY_UNAVAILABLE(5);
+
+    private final int code;
+
+    VideoKeyBundleStatus(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    static VideoKeyBundleStatus denied(VideoLicenseDenialReason reason) {
+        if (reason == null) {
+            return LICENSE_NOT_FOUND;
+        }
+        return switch (reason) {
+            case LICENSE_NOT_FOUND -> LICENSE_NOT_FOUND;
+            case LICENSE_SUSPENDED -> LICENSE_SUSPENDED;
+            case LICENSE_REVOKED -> LICENSE_REVOKED;
+            case LICENSE_EXPIRED -> LICENSE_EXPIRED;
+        };
+    }
+}
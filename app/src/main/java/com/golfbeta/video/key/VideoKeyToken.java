@@ -0,0 +1,6 @@
+package com.golfbeta.video.key;
+
+import java.time.Instant;
+
+public record VideoKeyToken(String uid, String videoPath, int keyVersion, Instant expiresAt) {
+}
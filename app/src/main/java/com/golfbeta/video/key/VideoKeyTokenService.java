@@ -0,0 +1,128 @@
+package com.golfbeta.video.key;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Issues and verifies key-delivery tokens: {@code base64url(v1|uid|videoPath|keyVersion|expiresAt)} plus an
+ * HMAC-SHA256 over that payload. A token is handed out after a full license check when a playback session
+ * starts, and lets the player fetch keys until it expires without Firebase verification or database reads.
+ * Disabled when {@code video.key-token.secret} is not set.
+ */
+@Service
+public class VideoKeyTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoKeyTokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final char FIELD_SEPARATOR = '\n';
+    private static final Pattern FIELDS = Pattern.compile(String.valueOf(FIELD_SEPARATOR));
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final Mac prototype;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public VideoKeyTokenService(@Value("${video.key-token.secret:}") String secretBase64,
+                                @Value("${video.key-token.ttl:PT10M}") Duration ttl) {
+        this(secretBase64, ttl, Clock.systemUTC());
+    }
+
+    VideoKeyTokenService(String secretBase64, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.prototype = StringUtils.hasText(secretBase64) ? initMac(secretBase64) : null;
+        if (prototype == null) {
+            log.info("VIDEO_KEY_TOKEN_SECRET not set; key-delivery tokens are disabled");
+        }
+    }
+
+    public boolean isEnabled() {
+        return prototype != null;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    /** @return the token, or {@code null} when tokens are disabled */
+    public String issue(String uid, String videoPath, int keyVersion) {
+        if (prototype == null) {
+            return null;
+        }
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = VERSION + FIELD_SEPARATOR + uid + FIELD_SEPARATOR + videoPath
+                + FIELD_SEPARATOR + keyVersion + FIELD_SEPARATOR + expiresAt;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(payloadBytes));
+    }
+
+    /** Pure CPU: checks the signature and expiry and returns the claims, or empty if the token is not valid now. */
+    public Optional<VideoKeyToken> verify(String token) {
+        if (prototype == null || token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(token.substring(0, dot));
+            byte[] signature = decoder.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payloadBytes))) {
+                return Optional.empty();
+            }
+            String[] fields = FIELDS.split(new String(payloadBytes, StandardCharsets.UTF_8), -1);
+            if (fields.length != 5 || !VERSION.equals(fields[0])) {
+                return Optional.empty();
+            }
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(fields[4]));
+            if (!clock.instant().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new VideoKeyToken(fields[1], fields[2], Integer.parseInt(fields[3]), expiresAt));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " does not support cloning", e);
+        }
+    }
+
+    private static Mac initMac(String secretBase64) {
+        byte[] secret = Base64.getDecoder().decode(secretBase64.trim());
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("video.key-token.secret must decode to at least %d bytes".formatted(MIN_SECRET_BYTES));
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+}
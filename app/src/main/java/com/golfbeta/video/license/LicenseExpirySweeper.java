@@ -0,0 +1,213 @@
+package com.golfbeta.video.license;
+
+import com.golfbeta.notifications.NotificationDraft;
+import com.golfbeta.notifications.NotificationInboxService;
+import com.golfbeta.notifications.NotificationType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.SqlArrayValue;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Moves ACTIVE licenses past {@code expires_at} to EXPIRED and sends "expires soon" / "expired" inbox
+ * notifications, so expiry is a stored status rather than something each request rediscovers.
+ *
+ * <p>The periodic sweep works in bounded batches of {@code FOR UPDATE SKIP LOCKED} rows on the partial V20
+ * index; every transition is an {@code UPDATE ... WHERE status = 'ACTIVE'}, so concurrent instances never
+ * notify twice. Licenses expiring before the next sweep are also held in an in-memory wheel of one-second
+ * buckets, and a per-second tick expires them on time instead of up to one sweep interval late.
+ */
+@Component
+@ConditionalOnProperty(prefix = "video.license.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LicenseExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(LicenseExpirySweeper.class);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("d MMM yyyy").withZone(ZoneOffset.UTC);
+
+    private static final String EXPIRE_DUE = """
+            WITH due AS (
+                SELECT id FROM user_video_license
+                WHERE status = 'ACTIVE' AND expires_at IS NOT NULL AND expires_at < NOW()
+                ORDER BY expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE user_video_license l
+            SET status = 'EXPIRED', updated_at = NOW()
+            FROM due
+            WHERE l.id = due.id
+            RETURNING l.id, l.user_profile_id, l.video_id, l.expires_at
+            """;
+
+    private static final String EXPIRE_IDS = """
+            WITH due AS (
+                SELECT id FROM user_video_license
+                WHERE id = ANY (?) AND status = 'ACTIVE' AND expires_at < NOW()
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE user_video_license l
+            SET status = 'EXPIRED', updated_at = NOW()
+            FROM due
+            WHERE l.id = due.id
+            RETURNING l.id, l.user_profile_id, l.video_id, l.expires_at
+            """;
+
+    private static final String WARN_DUE = """
+            WITH due AS (
+                SELECT id FROM user_video_license
+                WHERE status = 'ACTIVE' AND expires_at >= NOW() AND expires_at < ? AND expiry_warned_at IS NULL
+                ORDER BY expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE user_video_license l
+            SET expiry_warned_at = NOW()
+            FROM due
+            WHERE l.id = due.id
+            RETURNING l.id, l.user_profile_id, l.video_id, l.expires_at
+            """;
+
+    private static final String EXPIRING_WITHIN = """
+            SELECT id, expires_at FROM user_video_license
+            WHERE status = 'ACTIVE' AND expires_at >= NOW() AND expires_at < ?
+            ORDER BY expires_at
+            LIMIT ?
+            """;
+
+    private static final RowMapper<Transition> TRANSITION = (rs, rowNum) -> new Transition(
+            rs.getObject("id", UUID.class),
+            rs.getObject("user_profile_id", UUID.class),
+            rs.getString("video_id"),
+            rs.getTimestamp("expires_at").toInstant());
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final NotificationInboxService notifications;
+    private final int batchSize;
+    private final int maxBatchesPerSweep;
+    private final Duration warnBefore;
+    private final Duration wheelHorizon;
+
+    /** Epoch second (rounded up past {@code expires_at}) to the license ids due in that second. */
+    private volatile ConcurrentNavigableMap<Long, Set<UUID>> wheel = new ConcurrentSkipListMap<>();
+
+    public LicenseExpirySweeper(JdbcTemplate jdbc,
+                                PlatformTransactionManager transactionManager,
+                                NotificationInboxService notifications,
+                                @Value("${video.license.expiry.batch-size:500}") int batchSize,
+                                @Value("${video.license.expiry.max-batches-per-sweep:20}") int maxBatchesPerSweep,
+                                @Value("${video.license.expiry.warn-before:P3D}") Duration warnBefore,
+                                @Value("${video.license.expiry.sweep-interval:PT1M}") Duration sweepInterval) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.notifications = notifications;
+        this.batchSize = batchSize;
+        this.maxBatchesPerSweep = maxBatchesPerSweep;
+        this.warnBefore = warnBefore;
+        this.wheelHorizon = sweepInterval.multipliedBy(2);
+    }
+
+    @Scheduled(fixedDelayString = "${video.license.expiry.sweep-interval:PT1M}", initialDelayString = "PT30S")
+    void sweep() {
+        int expired = drain(() -> jdbc.query(EXPIRE_DUE, TRANSITION, batchSize), NotificationType.VIDEO_LICENSE_EXPIRED);
+        Timestamp warnUntil = Timestamp.from(Instant.now().plus(warnBefore));
+        int warned = drain(() -> jdbc.query(WARN_DUE, TRANSITION, warnUntil, batchSize), NotificationType.VIDEO_LICENSE_EXPIRING);
+        reloadWheel();
+        if (expired > 0 || warned > 0) {
+            log.info("License expiry sweep: expired={} warned={} scheduled={}", expired, warned, scheduledCount());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1S")
+    void tick() {
+        ConcurrentNavigableMap<Long, Set<UUID>> due = wheel.headMap(Instant.now().getEpochSecond(), true);
+        if (due.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = new ArrayList<>();
+        due.values().forEach(ids::addAll);
+        due.clear();
+        List<Transition> expired = tx.execute(status -> {
+            List<Transition> rows = jdbc.query(EXPIRE_IDS, TRANSITION, new SqlArrayValue("uuid", ids.toArray()));
+            notify(rows, NotificationType.VIDEO_LICENSE_EXPIRED);
+            return rows;
+        });
+        log.debug("License expiry tick: due={} expired={}", ids.size(), expired == null ? 0 : expired.size());
+    }
+
+    int scheduledCount() {
+        return wheel.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /** Runs {@code batch} in its own transaction until it returns a short batch or the per-sweep cap is hit. */
+    private int drain(BatchQuery batch, NotificationType type) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerSweep; i++) {
+            List<Transition> rows = tx.execute(status -> {
+                List<Transition> claimed = batch.run();
+                notify(claimed, type);
+                return claimed;
+            });
+            int count = rows == null ? 0 : rows.size();
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void reloadWheel() {
+        Timestamp horizon = Timestamp.from(Instant.now().plus(wheelHorizon));
+        ConcurrentNavigableMap<Long, Set<UUID>> next = new ConcurrentSkipListMap<>();
+        jdbc.query(EXPIRING_WITHIN, rs -> {
+            long second = rs.getTimestamp("expires_at").toInstant().getEpochSecond() + 1;
+            next.computeIfAbsent(second, s -> ConcurrentHashMap.newKeySet()).add(rs.getObject("id", UUID.class));
+        }, horizon, batchSize * maxBatchesPerSweep);
+        wheel = next;
+    }
+
+    private void notify(Collection<Transition> rows, NotificationType type) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        notifications.createAll(rows.stream()
+                .map(row -> NotificationDraft.system(row.userProfileId(), type, message(row, type)))
+                .toList());
+    }
+
+    private static String message(Transition row, NotificationType type) {
+        return type == NotificationType.VIDEO_LICENSE_EXPIRING
+                ? "Your access to %s expires on %s.".formatted(row.videoId(), DATE.format(row.expiresAt()))
+                : "Your access to %s has expired.".formatted(row.videoId());
+    }
+
+    @FunctionalInterface
+    private interface BatchQuery {
+        List<Transition> run();
+    }
+
+    private record Transition(UUID id, UUID userProfileId, String videoId, Instant expiresAt) {
+    }
+}
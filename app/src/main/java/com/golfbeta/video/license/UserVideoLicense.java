@@ -34,6 +34,9 @@ public class UserVideoLicense {
     @Column(name = "expires_at")
     private Instant expiresAt;
 
+    @Column(name = "expiry_warned_at")
+    private Instant expiryWarnedAt;
+
     @Column(name = "last_validated_at")
     private Instant lastValidatedAt;
 
@@ -1,6 +1,7 @@
 package com.golfbeta.video.license;
 
 import com.golfbeta.admin.audit.AdminAuditLogService;
+import com.golfbeta.admin.audit.AuditDetails;
 import com.golfbeta.admin.AdminAuthorization;
 import com.golfbeta.video.license.dto.VideoLicenseAdminRequestDto;
 import com.golfbeta.video.license.dto.VideoLicenseAdminResponseDto;
@@ -36,8 +37,8 @@ public class UserVideoLicenseAdminController {
         adminAuthorization.assertAdmin(uid);
         VideoLicenseAdminResponseDto response = adminService.upsert(request);
         auditLogService.record(uid, "VIDEO_LICENSE_UPSERT",
-                "userId=%s,videoPath=%s,status=%s,expiresAt=%s".formatted(
-                        request.userId(), request.videoPath(), request.status(), request.expiresAt()));
+                AuditDetails.of("userId", request.userId(), "videoPath", request.videoPath(),
+                        "status", request.status(), "expiresAt", request.expiresAt()));
         return response;
     }
 
@@ -49,6 +50,6 @@ public class UserVideoLicenseAdminController {
         adminAuthorization.assertAdmin(uid);
         adminService.delete(userId, videoPath);
         auditLogService.record(uid, "VIDEO_LICENSE_DELETE",
-                "userId=%s,videoPath=%s".formatted(userId, videoPath));
+                AuditDetails.of("userId", userId, "videoPath", videoPath));
     }
 }
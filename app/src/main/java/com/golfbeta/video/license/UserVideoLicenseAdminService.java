@@ -11,6 +11,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class UserVideoLicenseAdminService {
@@ -35,6 +38,12 @@ public class UserVideoLicenseAdminService {
 
         if (request.status() != null) {
             license.setStatus(request.status());
+        } else if (license.getStatus() == VideoLicenseStatus.EXPIRED
+                && (request.expiresAt() == null || request.expiresAt().isAfter(Instant.now()))) {
+            license.setStatus(VideoLicenseStatus.ACTIVE); // extending an expired license reinstates it
+        }
+        if (!Objects.equals(license.getExpiresAt(), request.expiresAt())) {
+            license.setExpiryWarnedAt(null);
         }
         license.setExpiresAt(request.expiresAt());
 
@@ -4,10 +4,7 @@ import com.golfbeta.account.AccountType;
 import com.golfbeta.account.UserAccountType;
 import com.golfbeta.account.UserAccountTypeRepository;
 import com.golfbeta.video.VideoPathUtils;
-import com.golfbeta.video.asset.VideoAsset;
-import com.golfbeta.video.asset.group.VideoAssetGroup;
-import com.golfbeta.video.asset.group.VideoAssetGroupRepository;
-import com.golfbeta.video.asset.VideoAssetRepository;
+import com.golfbeta.video.asset.group.VideoAssetGroupMembership;
 import com.golfbeta.video.license.dto.VideoLicenseStatusResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -16,8 +13,14 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,8 +28,7 @@ public class UserVideoLicenseService {
 
     private final UserVideoLicenseRepository repository;
     private final UserAccountTypeRepository userAccountTypeRepository;
-    private final VideoAssetRepository videoAssetRepository;
-    private final VideoAssetGroupRepository videoAssetGroupRepository;
+    private final VideoAssetGroupMembership groupMembership;
 
     @Transactional
     public VideoLicenseStatusResponseDto checkLicenseStatus(String userId, String videoPath) {
@@ -44,6 +46,32 @@ public class UserVideoLicenseService {
         return normalisedVideoId;
     }
 
+    /**
+     * Evaluates many videos for one user with a fixed number of queries (licenses, account type, group
+     * membership), in the same order as {@code normalisedVideoIds}. Granted licenses get
+     * {@code lastValidatedAt} stamped exactly as a single playback check would.
+     */
+    @Transactional
+    public Map<String, VideoLicenseStatusResponseDto> evaluateForPlayback(String userId,
+                                                                         Collection<String> normalisedVideoIds) {
+        Instant now = Instant.now();
+        Map<String, UserVideoLicense> licenses = repository
+                .findByUserProfileFirebaseIdAndVideoIdIn(userId, normalisedVideoIds).stream()
+                .collect(Collectors.toMap(UserVideoLicense::getVideoId, Function.identity()));
+
+        List<String> unlicensed = normalisedVideoIds.stream().filter(id -> !licenses.containsKey(id)).toList();
+        Set<String> grantedByAccountType = unlicensed.isEmpty() ? Set.of() : accountTypeAllowedVideos(userId, unlicensed);
+
+        Map<String, VideoLicenseStatusResponseDto> decisions = new LinkedHashMap<>();
+        for (String videoId : normalisedVideoIds) {
+            UserVideoLicense license = licenses.get(videoId);
+            decisions.put(videoId, license != null
+                    ? buildDecision(license, now, true)
+                    : accountTypeDecision(videoId, grantedByAccountType.contains(videoId), now));
+        }
+        return decisions;
+    }
+
     private VideoLicenseStatusResponseDto evaluateLicense(String userId,
                                                           String videoId,
                                                           boolean updateLastValidated) {
@@ -61,6 +89,7 @@ public class UserVideoLicenseService {
         boolean granted = false;
 
         if (status == VideoLicenseStatus.ACTIVE) {
+            // The sweeper flips expired rows to EXPIRED; this covers the gap until its next run.
             boolean expired = license.getExpiresAt() != null && license.getExpiresAt().isBefore(now);
             if (!expired) {
                 granted = true;
@@ -74,6 +103,8 @@ public class UserVideoLicenseService {
             denialReason = VideoLicenseDenialReason.LICENSE_SUSPENDED;
         } else if (status == VideoLicenseStatus.REVOKED) {
             denialReason = VideoLicenseDenialReason.LICENSE_REVOKED;
+        } else if (status == VideoLicenseStatus.EXPIRED) {
+            denialReason = VideoLicenseDenialReason.LICENSE_EXPIRED;
         }
 
         return new VideoLicenseStatusResponseDto(
@@ -89,7 +120,12 @@ public class UserVideoLicenseService {
     private VideoLicenseStatusResponseDto deriveAccountTypeDecision(String userId,
                                                                     String videoId,
                                                                     Instant now) {
-        boolean grantedByAccountType = accountTypeAllowsVideo(userId, videoId);
+        return accountTypeDecision(videoId, accountTypeAllowsVideo(userId, videoId), now);
+    }
+
+    private static VideoLicenseStatusResponseDto accountTypeDecision(String videoId,
+                                                                     boolean grantedByAccountType,
+                                                                     Instant now) {
         if (grantedByAccountType) {
             return new VideoLicenseStatusResponseDto(
                     videoId,
@@ -117,6 +153,19 @@ public class UserVideoLicenseService {
                 .orElse(false);
     }
 
+    private Set<String> accountTypeAllowedVideos(String userId, Collection<String> videoIds) {
+        return userAccountTypeRepository.findByUserProfileFirebaseId(userId)
+                .map(UserAccountType::getAccountType)
+                .map(accountType -> {
+                    List<UUID> groupIds = accountType.getVideoGroupIds();
+                    if (groupIds == null) {
+                        return Set.copyOf(videoIds); // admin: all groups implicitly included
+                    }
+                    return groupMembership.videosInAnyGroup(groupIds, videoIds);
+                })
+                .orElse(Set.of());
+    }
+
     private boolean doesAccountTypeAllowVideo(AccountType accountType, String videoId) {
         List<UUID> groupIds = accountType.getVideoGroupIds();
         if (groupIds == null) {
@@ -126,13 +175,7 @@ public class UserVideoLicenseService {
             return false;
         }
 
-        return videoAssetRepository.findByVideoPath(videoId)
-                .map(VideoAsset::getId)
-                .map(assetId -> videoAssetGroupRepository.findAllById(groupIds).stream()
-                        .map(VideoAssetGroup::getVideoAssetIds)
-                        .filter(ids -> ids != null && !ids.isEmpty())
-                        .anyMatch(ids -> ids.contains(assetId)))
-                .orElse(false);
+        return groupMembership.anyGroupContainsVideo(groupIds, videoId);
     }
 
     private static String denialMessage(VideoLicenseStatusResponseDto decision) {
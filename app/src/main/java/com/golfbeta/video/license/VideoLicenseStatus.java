@@ -3,5 +3,7 @@ package com.golfbeta.video.license;
 public enum VideoLicenseStatus {
     ACTIVE,
     SUSPENDED,
-    REVOKED
+    REVOKED,
+    /** Set by {@link LicenseExpirySweeper} once {@code expiresAt} has passed. */
+    EXPIRED
 }
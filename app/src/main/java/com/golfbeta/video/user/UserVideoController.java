@@ -2,22 +2,39 @@ package com.golfbeta.video.user;
 
 import com.golfbeta.video.VideoCodec;
 import com.golfbeta.video.asset.VideoAssetService;
+import com.golfbeta.video.catalogue.VideoCatalogueService;
+import com.golfbeta.video.catalogue.dto.VideoCataloguePageDto;
+import com.golfbeta.video.asset.VideoKeyCache;
+import com.golfbeta.video.VideoPathUtils;
+import com.golfbeta.video.key.KeyTokenRequestMatcher;
+import com.golfbeta.video.key.VideoKeyBundleService;
+import com.golfbeta.video.key.VideoKeyToken;
+import com.golfbeta.video.key.VideoKeyTokenService;
 import com.golfbeta.video.user.dto.UserVideoResponseDto;
+import com.golfbeta.video.user.dto.VideoKeyBundleRequestDto;
+import com.golfbeta.video.user.dto.VideoSessionCookiesDto;
 import com.golfbeta.video.license.dto.VideoLicenseStatusResponseDto;
 import com.golfbeta.video.license.UserVideoLicenseService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/user/video")
@@ -29,6 +46,11 @@ public class UserVideoController {
     private final UserVideoService service;
     private final UserVideoLicenseService licenseService;
     private final VideoAssetService assetService;
+    private final VideoKeyTokenService keyTokenService;
+    private final VideoKeyCache keyCache;
+    private final VideoKeyBundleService keyBundleService;
+    private final VideoCatalogueService catalogueService;
+    private final VideoSessionCookieService sessionCookieService;
 
     @GetMapping
     public UserVideoResponseDto getVideo(@AuthenticationPrincipal String uid,
@@ -37,6 +59,40 @@ public class UserVideoController {
         return service.createPresignedUrls(uid, videoPath, codec);
     }
 
+    /**
+     * CloudFront cookie sets covering every prefix the caller's account type grants. Refetch after
+     * {@code refreshAt}; an empty list means every clip is signed individually by {@code GET /user/video}.
+     */
+    @GetMapping("/session-cookies")
+    public ResponseEntity<VideoSessionCookiesDto> sessionCookies(@AuthenticationPrincipal String uid) {
+        VideoSessionCookiesDto body = sessionCookieService.forUser(uid)
+                .map(session -> new VideoSessionCookiesDto(
+                        session.scopes().stream()
+                                .map(scope -> new VideoSessionCookiesDto.Scope(scope.resourcePrefix(), scope.cookies()))
+                                .toList(),
+                        session.expiresAt(),
+                        session.refreshAt()))
+                .orElseGet(() -> new VideoSessionCookiesDto(List.of(), null, null));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    /**
+     * Paths the caller may play, ordered by path. The ETag is the catalogue version, so an unchanged
+     * catalogue answers {@code If-None-Match} with 304.
+     */
+    @GetMapping("/catalogue")
+    public ResponseEntity<VideoCataloguePageDto> catalogue(@AuthenticationPrincipal String uid,
+                                                           @RequestParam(value = "cursor", required = false) String cursor,
+                                                           @RequestParam(value = "limit", required = false) Integer limit) {
+        VideoCataloguePageDto page = catalogueService.page(uid, cursor, limit);
+        return ResponseEntity.ok()
+                .eTag(page.version())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(page);
+    }
+
     @GetMapping("/license/status")
     public VideoLicenseStatusResponseDto checkLicense(@AuthenticationPrincipal String uid,
                                                       @RequestParam("videoPath") @NotBlank String videoPath) {
@@ -46,9 +102,15 @@ public class UserVideoController {
     @GetMapping(value = "/license/key", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
     public ResponseEntity<byte[]> fetchLicenseKey(@AuthenticationPrincipal String uid,
                                                   @RequestParam("videoPath") @NotBlank String videoPath,
-                                                  @RequestParam(value = "codec", required = false) VideoCodec codec) {
-        String normalisedPath = licenseService.ensureLicenseForPlayback(uid, videoPath);
-        byte[] keyBytes = assetService.resolveKeyBytesOrThrow(normalisedPath);
+                                                  @RequestParam(value = "codec", required = false) VideoCodec codec,
+                                                  @RequestParam(value = KeyTokenRequestMatcher.TOKEN_PARAM, required = false) String token) {
+        byte[] keyBytes;
+        if (uid == null && token != null) {
+            keyBytes = resolveKeyWithToken(token, videoPath);
+        } else {
+            String normalisedPath = licenseService.ensureLicenseForPlayback(uid, videoPath);
+            keyBytes = assetService.resolveKeyBytesOrThrow(normalisedPath);
+        }
 
         return ResponseEntity.ok()
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
@@ -56,4 +118,38 @@ public class UserVideoController {
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .body(keyBytes);
     }
+
+    /** Offline sync: every permitted key for the requested lessons in one binary frame. */
+    @PostMapping(value = "/license/bundle", produces = VideoKeyBundleService.MEDIA_TYPE)
+    public ResponseEntity<byte[]> fetchLicenseKeyBundle(@AuthenticationPrincipal String uid,
+                                                        @Valid @RequestBody VideoKeyBundleRequestDto request) {
+        byte[] bundle = keyBundleService.buildBundle(uid, request.videoPaths());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(VideoKeyBundleService.MEDIA_TYPE))
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.PRAGMA, "no-cache")
+                .body(bundle);
+    }
+
+    /**
+     * Key-token path: the license was evaluated when the token was issued, so this only checks the signature,
+     * expiry and path binding, then serves the key from memory. A version mismatch means the key was rotated
+     * since issue; the cache is refreshed once and the player must start a new session if it still differs.
+     */
+    private byte[] resolveKeyWithToken(String token, String videoPath) {
+        VideoKeyToken claims = keyTokenService.verify(token)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired key token"));
+        if (!claims.videoPath().equals(VideoPathUtils.normalise(videoPath))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Key token not valid for this video");
+        }
+        VideoKeyCache.VideoKey key = keyCache.require(claims.videoPath());
+        if (key.keyVersion() != claims.keyVersion()) {
+            key = keyCache.refresh(claims.videoPath());
+            if (key.keyVersion() != claims.keyVersion()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Video key rotated; request a new playback session");
+            }
+        }
+        return key.bytes().clone();
+    }
 }
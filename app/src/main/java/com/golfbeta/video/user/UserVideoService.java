@@ -1,25 +1,30 @@
 package com.golfbeta.video.user;
 
 import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.shared.logging.EventLog;
 import com.golfbeta.video.user.dto.UserVideoResponseDto;
 import com.golfbeta.video.VideoCodec;
+import com.golfbeta.video.asset.VideoKeyCache;
+import com.golfbeta.video.key.VideoKeyTokenService;
 import com.golfbeta.video.license.UserVideoLicenseService;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class UserVideoService {
 
-    private static final Logger log = LoggerFactory.getLogger(UserVideoService.class);
-
     private final UserVideoLicenseService licenseService;
     private final CloudFrontSignedUrlService cloudFrontSignedUrlService;
+    private final VideoKeyTokenService keyTokenService;
+    private final VideoKeyCache keyCache;
+    private final VideoSessionCookieService sessionCookieService;
+    private final EventLog eventLog;
 
     @Value("${aws.cloudfront.signed-url-duration-seconds}")
     private long signedUrlDurationSeconds;
@@ -38,6 +43,26 @@ public class UserVideoService {
         String prefix = "videos/" + normalisedPath;
         String videoKey = prefix + "/" + baseName + "_sourcefps_" + codec.value() + ".mp4";
         String metadataKey = prefix + "/" + baseName + "_metadata.json";
+        String keyToken = keyTokenService.isEnabled()
+                ? keyTokenService.issue(uid, normalisedPath, keyCache.require(normalisedPath).keyVersion())
+                : null;
+
+        Optional<VideoSessionCookieService.SessionCookies> session = sessionCookieService.forUser(uid);
+        Optional<VideoSessionCookieService.Scope> sessionScope = session.flatMap(s -> s.covering(normalisedPath));
+        if (sessionScope.isPresent()) {
+            // The caller's session cookies already cover this clip, so nothing needs signing.
+            long remaining = Math.max(0, Duration.between(Instant.now(), session.get().expiresAt()).getSeconds());
+            emitPlayback(uid, normalisedPath, codec, remaining, sessionScope.get().resourcePrefix());
+            return new UserVideoResponseDto(
+                    cloudFrontSignedUrlService.resourceUrl(videoKey),
+                    cloudFrontSignedUrlService.resourceUrl(metadataKey),
+                    codec,
+                    remaining,
+                    null,
+                    keyToken,
+                    sessionScope.get().resourcePrefix()
+            );
+        }
 
         String videoSignedUrl = cloudFrontSignedUrlService.generateSignedUrl(videoKey, duration);
         String metadataSignedUrl = cloudFrontSignedUrlService.generateSignedUrl(metadataKey, duration);
@@ -47,11 +72,23 @@ public class UserVideoService {
                 metadataSignedUrl,
                 codec,
                 duration.getSeconds(),
-                cloudFrontSignedUrlService.generateSignedCookies(cookieResourcePrefix, duration)
+                cloudFrontSignedUrlService.generateSignedCookies(cookieResourcePrefix, duration),
+                keyToken,
+                null
         );
-        log.info("Generated signed URLs for uid={} videoPath={} codec={} videoKey={} metadataKey={} ttl={}s",
-                uid, normalisedPath, codec, videoKey, metadataKey, duration.getSeconds());
+        emitPlayback(uid, normalisedPath, codec, duration.getSeconds(), null);
 
         return userVideoResponseDto;
     }
+
+    /** {@code sessionScope} is the covering cookie scope, or null when the clip was signed individually. */
+    private void emitPlayback(String uid, String normalisedPath, VideoCodec codec, long ttlSeconds, String sessionScope) {
+        eventLog.event("video.playback", "signed_urls")
+                .str("uid", uid)
+                .str("videoPath", normalisedPath)
+                .str("codec", codec.value())
+                .num("ttlSeconds", ttlSeconds)
+                .str("sessionScope", sessionScope)
+                .emit();
+    }
 }
@@ -0,0 +1,164 @@
+package com.golfbeta.video.user;
+
+import com.golfbeta.account.AccountType;
+import com.golfbeta.account.UserAccountType;
+import com.golfbeta.account.UserAccountTypeRepository;
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.video.asset.group.VideoAssetGroup;
+import com.golfbeta.video.asset.group.VideoAssetGroupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session-wide CloudFront signed cookies, one set per path prefix an account type grants: {@code videos/} for
+ * account types without a group list, otherwise {@code videos/<prefix>/} for each granted group that has a
+ * {@code cloudfront_prefix}. Custom policies carry no user data, so a set is signed once per account type and
+ * shared until it is due for refresh. Clips outside every scope fall back to per-clip signing.
+ * <p>
+ * Only HLS segments are encrypted; the source MP4s and metadata under a prefix are readable by anyone holding its
+ * cookies. A user with a suspended, revoked or expired license for any clip under a prefix is therefore not given
+ * that prefix's scope and gets per-clip signed URLs instead, which the license check guards. Cookies handed out
+ * before the denial stay valid until they expire, at most {@code lifetime} later.
+ */
+@Service
+public class VideoSessionCookieService {
+
+    static final String VIDEO_ROOT = "videos/";
+
+    private final CloudFrontSignedUrlService signer;
+    private final UserAccountTypeRepository userAccountTypeRepository;
+    private final VideoAssetGroupRepository groupRepository;
+    private final JdbcTemplate jdbc;
+    private final boolean enabled;
+    private final Duration lifetime;
+    private final Duration refreshBefore;
+
+    private final Map<AccountTypeKey, SessionCookies> byAccountType = new ConcurrentHashMap<>();
+
+    public VideoSessionCookieService(CloudFrontSignedUrlService signer,
+                                     UserAccountTypeRepository userAccountTypeRepository,
+                                     VideoAssetGroupRepository groupRepository,
+                                     JdbcTemplate jdbc,
+                                     @Value("${aws.cloudfront.session-cookies.enabled:false}") boolean enabled,
+                                     @Value("${aws.cloudfront.session-cookies.lifetime:PT2H}") Duration lifetime,
+                                     @Value("${aws.cloudfront.session-cookies.refresh-before:PT30M}") Duration refreshBefore) {
+        if (enabled && refreshBefore.compareTo(lifetime) >= 0) {
+            throw new IllegalStateException("aws.cloudfront.session-cookies.refresh-before must be shorter than lifetime");
+        }
+        this.signer = signer;
+        this.userAccountTypeRepository = userAccountTypeRepository;
+        this.groupRepository = groupRepository;
+        this.jdbc = jdbc;
+        this.enabled = enabled;
+        this.lifetime = lifetime;
+        this.refreshBefore = refreshBefore;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Empty when disabled or when the user's account type grants no prefix. Scopes containing a clip the user is
+     * individually denied are left out.
+     */
+    @Transactional(readOnly = true)
+    public Optional<SessionCookies> forUser(String uid) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return userAccountTypeRepository.findByUserProfileFirebaseId(uid)
+                .map(UserAccountType::getAccountType)
+                .map(this::forAccountType)
+                .map(cookies -> withoutDeniedScopes(uid, cookies))
+                .filter(cookies -> !cookies.scopes().isEmpty());
+    }
+
+    private SessionCookies withoutDeniedScopes(String uid, SessionCookies cookies) {
+        List<String> denied = jdbc.queryForList("""
+                SELECT l.video_id FROM user_video_license l
+                JOIN user_profile up ON up.id = l.user_profile_id
+                WHERE up.firebase_id = ?
+                  AND (l.status <> 'ACTIVE' OR l.expires_at < now())
+                """, String.class, uid);
+        if (denied.isEmpty()) {
+            return cookies;
+        }
+        List<Scope> allowed = cookies.scopes().stream()
+                .filter(scope -> denied.stream().noneMatch(videoId -> (VIDEO_ROOT + videoId + "/").startsWith(scope.resourcePrefix())))
+                .toList();
+        return allowed.size() == cookies.scopes().size()
+                ? cookies
+                : new SessionCookies(allowed, cookies.expiresAt(), cookies.refreshAt());
+    }
+
+    /**
+     * The group prefixes are re-read on every call and a cached set is re-signed as soon as they differ, so a
+     * prefix set, cleared or moved on any instance narrows the scope here on the next request.
+     */
+    SessionCookies forAccountType(AccountType accountType) {
+        AccountTypeKey key = new AccountTypeKey(accountType.getName(),
+                accountType.getVideoGroupIds() == null ? null : List.copyOf(accountType.getVideoGroupIds()));
+        Instant now = Instant.now();
+        List<String> prefixes = prefixes(key);
+        SessionCookies cached = byAccountType.get(key);
+        if (isCurrent(cached, prefixes, now)) {
+            return cached;
+        }
+        byAccountType.keySet().removeIf(k -> k.name().equals(key.name()) && !k.equals(key));
+        return byAccountType.compute(key, (k, existing) ->
+                isCurrent(existing, prefixes, now) ? existing : sign(prefixes, now));
+    }
+
+    private static boolean isCurrent(SessionCookies cookies, List<String> prefixes, Instant now) {
+        return cookies != null
+                && now.isBefore(cookies.refreshAt())
+                && cookies.scopes().stream().map(Scope::resourcePrefix).toList().equals(prefixes);
+    }
+
+    private List<String> prefixes(AccountTypeKey key) {
+        return key.videoGroupIds() == null
+                ? List.of(VIDEO_ROOT)
+                : groupRepository.findAllById(key.videoGroupIds()).stream()
+                        .map(VideoAssetGroup::getCloudfrontPrefix)
+                        .filter(prefix -> prefix != null && !prefix.isBlank())
+                        .map(prefix -> VIDEO_ROOT + prefix + "/")
+                        .distinct()
+                        .sorted()
+                        .toList();
+    }
+
+    private SessionCookies sign(List<String> prefixes, Instant now) {
+        List<Scope> scopes = prefixes.stream()
+                .map(prefix -> new Scope(prefix, signer.generateSignedCookies(prefix, lifetime)))
+                .toList();
+        Instant expiresAt = now.plus(lifetime);
+        return new SessionCookies(scopes, expiresAt, expiresAt.minus(refreshBefore));
+    }
+
+    /** A set of CloudFront cookies valid for every object under {@code resourcePrefix}. */
+    public record Scope(String resourcePrefix, Map<String, String> cookies) {
+    }
+
+    public record SessionCookies(List<Scope> scopes, Instant expiresAt, Instant refreshAt) {
+
+        /** The scope covering {@code videos/<normalisedPath>/}, if any. */
+        public Optional<Scope> covering(String normalisedPath) {
+            String objectPrefix = VIDEO_ROOT + normalisedPath + "/";
+            return scopes.stream().filter(scope -> objectPrefix.startsWith(scope.resourcePrefix())).findFirst();
+        }
+    }
+
+    private record AccountTypeKey(String name, List<UUID> videoGroupIds) {
+    }
+}
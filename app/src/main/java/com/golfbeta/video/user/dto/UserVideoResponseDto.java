@@ -8,5 +8,7 @@ public record UserVideoResponseDto(
         String metadataUrl,
         VideoCodec codec,
         long expiresInSeconds,
-        Map<String, String> signedCookies
+        Map<String, String> signedCookies,
+        String keyToken,
+        String sessionCookieScope
 ) {}
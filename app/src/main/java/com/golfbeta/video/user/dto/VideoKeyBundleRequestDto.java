@@ -0,0 +1,11 @@
+package com.golfbeta.video.user.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record VideoKeyBundleRequestDto(
+        @NotEmpty @Size(max = 200) List<@NotBlank @Size(max = 1024) String> videoPaths
+) {}
@@ -0,0 +1,14 @@
+package com.golfbeta.video.user.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/** Each scope's cookies must be stored with {@code Path=/<resourcePrefix>} so the sets do not overwrite each other. */
+public record VideoSessionCookiesDto(
+        List<Scope> scopes,
+        Instant expiresAt,
+        Instant refreshAt
+) {
+    public record Scope(String resourcePrefix, Map<String, String> cookies) {}
+}
@@ -0,0 +1,7 @@
+-- Hibernate's pooled optimiser reserves 50 ids per nextval() call so inserts can be JDBC-batched.
+-- The increment must match allocationSize on the entities. Column defaults still draw from the same
+-- sequences, so raw SQL inserts keep working; they simply skip ahead by 50.
+ALTER SEQUENCE friends_id_seq INCREMENT BY 50;
+ALTER SEQUENCE friend_request_attempt_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notifications_inbox_id_seq INCREMENT BY 50;
+ALTER SEQUENCE admin_audit_log_id_seq INCREMENT BY 50;
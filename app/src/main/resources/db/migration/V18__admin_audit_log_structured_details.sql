@@ -0,0 +1,21 @@
+-- Structured audit details plus keyset-friendly indexes for the admin audit query API.
+ALTER TABLE admin_audit_log
+    ADD COLUMN details_json JSONB NOT NULL DEFAULT '{}'::jsonb;
+
+-- Existing rows carry "key=value,key=value" text; lift it into the JSON column.
+UPDATE admin_audit_log
+SET details_json = COALESCE((
+        SELECT jsonb_object_agg(split_part(kv, '=', 1), substr(kv, strpos(kv, '=') + 1))
+        FROM unnest(string_to_array(details, ',')) AS kv
+        WHERE strpos(kv, '=') > 1
+    ), '{}'::jsonb)
+WHERE details IS NOT NULL;
+
+COMMENT ON COLUMN admin_audit_log.details IS 'Legacy free-text details; new rows use details_json';
+
+DROP INDEX IF EXISTS idx_admin_audit_log_created_at;
+DROP INDEX IF EXISTS idx_admin_audit_log_admin_uid;
+
+CREATE INDEX idx_admin_audit_log_created_at_id ON admin_audit_log (created_at DESC, id DESC);
+CREATE INDEX idx_admin_audit_log_admin_uid_created_at_id ON admin_audit_log (admin_uid, created_at DESC, id DESC);
+CREATE INDEX idx_admin_audit_log_action_created_at_id ON admin_audit_log (action, created_at DESC, id DESC);
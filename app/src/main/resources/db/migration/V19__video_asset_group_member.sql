@@ -0,0 +1,20 @@
+-- Normalise video group membership out of video_asset_groups.video_asset_ids (uuid[]).
+CREATE TABLE video_asset_group_member (
+    group_id       UUID        NOT NULL REFERENCES video_asset_groups (id) ON DELETE CASCADE,
+    video_asset_id UUID        NOT NULL REFERENCES video_asset (id) ON DELETE CASCADE,
+    added_at       TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (group_id, video_asset_id)
+);
+
+-- Reverse lookup (asset -> groups) and entitlement checks.
+CREATE INDEX idx_video_asset_group_member_asset ON video_asset_group_member (video_asset_id, group_id);
+
+-- Keep the original array order through added_at; ids that no longer resolve to an asset are dropped.
+INSERT INTO video_asset_group_member (group_id, video_asset_id, added_at)
+SELECT g.id, m.asset_id, NOW() + (m.ord * INTERVAL '1 microsecond')
+FROM video_asset_groups g
+CROSS JOIN LATERAL unnest(g.video_asset_ids) WITH ORDINALITY AS m(asset_id, ord)
+JOIN video_asset va ON va.id = m.asset_id
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE video_asset_groups DROP COLUMN video_asset_ids;
@@ -0,0 +1,18 @@
+-- Expired licenses are moved to EXPIRED by the scheduled sweeper instead of being discovered per request.
+ALTER TABLE user_video_license
+    DROP CONSTRAINT IF EXISTS chk_user_video_license_status;
+ALTER TABLE user_video_license
+    ADD CONSTRAINT chk_user_video_license_status CHECK (status IN ('ACTIVE', 'SUSPENDED', 'REVOKED', 'EXPIRED'));
+
+-- Set once the "access expires soon" notification has gone out; cleared when an admin changes expires_at.
+ALTER TABLE user_video_license
+    ADD COLUMN expiry_warned_at TIMESTAMPTZ;
+
+-- The sweeper only ever scans ACTIVE rows with an expiry, oldest first.
+DROP INDEX IF EXISTS idx_user_video_license_expires_at;
+CREATE INDEX idx_user_video_license_active_expires_at
+    ON user_video_license (expires_at)
+    WHERE status = 'ACTIVE' AND expires_at IS NOT NULL;
+
+ALTER TYPE notification_type ADD VALUE IF NOT EXISTS 'VIDEO_LICENSE_EXPIRING';
+ALTER TYPE notification_type ADD VALUE IF NOT EXISTS 'VIDEO_LICENSE_EXPIRED';
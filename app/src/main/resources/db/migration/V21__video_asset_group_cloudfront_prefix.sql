@@ -0,0 +1,4 @@
+-- Optional path prefix (under videos/) holding exactly this group's assets. Groups with a prefix can be
+-- covered by one session-wide CloudFront signed-cookie set instead of per-clip signing.
+ALTER TABLE video_asset_groups
+    ADD COLUMN cloudfront_prefix TEXT;
@@ -0,0 +1,75 @@
+-- Append-only playback events, partitioned by server receive time so rollups and retention touch whole
+-- partitions. Monthly partitions are created ahead of time by WatchEventMaintenance; the default partition
+-- only catches rows if that job falls behind.
+CREATE TABLE video_watch_event (
+    event_id     UUID        NOT NULL,
+    received_at  TIMESTAMPTZ NOT NULL,
+    -- rollups follow insert time, so events the writer spilled or retried are still counted however late
+    inserted_at  TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    occurred_at  TIMESTAMPTZ NOT NULL,
+    firebase_id  TEXT        NOT NULL,
+    session_id   UUID        NOT NULL,
+    video_path   TEXT        NOT NULL,
+    event_type   TEXT        NOT NULL,
+    position_ms  BIGINT,
+    watched_ms   BIGINT      NOT NULL DEFAULT 0,
+    codec        TEXT,
+    rendition    TEXT,
+    CONSTRAINT chk_video_watch_event_type CHECK (event_type IN ('START', 'PROGRESS', 'COMPLETE'))
+) PARTITION BY RANGE (received_at);
+
+CREATE TABLE video_watch_event_default PARTITION OF video_watch_event DEFAULT;
+
+CREATE INDEX idx_video_watch_event_received_at ON video_watch_event (received_at);
+CREATE INDEX idx_video_watch_event_inserted_at ON video_watch_event (inserted_at);
+
+-- Client-generated event ids seen recently, so a retried batch is stored once. Kept apart from the partitioned
+-- table because a unique constraint there would have to include received_at, which differs on every retry.
+CREATE TABLE video_watch_event_id (
+    firebase_id TEXT        NOT NULL,
+    event_id    UUID        NOT NULL,
+    received_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (firebase_id, event_id)
+);
+
+CREATE INDEX idx_video_watch_event_id_received_at ON video_watch_event_id (received_at);
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', NOW())::date;
+BEGIN
+    FOR i IN 0..2 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF video_watch_event FOR VALUES FROM (%L) TO (%L)',
+            'video_watch_event_' || to_char(month_start + make_interval(months => i), 'YYYYMM'),
+            (month_start + make_interval(months => i))::date,
+            (month_start + make_interval(months => i + 1))::date);
+    END LOOP;
+END $$;
+
+-- Rollups maintained incrementally from events received after the stored watermark.
+CREATE TABLE video_watch_daily (
+    day        DATE   NOT NULL,
+    video_path TEXT   NOT NULL,
+    starts     BIGINT NOT NULL DEFAULT 0,
+    completes  BIGINT NOT NULL DEFAULT 0,
+    watched_ms BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (day, video_path)
+);
+
+CREATE TABLE video_watch_user_total (
+    firebase_id     TEXT        NOT NULL,
+    video_path      TEXT        NOT NULL,
+    starts          BIGINT      NOT NULL DEFAULT 0,
+    completes       BIGINT      NOT NULL DEFAULT 0,
+    watched_ms      BIGINT      NOT NULL DEFAULT 0,
+    last_watched_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (firebase_id, video_path)
+);
+
+CREATE TABLE video_watch_rollup_state (
+    name           TEXT PRIMARY KEY,
+    rolled_up_to   TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO video_watch_rollup_state (name, rolled_up_to) VALUES ('watch_events', NOW());
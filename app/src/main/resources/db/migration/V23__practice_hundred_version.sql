@@ -0,0 +1,4 @@
+-- Bumped by every write, so drill-level patches can acknowledge with a version instead of the whole row
+-- and clients can detect lost updates by sending the version they last saw.
+ALTER TABLE golfr_practice_hundred
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Client clock of the latest offline change applied to the row. Sync replays only apply changes that are
+-- at least this new, so a stale queue replayed after a newer one cannot roll drills back.
+ALTER TABLE golfr_practice_hundred
+    ADD COLUMN client_updated_at TIMESTAMP WITHOUT TIME ZONE;
@@ -0,0 +1,25 @@
+-- Per-user practice-hundred category scores (0..1, as returned by /practice-hundred/analysis), maintained when a
+-- session completes so leaderboards never re-parse session rows. "overall" is the mean of the seven categories.
+CREATE TABLE practice_hundred_score (
+    user_id                    UUID PRIMARY KEY REFERENCES user_profile (id) ON DELETE CASCADE,
+    sessions_completed         INTEGER          NOT NULL,
+    latest_practice_hundred_id UUID             NOT NULL,
+    latest_completed_at        TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    latest_overall             DOUBLE PRECISION NOT NULL,
+    latest_driving             DOUBLE PRECISION NOT NULL,
+    latest_woods               DOUBLE PRECISION NOT NULL,
+    latest_longirons           DOUBLE PRECISION NOT NULL,
+    latest_shortirons          DOUBLE PRECISION NOT NULL,
+    latest_pitching            DOUBLE PRECISION NOT NULL,
+    latest_chipping            DOUBLE PRECISION NOT NULL,
+    latest_putting             DOUBLE PRECISION NOT NULL,
+    best_overall               DOUBLE PRECISION NOT NULL,
+    best_driving               DOUBLE PRECISION NOT NULL,
+    best_woods                 DOUBLE PRECISION NOT NULL,
+    best_longirons             DOUBLE PRECISION NOT NULL,
+    best_shortirons            DOUBLE PRECISION NOT NULL,
+    best_pitching              DOUBLE PRECISION NOT NULL,
+    best_chipping              DOUBLE PRECISION NOT NULL,
+    best_putting               DOUBLE PRECISION NOT NULL,
+    updated_at                 TIMESTAMPTZ      NOT NULL DEFAULT now()
+);
@@ -0,0 +1,11 @@
+-- Population histograms of practice-hundred category scores, one per (category, population bucket).
+-- counts[i] is the number of completed sessions scoring in [i/1000, (i+1)/1000); instances add their deltas
+-- element-wise, so the stored sketch is the exact merge of every instance's updates.
+CREATE TABLE practice_score_sketch (
+    category   TEXT        NOT NULL,
+    bucket     TEXT        NOT NULL,
+    counts     BIGINT[]    NOT NULL,
+    total      BIGINT      NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (category, bucket)
+);
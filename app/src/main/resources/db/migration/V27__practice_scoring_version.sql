@@ -0,0 +1,11 @@
+-- Scores and sketches record the scoring-rules version they were computed with. Rows from an older version
+-- are rebuilt by the re-score job; sketches for a new version are seeded alongside the old ones.
+ALTER TABLE practice_hundred_score
+    ADD COLUMN scoring_version INTEGER NOT NULL DEFAULT 1;
+
+ALTER TABLE practice_score_sketch
+    ADD COLUMN scoring_version INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE practice_score_sketch
+    DROP CONSTRAINT practice_score_sketch_pkey;
+ALTER TABLE practice_score_sketch
+    ADD PRIMARY KEY (scoring_version, category, bucket);
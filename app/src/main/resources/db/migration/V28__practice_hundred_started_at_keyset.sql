@@ -0,0 +1,6 @@
+-- Keyset pages and exports of a user's sessions read (user_id, started_at DESC, id DESC) as one index range.
+CREATE INDEX IF NOT EXISTS idx_golfr_practice_hundred_user_started_at
+    ON golfr_practice_hundred (user_id, started_at DESC, id DESC);
+
+-- Every user_id lookup is now served by a composite index with user_id as its leading column.
+DROP INDEX IF EXISTS idx_golfr_practice_hundred_user_id;
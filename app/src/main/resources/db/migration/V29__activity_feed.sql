@@ -0,0 +1,39 @@
+-- Friend activity. Each event is stored once. Events from actors with up to activity.fan-out.max-friends
+-- friends are copied into every friend's timeline after commit (fan-out on write); events from actors above
+-- the limit stay here only and are merged in when a friend reads their feed (fan-out on read).
+CREATE TABLE activity_event (
+    id            BIGSERIAL PRIMARY KEY,
+    actor_id      UUID        NOT NULL REFERENCES user_profile (id) ON DELETE CASCADE,
+    type          VARCHAR(40) NOT NULL,
+    data          JSONB       NOT NULL DEFAULT '{}'::jsonb,
+    fan_out       BOOLEAN     NOT NULL,
+    fanned_out_at TIMESTAMPTZ,
+    created_at    TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Feed reads pull recent events of a reader's over-the-limit friends.
+CREATE INDEX idx_activity_event_pull
+    ON activity_event (actor_id, created_at DESC, id DESC)
+    WHERE NOT fan_out;
+
+-- The recovery sweep finds events whose after-commit fan-out was dropped or lost.
+CREATE INDEX idx_activity_event_pending
+    ON activity_event (created_at)
+    WHERE fan_out AND fanned_out_at IS NULL;
+
+CREATE INDEX idx_activity_event_created_at
+    ON activity_event (created_at);
+
+-- Per-reader timeline, trimmed to activity.timeline.max-entries by ActivityMaintenance.
+CREATE TABLE activity_timeline (
+    owner_id   UUID        NOT NULL REFERENCES user_profile (id) ON DELETE CASCADE,
+    event_id   BIGINT      NOT NULL REFERENCES activity_event (id) ON DELETE CASCADE,
+    created_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (owner_id, event_id)
+);
+
+CREATE INDEX idx_activity_timeline_owner_created_at
+    ON activity_timeline (owner_id, created_at DESC, event_id DESC);
+
+CREATE INDEX idx_activity_timeline_event_id
+    ON activity_timeline (event_id);
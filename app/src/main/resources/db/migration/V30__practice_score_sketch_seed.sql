@@ -0,0 +1,10 @@
+-- When each scoring version's sketches were seeded. The seed counts sessions completed before seeded_before;
+-- instances merge only completions at or after it, so nothing is counted by both.
+CREATE TABLE practice_score_sketch_seed (
+    scoring_version INTEGER PRIMARY KEY,
+    seeded_before   TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Versions seeded before this table existed keep their sketches; their pending deltas were all merged.
+INSERT INTO practice_score_sketch_seed (scoring_version, seeded_before)
+SELECT DISTINCT scoring_version, TIMESTAMP '-infinity' FROM practice_score_sketch;
@@ -0,0 +1,148 @@
+package com.golfbeta.activity;
+
+import com.golfbeta.activity.dto.ActivityFeedDto;
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.bench.LatencyStats;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fan-out throughput and feed read latency for users with 10 to 5000 friends. Each case builds a hub user
+ * with {@code friends} friends, then:
+ * <ul>
+ *   <li>fans out {@code bench.events} events posted by the hub (timeline rows per second), and</li>
+ *   <li>has every friend post {@code bench.events-per-friend} events, every hundredth friend over the fan-out
+ *       limit so their events are pulled at read time, and pages through the hub's feed.</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn test -Dtest=ActivityFeedBenchmark -Dbench=true [-Dbench.friend-counts=10,100,1000,5000]
+ * </pre>
+ */
+@SpringBootTest
+@Testcontainers
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class ActivityFeedBenchmark {
+
+    private static final int[] FRIEND_COUNTS = Arrays.stream(System.getProperty("bench.friend-counts", "10,100,1000,5000")
+            .split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    private static final int EVENTS = Integer.getInteger("bench.events", 200);
+    private static final int EVENTS_PER_FRIEND = Integer.getInteger("bench.events-per-friend", 5);
+    private static final int READS = Integer.getInteger("bench.reads", 500);
+    private static final int PAGES = Integer.getInteger("bench.pages", 5);
+    private static final int FAN_OUT_BATCH = 100;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+        r.add("activity.timeline.max-entries", () -> Integer.MAX_VALUE);
+    }
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired ActivityFanOut fanOut;
+    @Autowired ActivityFeedService feed;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @Test
+    void fan_out_throughput_and_feed_latency_by_friend_count() {
+        for (int friends : FRIEND_COUNTS) {
+            String hub = "bench-hub-" + friends;
+            UUID hubId = seedHub(hub, friends);
+
+            List<Long> hubEvents = jdbc.queryForList("""
+                    INSERT INTO activity_event (actor_id, type, data, fan_out)
+                    SELECT ?, 'PRACTICE_HUNDRED_COMPLETED', '{}'::jsonb, TRUE FROM generate_series(1, ?)
+                    RETURNING id
+                    """, Long.class, hubId, EVENTS);
+            long rows = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < hubEvents.size(); i += FAN_OUT_BATCH) {
+                rows += fanOut.fanOut(hubEvents.subList(i, Math.min(i + FAN_OUT_BATCH, hubEvents.size())));
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("[bench] friends=%d fan-out events=%d rows=%d %.0f events/s %.0f rows/s%n",
+                    friends, hubEvents.size(), rows, hubEvents.size() / seconds, rows / seconds);
+
+            List<Long> friendEvents = jdbc.queryForList("""
+                    INSERT INTO activity_event (actor_id, type, data, fan_out, created_at)
+                    SELECT u.id, 'PRACTICE_HUNDRED_COMPLETED', '{}'::jsonb, g % 100 <> 0,
+                           now() - random() * interval '30 days'
+                    FROM generate_series(1, ?) g
+                    JOIN user_profile u ON u.firebase_id = ?::text || '-' || g
+                    CROSS JOIN generate_series(1, ?) e
+                    RETURNING id
+                    """, Long.class, friends, hub, EVENTS_PER_FRIEND);
+            for (int i = 0; i < friendEvents.size(); i += FAN_OUT_BATCH) {
+                fanOut.fanOut(friendEvents.subList(i, Math.min(i + FAN_OUT_BATCH, friendEvents.size())));
+            }
+
+            LatencyStats first = new LatencyStats();
+            LatencyStats deep = new LatencyStats();
+            long readStart = System.nanoTime();
+            for (int i = 0; i < READS; i++) {
+                String cursor = null;
+                for (int page = 0; page < PAGES; page++) {
+                    long t = System.nanoTime();
+                    ActivityFeedDto dto = feed.page(hub, cursor, 20);
+                    (page == 0 ? first : deep).record(System.nanoTime() - t);
+                    assertThat(dto.items()).isNotEmpty();
+                    cursor = dto.nextCursor();
+                    if (cursor == null) {
+                        break;
+                    }
+                }
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - readStart);
+            System.out.printf("[bench] friends=%d feed first page: %s%n", friends, first.summarise(elapsed));
+            System.out.printf("[bench] friends=%d feed later pages: %s%n", friends, deep.summarise(elapsed));
+        }
+    }
+
+    private UUID seedHub(String hub, int friends) {
+        UUID hubId = jdbc.queryForObject(
+                "INSERT INTO user_profile (firebase_id, email) VALUES (?, '') RETURNING id", UUID.class, hub);
+        jdbc.update("""
+                INSERT INTO user_profile (firebase_id, email)
+                SELECT ?::text || '-' || g, '' FROM generate_series(1, ?) g
+                """, hub, friends);
+        jdbc.update("""
+                INSERT INTO friends (user_id_a, user_id_b, requester_id, status)
+                SELECT LEAST(h.id, u.id), GREATEST(h.id, u.id), h.id, 'FRIENDS'
+                FROM user_profile h
+                JOIN user_profile u ON u.firebase_id LIKE h.firebase_id || '-%'
+                WHERE h.id = ?
+                """, hubId);
+        return hubId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.golfbeta.admin.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminAuditEntryTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void reads_structured_details() throws Exception {
+        AdminAuditEntry entry = new AdminAuditEntry("admin", "grant", AuditDetails.of("video", "a.mp4", "days", 30),
+                Instant.parse("2026-10-01T12:00:00Z"));
+
+        assertThat(mapper.readValue(mapper.writeValueAsString(entry), AdminAuditEntry.class)).isEqualTo(entry);
+    }
+
+    @Test
+    void reads_legacy_text_details_from_old_spill_files() throws Exception {
+        AdminAuditEntry entry = mapper.readValue("""
+                {"adminUid":"admin","action":"grant","details":"video=a.mp4,note=x=y,junk","createdAt":"2026-10-01T12:00:00Z"}
+                """, AdminAuditEntry.class);
+
+        assertThat(entry.details()).isEqualTo(Map.of("video", "a.mp4", "note", "x=y"));
+        assertThat(entry.createdAt()).isEqualTo(Instant.parse("2026-10-01T12:00:00Z"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.golfbeta.aws;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CloudFrontKeyRingTest {
+
+    private static String keyA;
+    private static String keyB;
+
+    @TempDir Path dir;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyA = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+        keyB = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+    }
+
+    @Test
+    void inline_key_is_active_until_a_newer_file_entry_takes_over() throws Exception {
+        Path file = dir.resolve("ring.json");
+        Instant future = Instant.now().plus(1, ChronoUnit.HOURS);
+        write(file, "K_NEW", keyB, future);
+
+        CloudFrontKeyRing ring = new CloudFrontKeyRing("K_OLD", keyA, file.toString(), mapper);
+        assertThat(ring.keys()).hasSize(2);
+        assertThat(ring.active().keyPairId()).isEqualTo("K_OLD");
+
+        write(file, "K_NEW", keyB, Instant.now().minusSeconds(1));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        ring.reloadIfChanged();
+
+        assertThat(ring.active().keyPairId()).isEqualTo("K_NEW");
+    }
+
+    @Test
+    void unreadable_reload_keeps_previous_keys() throws Exception {
+        Path file = dir.resolve("ring.json");
+        write(file, "K1", keyA, Instant.EPOCH);
+        CloudFrontKeyRing ring = new CloudFrontKeyRing("", "", file.toString(), mapper);
+
+        Files.writeString(file, "not json");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        ring.reloadIfChanged();
+
+        assertThat(ring.active().keyPairId()).isEqualTo("K1");
+    }
+
+    @Test
+    void no_keys_fail_on_first_use() {
+        CloudFrontKeyRing ring = new CloudFrontKeyRing("", "", "", mapper);
+
+        assertThatThrownBy(ring::active).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void write(Path file, String id, String key, Instant activeFrom) throws Exception {
+        Files.writeString(file, mapper.writeValueAsString(List.of(
+                new CloudFrontKeyRing.KeyPairSource(id, key, activeFrom))));
+    }
+}
@@ -0,0 +1,103 @@
+package com.golfbeta.bench;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.notifications.NotificationInboxService;
+import com.golfbeta.notifications.NotificationType;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts per second into {@code notifications_inbox}: one {@code INSERT ... RETURNING id} per row (what
+ * {@code GenerationType.IDENTITY} forced) against {@link NotificationInboxService#createAll}, which uses the
+ * pooled sequence, Hibernate batching and {@code reWriteBatchedInserts}.
+ *
+ * <pre>
+ * mvn test -Dtest=BatchInsertBenchmark -Dbench=true [-Dbench.rows=20000]
+ * </pre>
+ */
+@SpringBootTest
+@Testcontainers
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class BatchInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 20_000);
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 3);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired NotificationInboxService inbox;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @Test
+    void notification_fan_out_inserts_per_second() {
+        UUID recipient = jdbc.queryForObject(
+                "INSERT INTO user_profile (firebase_id, email) VALUES ('bench-recipient', '') RETURNING id", UUID.class);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        for (int round = 0; round <= ROUNDS; round++) {
+            long rowByRow = time(() -> tx.executeWithoutResult(status -> {
+                Timestamp now = Timestamp.from(Instant.now());
+                for (int i = 0; i < ROWS; i++) {
+                    jdbc.queryForObject("""
+                            INSERT INTO notifications_inbox (user_id, notification_type, notification_message, created_at, seen)
+                            VALUES (?, 'FRIEND_REQUEST'::notification_type, ?, ?, false) RETURNING id
+                            """, Long.class, recipient, "bench", now);
+                }
+            }));
+            long batched = time(() -> inbox.createAll(
+                    Collections.nCopies(ROWS, recipient), NotificationType.FRIEND_REQUEST, "bench", null));
+
+            if (round > 0) {
+                System.out.printf("[bench] round=%d rows=%d row-by-row=%.0f rows/s batched=%.0f rows/s%n",
+                        round, ROWS, ROWS / (rowByRow / 1e9), ROWS / (batched / 1e9));
+            }
+            jdbc.update("DELETE FROM notifications_inbox");
+        }
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM notifications_inbox", Long.class)).isZero();
+    }
+
+    private static long time(Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        return System.nanoTime() - start;
+    }
+}
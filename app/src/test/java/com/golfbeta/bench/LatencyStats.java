@@ -0,0 +1,51 @@
+package com.golfbeta.bench;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Collects per-request latencies from load generators and reports percentiles. Recording is synchronised;
+ * the benchmarks that use it are bound by the server, not by this lock.
+ */
+public final class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private int errors;
+
+    public synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public synchronized void error() {
+        errors++;
+    }
+
+    public synchronized Summary summarise(Duration elapsed) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double seconds = elapsed.toNanos() / 1e9;
+        return new Summary(size, errors, size / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    public record Summary(int requests, int errors, double throughput, long p50Nanos, long p99Nanos, long maxNanos) {
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms",
+                    requests, errors, throughput, p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.golfbeta.config;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+class ReadWriteRoutingIT {
+
+    @Container
+    static PostgreSQLContainer<?> writer = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    // Not a real replica: a separate database is enough to tell which pool served a query.
+    @Container
+    static PostgreSQLContainer<?> reader = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta_reader")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", writer::getJdbcUrl);
+        r.add("spring.datasource.username", writer::getUsername);
+        r.add("spring.datasource.password", writer::getPassword);
+        r.add("app.datasource.reader.enabled", () -> true);
+        r.add("app.datasource.reader.url", reader::getJdbcUrl);
+        r.add("app.datasource.reader.username", reader::getUsername);
+        r.add("app.datasource.reader.password", reader::getPassword);
+        r.add("app.datasource.reader.read-your-writes-window", () -> "PT1M");
+    }
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void read_only_transactions_use_reader_and_writes_use_writer() {
+        assertThat(databaseIn(true)).isEqualTo("golfbeta_reader");
+        assertThat(databaseIn(false)).isEqualTo("golfbeta");
+        assertThat(jdbc.queryForObject("select current_database()", String.class)).isEqualTo("golfbeta");
+    }
+
+    @Test
+    void reads_are_pinned_to_writer_after_own_write() {
+        actAs("writer-uid");
+        assertThat(databaseIn(true)).isEqualTo("golfbeta_reader");
+        databaseIn(false);
+        assertThat(databaseIn(true)).isEqualTo("golfbeta");
+
+        actAs("other-uid");
+        assertThat(databaseIn(true)).isEqualTo("golfbeta_reader");
+    }
+
+    @Test
+    void write_after_read_only_in_one_request_uses_writer() {
+        actAs("request-uid");
+        // What open-in-view does for a request: one EntityManager shared by every transaction in it.
+        EntityManager em = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(em));
+        try {
+            assertThat(databaseVia(em, true)).isEqualTo("golfbeta_reader");
+            assertThat(databaseVia(em, false)).isEqualTo("golfbeta");
+            assertThat(databaseVia(em, false)).isEqualTo("golfbeta");
+            assertThat(databaseVia(em, true)).isEqualTo("golfbeta");
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            em.close();
+        }
+    }
+
+    private String databaseVia(EntityManager em, boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status ->
+                (String) em.createNativeQuery("select current_database()").getSingleResult());
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbc.queryForObject("select current_database()", String.class));
+    }
+
+    private static void actAs(String uid) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(uid, null, List.of()));
+    }
+}
@@ -0,0 +1,137 @@
+package com.golfbeta.config;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.bench.LatencyStats;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseToken;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Closed-loop load benchmark for {@code GET /home}. Firebase token verification is replaced by a mock that
+ * sleeps for {@code bench.verify-latency}, standing in for the remote call the real filter makes.
+ *
+ * <pre>
+ * mvn test -Dtest=VirtualThreadServingBenchmark -Dbench=true -Dbench.virtual=false
+ * mvn test -Dtest=VirtualThreadServingBenchmark -Dbench=true -Dbench.virtual=true
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class VirtualThreadServingBenchmark {
+
+    private static final boolean VIRTUAL = Boolean.getBoolean("bench.virtual");
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 400);
+    private static final int USERS = Integer.getInteger("bench.users", 50);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("bench.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("bench.duration", "PT30S"));
+    private static final long VERIFY_LATENCY_MS = Long.getLong("bench.verify-latency-ms", 50);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+        r.add("spring.threads.virtual.enabled", () -> VIRTUAL);
+    }
+
+    @LocalServerPort int port;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @BeforeEach
+    void stubTokenVerification() throws Exception {
+        for (int i = 0; i < USERS; i++) {
+            FirebaseToken token = mock(FirebaseToken.class);
+            when(token.getUid()).thenReturn("bench-user-" + i);
+            when(firebaseAuth.verifyIdToken("token-" + i, true)).thenAnswer(invocation -> {
+                Thread.sleep(VERIFY_LATENCY_MS);
+                return token;
+            });
+        }
+    }
+
+    @Test
+    void home_throughput_and_tail_latency() throws Exception {
+        run(WARMUP, new LatencyStats());
+        LatencyStats stats = new LatencyStats();
+        Duration elapsed = run(DURATION, stats);
+
+        LatencyStats.Summary summary = stats.summarise(elapsed);
+        System.out.printf("[bench] mode=%s clients=%d verifyLatency=%dms %s%n",
+                VIRTUAL ? "virtual" : "platform", CLIENTS, VERIFY_LATENCY_MS, summary);
+        assertThat(summary.requests()).isPositive();
+    }
+
+    private Duration run(Duration duration, LatencyStats stats) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/home"))
+                        .header("Authorization", "Bearer token-" + (c % USERS))
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build();
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                stats.record(System.nanoTime() - t0);
+                            } else {
+                                stats.error();
+                            }
+                        } catch (Exception e) {
+                            stats.error();
+                        }
+                    }
+                    return null;
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,51 @@
+package com.golfbeta.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Local stand-ins for Firebase under the {@code loadtest} profile: bearer tokens are verified against a test
+ * key pair instead of Firebase Auth, and pushes go to {@link SimulatedPushGateway} instead of FCM. These live in
+ * test sources only, so the application artifact cannot verify local tokens whatever profile it runs under:
+ * there, {@code loadtest} just leaves it without an {@code IdTokenVerifier} and startup fails.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestConfig.class);
+
+    @Bean
+    public LocalIdTokens localIdTokens(ObjectMapper objectMapper,
+                                       @Value("${loadtest.tokens.project-id:golfbeta-loadtest}") String projectId,
+                                       @Value("${loadtest.tokens.ttl:PT1H}") Duration ttl,
+                                       @Value("${loadtest.tokens.private-key:}") String privateKey,
+                                       @Value("${loadtest.tokens.public-key:}") String publicKey) {
+        KeyPair keys;
+        if (StringUtils.hasText(privateKey) && StringUtils.hasText(publicKey)) {
+            keys = LocalIdTokens.decodeKeyPair(privateKey, publicKey);
+        } else {
+            keys = LocalIdTokens.generateKeyPair();
+        }
+        log.warn("loadtest profile active: bearer tokens are verified against a local test key, not Firebase");
+        return new LocalIdTokens(keys, projectId, ttl, objectMapper, Clock.systemUTC());
+    }
+
+    @Bean
+    public SimulatedPushGateway simulatedPushGateway(@Value("${loadtest.push.latency:PT0.05S}") Duration latency,
+                                                     @Value("${loadtest.push.jitter:PT0.05S}") Duration jitter,
+                                                     @Value("${loadtest.push.error-rate:0.01}") double errorRate) {
+        log.warn("loadtest profile active: push notifications go to a simulated gateway, not FCM");
+        return new SimulatedPushGateway(latency, jitter, errorRate);
+    }
+}
@@ -0,0 +1,162 @@
+package com.golfbeta.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.config.IdTokenVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Issues and verifies RS256 JWTs shaped like Firebase ID tokens ({@code iss}, {@code aud}, {@code sub},
+ * {@code iat}, {@code exp}), signed with a test key pair instead of Google's. Verification is the same amount of
+ * work as the Admin SDK's local check minus the key fetch and revocation lookup, so load tests measure this
+ * service rather than Google.
+ */
+public class LocalIdTokens implements IdTokenVerifier {
+
+    private static final String ALGORITHM = "SHA256withRSA";
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {};
+
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final String issuer;
+    private final String audience;
+    private final Duration ttl;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String encodedHeader;
+
+    LocalIdTokens(KeyPair keys, String projectId, Duration ttl, ObjectMapper objectMapper, Clock clock) {
+        this.privateKey = keys.getPrivate();
+        this.publicKey = keys.getPublic();
+        this.issuer = "https://securetoken.google.com/" + projectId;
+        this.audience = projectId;
+        this.ttl = ttl;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "RS256");
+        header.put("typ", "JWT");
+        header.put("kid", "loadtest");
+        this.encodedHeader = encode(json(header));
+    }
+
+    public String issue(String uid) {
+        long now = clock.instant().getEpochSecond();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", issuer);
+        claims.put("aud", audience);
+        claims.put("sub", uid);
+        claims.put("user_id", uid);
+        claims.put("auth_time", now);
+        claims.put("iat", now);
+        claims.put("exp", now + ttl.getSeconds());
+        String signingInput = encodedHeader + "." + encode(json(claims));
+        return signingInput + "." + encode(sign(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Override
+    public Optional<String> verify(String idToken) {
+        if (idToken == null) {
+            return Optional.empty();
+        }
+        int first = idToken.indexOf('.');
+        int second = idToken.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == idToken.length() - 1 || idToken.indexOf('.', second + 1) >= 0) {
+            return Optional.empty();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            Map<String, Object> header = objectMapper.readValue(decoder.decode(idToken.substring(0, first)), JSON_OBJECT);
+            if (!"RS256".equals(header.get("alg"))
+                    || !verifySignature(idToken.substring(0, second).getBytes(StandardCharsets.US_ASCII),
+                    decoder.decode(idToken.substring(second + 1)))) {
+                return Optional.empty();
+            }
+            Map<String, Object> claims = objectMapper.readValue(decoder.decode(idToken.substring(first + 1, second)), JSON_OBJECT);
+            long now = clock.instant().getEpochSecond();
+            if (!issuer.equals(claims.get("iss")) || !audience.equals(claims.get("aud"))
+                    || !(claims.get("exp") instanceof Number exp) || exp.longValue() <= now
+                    || !(claims.get("sub") instanceof String sub) || sub.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(sub);
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /** Generates a fresh 2048-bit key pair; tokens from one run are useless against any other. */
+    static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("RSA key generation unavailable", e);
+        }
+    }
+
+    /** Base64 PKCS#8 private and X.509 public keys, so external load generators can mint tokens too. */
+    static KeyPair decodeKeyPair(String privateKeyBase64, String publicKeyBase64) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            Base64.Decoder decoder = Base64.getMimeDecoder();
+            return new KeyPair(
+                    factory.generatePublic(new X509EncodedKeySpec(decoder.decode(publicKeyBase64))),
+                    factory.generatePrivate(new PKCS8EncodedKeySpec(decoder.decode(privateKeyBase64))));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("loadtest.tokens keys are not a valid RSA key pair", e);
+        }
+    }
+
+    private byte[] sign(byte[] input) {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(privateKey);
+            signature.update(input);
+            return signature.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " signing failed", e);
+        }
+    }
+
+    private boolean verifySignature(byte[] input, byte[] signatureBytes) {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initVerify(publicKey);
+            signature.update(input);
+            return signature.verify(signatureBytes);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    private byte[] json(Map<String, Object> value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unserialisable token part", e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,65 @@
+package com.golfbeta.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalIdTokensTest {
+
+    private static final KeyPair KEYS = LocalIdTokens.generateKeyPair();
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void issued_token_verifies_until_expiry() {
+        String token = tokens(KEYS, "golfbeta-loadtest", NOW).issue("uid-1");
+
+        assertThat(tokens(KEYS, "golfbeta-loadtest", NOW).verify(token)).contains("uid-1");
+        assertThat(tokens(KEYS, "golfbeta-loadtest", NOW.plus(Duration.ofHours(1))).verify(token)).isEmpty();
+    }
+
+    @Test
+    void tokens_from_another_key_or_project_are_rejected() {
+        String otherKey = tokens(LocalIdTokens.generateKeyPair(), "golfbeta-loadtest", NOW).issue("uid-1");
+        String otherProject = tokens(KEYS, "someone-else", NOW).issue("uid-1");
+
+        LocalIdTokens verifier = tokens(KEYS, "golfbeta-loadtest", NOW);
+        assertThat(verifier.verify(otherKey)).isEmpty();
+        assertThat(verifier.verify(otherProject)).isEmpty();
+    }
+
+    @Test
+    void tampered_or_malformed_tokens_are_rejected() {
+        LocalIdTokens tokens = tokens(KEYS, "golfbeta-loadtest", NOW);
+        String token = tokens.issue("uid-1");
+        String[] parts = token.split("\\.");
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1])).replace("uid-1", "uid-2").getBytes());
+
+        assertThat(tokens.verify(parts[0] + "." + forgedClaims + "." + parts[2])).isEmpty();
+        assertThat(tokens.verify("not-a-token")).isEmpty();
+        assertThat(tokens.verify(token + ".x")).isEmpty();
+    }
+
+    @Test
+    void encoded_keys_round_trip() {
+        Base64.Encoder encoder = Base64.getEncoder();
+        KeyPair decoded = LocalIdTokens.decodeKeyPair(
+                encoder.encodeToString(KEYS.getPrivate().getEncoded()),
+                encoder.encodeToString(KEYS.getPublic().getEncoded()));
+
+        String token = tokens(decoded, "golfbeta-loadtest", NOW).issue("uid-1");
+        assertThat(tokens(KEYS, "golfbeta-loadtest", NOW).verify(token)).contains("uid-1");
+    }
+
+    private static LocalIdTokens tokens(KeyPair keys, String projectId, Instant now) {
+        return new LocalIdTokens(keys, projectId, Duration.ofHours(1), new ObjectMapper(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
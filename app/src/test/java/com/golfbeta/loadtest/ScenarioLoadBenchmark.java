@@ -0,0 +1,237 @@
+package com.golfbeta.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.bench.LatencyStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop, scenario-driven load against the full HTTP stack under the {@code loadtest} profile: requests
+ * carry tokens minted by {@link LocalIdTokens} and pushes go to {@link SimulatedPushGateway}, so nothing
+ * leaves the machine except Postgres (Testcontainers). Each client repeatedly picks a scenario by weight
+ * ({@code bench.mix}) and runs it end to end; throughput and latency percentiles are reported per scenario.
+ * CloudFront signing is mocked, and playback only reaches signed URLs when the catalogue has entries.
+ *
+ * <pre>
+ * mvn test -Dtest=ScenarioLoadBenchmark -Dbench=true [-Dbench.clients=50]
+ *     [-Dbench.mix=signup:1,search:3,friend:2,practice:2,video:3] [-Dloadtest.push.error-rate=0.05]
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Testcontainers
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class ScenarioLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 50);
+    private static final int USERS = Integer.getInteger("bench.users", 200);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("bench.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("bench.duration", "PT60S"));
+    private static final String MIX = System.getProperty("bench.mix", "signup:1,search:3,friend:2,practice:2,video:3");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort int port;
+    @Autowired LocalIdTokens tokens;
+    @Autowired SimulatedPushGateway push;
+    @Autowired ObjectMapper objectMapper;
+
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong signups = new AtomicLong();
+    private final Map<String, String> idTokens = new ConcurrentHashMap<>();
+
+    enum Scenario { SIGNUP, SEARCH, FRIEND, PRACTICE, VIDEO }
+
+    @Test
+    void scenario_mix_throughput_and_latency() throws Exception {
+        for (int i = 0; i < USERS; i++) {
+            signUp("load-user-" + i);
+            call("POST", "/notifications/token", "load-user-" + i,
+                    Map.of("token", "load-device-" + i, "platform", "android"));
+        }
+        Scenario[] weighted = weightedScenarios();
+
+        run(WARMUP, weighted, new EnumMap<>(Scenario.class));
+        Map<Scenario, LatencyStats> stats = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new LatencyStats());
+        }
+        long pushesBefore = push.sent() + push.failed();
+        Duration elapsed = run(DURATION, weighted, stats);
+
+        long total = 0;
+        for (Map.Entry<Scenario, LatencyStats> entry : stats.entrySet()) {
+            LatencyStats.Summary summary = entry.getValue().summarise(elapsed);
+            total += summary.requests();
+            System.out.printf("[bench] scenario=%s clients=%d %s%n", entry.getKey(), CLIENTS, summary);
+        }
+        System.out.printf("[bench] pushes=%d simulated-failures=%d%n", push.sent() + push.failed() - pushesBefore, push.failed());
+        assertThat(total).isPositive();
+    }
+
+    private Duration run(Duration duration, Scenario[] weighted, Map<Scenario, LatencyStats> stats)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = weighted[random.nextInt(weighted.length)];
+                        long t = System.nanoTime();
+                        try {
+                            runScenario(scenario, random);
+                            record(stats, scenario, System.nanoTime() - t);
+                        } catch (Exception e) {
+                            LatencyStats s = stats.get(scenario);
+                            if (s != null) {
+                                s.error();
+                            }
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static void record(Map<Scenario, LatencyStats> stats, Scenario scenario, long nanos) {
+        LatencyStats s = stats.get(scenario);
+        if (s != null) {
+            s.record(nanos);
+        }
+    }
+
+    private void runScenario(Scenario scenario, ThreadLocalRandom random) throws IOException, InterruptedException {
+        String uid = "load-user-" + random.nextInt(USERS);
+        switch (scenario) {
+            case SIGNUP -> {
+                String newUid = "load-signup-" + signups.incrementAndGet();
+                signUp(newUid);
+                call("GET", "/user/me", newUid, null);
+                call("GET", "/home", newUid, null);
+            }
+            case SEARCH -> call("GET", "/user/search?q=" + URLEncoder.encode("Load User " + random.nextInt(10),
+                    StandardCharsets.UTF_8) + "&limit=10", uid, null);
+            case FRIEND -> {
+                String other = "load-user-" + random.nextInt(USERS);
+                if (other.equals(uid)) {
+                    return;
+                }
+                JsonNode view = call("POST", "/friends/" + other, uid, null);
+                if ("REQUESTED".equals(view.path("status").asText()) && view.path("requestedByMe").asBoolean()) {
+                    call("POST", "/friends/" + uid + "/accept", other, null);
+                }
+                call("GET", "/activity/feed?limit=20", other, null);
+            }
+            case PRACTICE -> {
+                String id = call("POST", "/practice-hundred", uid, null).path("id").asText();
+                long version = 0;
+                for (String drill : new String[] {"putting_3ft", "chipping_10yards", "driving_straight"}) {
+                    version = call("PATCH", "/practice-hundred/" + id + "/drills", uid,
+                            Map.of("drills", Map.of(drill, String.valueOf(random.nextInt(11))), "expected_version", version))
+                            .path("version").asLong();
+                }
+                call("POST", "/practice-hundred/" + id + "/complete", uid, Map.of());
+                call("GET", "/practice-hundred/leaderboard", uid, null);
+            }
+            case VIDEO -> {
+                JsonNode catalogue = call("GET", "/user/video/catalogue?limit=20", uid, null);
+                call("GET", "/user/video/session-cookies", uid, null);
+                JsonNode first = catalogue.path("items").path(0);
+                if (!first.isMissingNode()) {
+                    String path = URLEncoder.encode(first.path("videoPath").asText(), StandardCharsets.UTF_8);
+                    call("GET", "/user/video/license/status?videoPath=" + path, uid, null);
+                    call("GET", "/user/video?videoPath=" + path + "&codec=H264", uid, null);
+                }
+            }
+        }
+    }
+
+    private void signUp(String uid) throws IOException, InterruptedException {
+        int n = Math.abs(uid.hashCode() % 1000);
+        call("PUT", "/user/profile", uid, Map.of(
+                "email", uid + "@loadtest.invalid",
+                "name", "Load User " + n,
+                "dob", "1990-01-01",
+                "golfHandicap", (n % 36)));
+    }
+
+    /** Sends one authenticated request; anything but 2xx fails the scenario. */
+    private JsonNode call(String method, String path, String uid, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + idTokens.computeIfAbsent(uid, tokens::issue));
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(method + " " + path + " -> " + response.statusCode());
+        }
+        return response.body().isEmpty() ? objectMapper.missingNode() : objectMapper.readTree(response.body());
+    }
+
+    private static Scenario[] weightedScenarios() {
+        return Arrays.stream(MIX.split(","))
+                .map(part -> part.trim().split(":"))
+                .flatMap(kv -> Collections.nCopies(Integer.parseInt(kv[1].trim()),
+                        Scenario.valueOf(kv[0].trim().toUpperCase())).stream())
+                .toArray(Scenario[]::new);
+    }
+}
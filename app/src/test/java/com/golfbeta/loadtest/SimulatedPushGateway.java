@@ -0,0 +1,61 @@
+package com.golfbeta.loadtest;
+
+import com.golfbeta.notifications.PushGateway;
+import com.google.firebase.messaging.Message;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stands in for FCM: each send completes after {@code latency} plus up to {@code jitter}, and fails with
+ * probability {@code errorRate}. Nothing leaves the process. Set the latency above the 5s send timeout in
+ * {@code PushNotificationService} to exercise its timeout path.
+ */
+public class SimulatedPushGateway implements PushGateway {
+
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    SimulatedPushGateway(Duration latency, Duration jitter, double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("loadtest.push.error-rate must be between 0 and 1");
+        }
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public Future<String> sendAsync(Message message) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayNanos = latency.toNanos() + (jitter.isZero() ? 0 : random.nextLong(jitter.toNanos() + 1));
+        boolean fail = random.nextDouble() < errorRate;
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (fail) {
+                failed.increment();
+                result.completeExceptionally(new IllegalStateException("Simulated FCM failure"));
+            } else {
+                sent.increment();
+                result.complete("projects/loadtest/messages/" + UUID.randomUUID());
+            }
+        });
+        return result;
+    }
+
+    public long sent() {
+        return sent.sum();
+    }
+
+    public long failed() {
+        return failed.sum();
+    }
+}
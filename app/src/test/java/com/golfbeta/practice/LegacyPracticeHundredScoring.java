@@ -0,0 +1,125 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The hard-coded, regex and map based scoring that {@link PracticeScoringPlan} replaced. Kept as the reference
+ * for parity tests and the benchmark.
+ */
+final class LegacyPracticeHundredScoring {
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+");
+
+    PracticeHundredAnalysisResponseDto analyse(PracticeHundred practiceHundred) {
+        var drivingTotal = parseSingleScore(practiceHundred.getDrivingStraight())
+                + parseSingleScore(practiceHundred.getDrivingDraw())
+                + parseSingleScore(practiceHundred.getDrivingFade());
+        var woodsTotal = parseSingleScore(practiceHundred.getWoodsStraight())
+                + parseSingleScore(practiceHundred.getWoodsDraw())
+                + parseSingleScore(practiceHundred.getWoodsFade());
+        var longIronsTotal = parseSingleScore(practiceHundred.getLongironsStraight())
+                + parseSingleScore(practiceHundred.getLongironsDraw())
+                + parseSingleScore(practiceHundred.getLongironsFade());
+        var shortIronsTotal = parseSingleScore(practiceHundred.getShortironsStraight())
+                + parseSingleScore(practiceHundred.getShortironsDraw())
+                + parseSingleScore(practiceHundred.getShortironsFade());
+
+        var threeQuarterPitch = parseCounterScores(practiceHundred.getPitchingThreequarterpw());
+        var fullPitch = parseCounterScores(practiceHundred.getPitchingFullpw());
+        var highLobPitch = parseCounterScores(practiceHundred.getPitchingHighlobs());
+
+        int pitchingPoints =
+                (3 * getCounterValue(threeQuarterPitch, "inside25ft")) +
+                (5 * getCounterValue(threeQuarterPitch, "inside10ft")) +
+                (3 * getCounterValue(fullPitch, "inside25ft")) +
+                (4 * getCounterValue(fullPitch, "inside10ft")) +
+                (3 * getCounterValue(highLobPitch, "inside25ft")) +
+                (4 * getCounterValue(highLobPitch, "inside10ft"));
+
+        var chippingTen = parseCounterScores(practiceHundred.getChipping10yards());
+        var chippingTwenty = parseCounterScores(practiceHundred.getChipping20yards());
+
+        int chippingPoints =
+                (4 * getCounterValue(chippingTen, "inside3ft")) +
+                (5 * getCounterValue(chippingTen, "holed")) +
+                (3 * getCounterValue(chippingTwenty, "inside3ft")) +
+                (4 * getCounterValue(chippingTwenty, "holed"));
+
+        int puttingPoints =
+                (3 * parseSingleScore(practiceHundred.getPutting3ft())) +
+                (2 * parseSingleScore(practiceHundred.getPutting6ft())) +
+                (parseSingleScore(practiceHundred.getPutting15ft()));
+
+        return new PracticeHundredAnalysisResponseDto(
+                normalise(drivingTotal, 12),
+                normalise(woodsTotal, 12),
+                normalise(longIronsTotal, 12),
+                normalise(shortIronsTotal, 12),
+                normalise(pitchingPoints, 52),
+                normalise(chippingPoints, 72),
+                normalise(puttingPoints, 48)
+        );
+    }
+
+    private int parseSingleScore(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        var matcher = NUMBER_PATTERN.matcher(value);
+        if (matcher.find()) {
+            try {
+                return Integer.parseInt(matcher.group());
+            } catch (NumberFormatException ignored) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    private Map<String, Integer> parseCounterScores(String value) {
+        if (value == null || value.isBlank()) {
+            return Map.of();
+        }
+        Map<String, Integer> scores = new HashMap<>();
+        for (String part : value.split(",")) {
+            var trimmed = part.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int delimiterIdx = trimmed.indexOf(':');
+            if (delimiterIdx <= 0) {
+                continue;
+            }
+            var numberPart = trimmed.substring(0, delimiterIdx).trim();
+            var key = trimmed.substring(delimiterIdx + 1).trim().toLowerCase();
+            if (key.isEmpty()) {
+                continue;
+            }
+            var parsed = parseSingleScore(numberPart);
+            scores.put(key, parsed);
+        }
+        return scores;
+    }
+
+    private int getCounterValue(Map<String, Integer> counters, String key) {
+        return counters.getOrDefault(key.toLowerCase(), 0);
+    }
+
+    private double normalise(int value, int maximum) {
+        if (maximum <= 0) {
+            return 0.0;
+        }
+        var ratio = (double) value / maximum;
+        if (ratio < 0.0) {
+            return 0.0;
+        }
+        if (ratio > 1.0) {
+            return 1.0;
+        }
+        return ratio;
+    }
+}
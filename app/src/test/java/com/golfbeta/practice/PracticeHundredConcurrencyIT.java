@@ -0,0 +1,76 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.config.ApiErrorHandler;
+import com.golfbeta.practice.dto.PracticeHundredDrillPatchDto;
+import com.golfbeta.user.UserProfile;
+import com.golfbeta.user.UserProfileRepository;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest
+@Testcontainers
+class PracticeHundredConcurrencyIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired PracticeHundredService service;
+    @Autowired PracticeHundredRepository repository;
+    @Autowired UserProfileRepository profiles;
+    @Autowired ApiErrorHandler errorHandler;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @Test
+    void full_write_racing_a_drill_patch_is_a_409() {
+        var profile = new UserProfile();
+        profile.setFirebaseId("race-uid");
+        profile.setEmail("race@example.com");
+        profile.setCreatedAt(Instant.now());
+        profile.setUpdatedAt(Instant.now());
+        profiles.save(profile);
+        var id = service.create("race-uid").id();
+
+        // A full PATCH has loaded the row when a /drills patch commits underneath it.
+        PracticeHundred loaded = repository.findById(id).orElseThrow();
+        service.patchDrills("race-uid", id, new PracticeHundredDrillPatchDto(Map.of("putting_3ft", "7"), null));
+        loaded.setPutting6ft("5");
+
+        var conflict = catchThrowableOfType(OptimisticLockingFailureException.class, () -> repository.save(loaded));
+        assertThat(conflict).isNotNull();
+        assertThat(errorHandler.handleConcurrentUpdate(conflict).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(repository.findById(id).orElseThrow().getPutting3ft()).isEqualTo("7");
+    }
+}
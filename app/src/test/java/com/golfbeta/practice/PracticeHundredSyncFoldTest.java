@@ -0,0 +1,82 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredSyncOpDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncOpDto.Op;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PracticeHundredSyncFoldTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+    private static final int PUTTING_3FT = PracticeHundredDrill.fromKey("putting_3ft").orElseThrow().ordinal();
+
+    private final UUID id = UUID.randomUUID();
+
+    @Test
+    void latest_instant_wins_whatever_zone_each_device_is_in() {
+        // 10:00 in Berlin is 09:00Z, before 09:30Z from a device in London, although its local clock reads later.
+        var berlin = op(Op.UPDATE, OffsetDateTime.parse("2026-03-01T10:00:00+01:00"), "5");
+        var london = op(Op.UPDATE, OffsetDateTime.parse("2026-03-01T09:30:00Z"), "7");
+
+        var session = PracticeHundredSyncService.fold(List.of(london, berlin), NOW).get(id);
+
+        assertThat(session.drills[PUTTING_3FT]).isEqualTo("7");
+        assertThat(session.changedAt).isEqualTo(LocalDateTime.parse("2026-03-01T09:30:00"));
+    }
+
+    @Test
+    void client_clock_ahead_of_the_server_is_clamped_to_now() {
+        var ahead = op(Op.UPDATE, OffsetDateTime.parse("2026-03-01T18:00:00-08:00"), "5");
+
+        var session = PracticeHundredSyncService.fold(List.of(ahead), NOW).get(id);
+
+        assertThat(session.changedAt).isEqualTo(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void start_and_completion_come_from_the_server_clock() {
+        var created = op(Op.CREATE, OffsetDateTime.parse("2020-01-01T00:00:00+09:00"), null);
+        var completed = op(Op.COMPLETE, OffsetDateTime.parse("2020-01-01T01:00:00+09:00"), null);
+
+        var session = PracticeHundredSyncService.fold(List.of(created, completed), NOW).get(id);
+
+        LocalDateTime serverNow = LocalDateTime.ofInstant(NOW, ZoneId.systemDefault());
+        assertThat(session.startedAt).isEqualTo(serverNow);
+        assertThat(session.completedAt).isEqualTo(serverNow);
+        assertThat(session.changedAt).isEqualTo(LocalDateTime.parse("2019-12-31T16:00:00"));
+    }
+
+    @Test
+    void null_clears_a_drill_and_ops_after_completion_are_ignored() {
+        var set = op(Op.UPDATE, OffsetDateTime.parse("2026-03-01T09:00:00Z"), "5");
+        var clear = op(Op.UPDATE, OffsetDateTime.parse("2026-03-01T09:01:00Z"), null);
+        var complete = op(Op.COMPLETE, OffsetDateTime.parse("2026-03-01T09:02:00Z"), null);
+        var late = op(Op.UPDATE, OffsetDateTime.parse("2026-03-01T09:03:00Z"), "9");
+
+        var session = PracticeHundredSyncService.fold(List.of(late, complete, clear, set), NOW).get(id);
+
+        assertThat(session.touched[PUTTING_3FT]).isTrue();
+        assertThat(session.drills[PUTTING_3FT]).isNull();
+        assertThat(session.changedAt).isEqualTo(LocalDateTime.parse("2026-03-01T09:02:00"));
+    }
+
+    private PracticeHundredSyncOpDto op(Op op, OffsetDateTime at, String putting3ft) {
+        Map<String, String> drills = null;
+        if (op == Op.UPDATE) {
+            drills = new HashMap<>();
+            drills.put("putting_3ft", putting3ft);
+        }
+        return new PracticeHundredSyncOpDto(op, id, at, drills);
+    }
+}
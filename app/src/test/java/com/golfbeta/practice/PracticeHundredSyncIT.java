@@ -0,0 +1,97 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.practice.dto.PracticeHundredDrillPatchDto;
+import com.golfbeta.practice.dto.PracticeHundredResponseDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncOpDto;
+import com.golfbeta.practice.dto.PracticeHundredSyncOpDto.Op;
+import com.golfbeta.practice.dto.PracticeHundredSyncRequestDto;
+import com.golfbeta.user.UserProfile;
+import com.golfbeta.user.UserProfileRepository;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+class PracticeHundredSyncIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired PracticeHundredService service;
+    @Autowired PracticeHundredSyncService syncService;
+    @Autowired UserProfileRepository profiles;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @Test
+    void offline_ops_older_than_an_online_edit_are_stale_in_any_zone() {
+        var profile = new UserProfile();
+        profile.setFirebaseId("sync-uid");
+        profile.setEmail("sync@example.com");
+        profile.setCreatedAt(Instant.now());
+        profile.setUpdatedAt(Instant.now());
+        profiles.save(profile);
+        var id = service.create("sync-uid").id();
+
+        service.patchDrills("sync-uid", id, new PracticeHundredDrillPatchDto(Map.of("putting_3ft", "8"), null));
+
+        // Queued ten minutes before the online edit on a device at UTC+05:30: its local clock reads later
+        // than the server's UTC stamp, but the instant is earlier, so it loses.
+        var stale = update(id, Instant.now().minusSeconds(600).atOffset(ZoneOffset.ofHoursMinutes(5, 30)), "1");
+        assertThat(putting3ft(sync(stale), id)).isEqualTo("8");
+
+        // After the edit, from a device at UTC-07:00 whose clock also runs an hour fast: clamped to now, it wins.
+        var fresh = update(id, Instant.now().plusSeconds(3600).atOffset(ZoneOffset.ofHours(-7)), "2");
+        assertThat(putting3ft(sync(fresh), id)).isEqualTo("2");
+
+        // A later legitimate op is not blocked by the fast clock, and replaying an older one changes nothing.
+        var next = update(id, Instant.now().plusMillis(10).atOffset(ZoneOffset.UTC), "3");
+        assertThat(putting3ft(sync(next), id)).isEqualTo("3");
+        assertThat(putting3ft(sync(fresh), id)).isEqualTo("3");
+    }
+
+    private List<PracticeHundredResponseDto> sync(PracticeHundredSyncOpDto op) {
+        return syncService.sync("sync-uid", new PracticeHundredSyncRequestDto(List.of(op))).sessions();
+    }
+
+    private static String putting3ft(List<PracticeHundredResponseDto> sessions, UUID id) {
+        return sessions.stream().filter(s -> s.id().equals(id)).findFirst().orElseThrow().putting3ft();
+    }
+
+    private static PracticeHundredSyncOpDto update(UUID id, OffsetDateTime at, String putting3ft) {
+        return new PracticeHundredSyncOpDto(Op.UPDATE, id, at, Map.of("putting_3ft", putting3ft));
+    }
+}
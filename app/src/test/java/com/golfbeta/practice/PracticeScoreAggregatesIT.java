@@ -0,0 +1,88 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.practice.dto.PracticeHundredDrillPatchDto;
+import com.golfbeta.practice.dto.PracticeHundredPatchDto;
+import com.golfbeta.user.UserProfile;
+import com.golfbeta.user.UserProfileRepository;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+class PracticeScoreAggregatesIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired PracticeHundredService service;
+    @Autowired UserProfileRepository profiles;
+    @Autowired JdbcTemplate jdbc;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @Test
+    void editing_a_completed_session_rebuilds_its_aggregates() {
+        var profile = new UserProfile();
+        profile.setFirebaseId("edit-uid");
+        profile.setEmail("edit@example.com");
+        profile.setCreatedAt(Instant.now());
+        profile.setUpdatedAt(Instant.now());
+        profile = profiles.save(profile);
+        var id = service.create("edit-uid").id();
+        service.patchDrills("edit-uid", id, new PracticeHundredDrillPatchDto(Map.of("driving_straight", "2"), null));
+        service.complete("edit-uid", id, null);
+        double completed = driving(profile.getId(), "latest");
+
+        service.patchDrills("edit-uid", id, new PracticeHundredDrillPatchDto(Map.of("driving_straight", "4"), null));
+        assertThat(driving(profile.getId(), "latest")).isGreaterThan(completed);
+        assertThat(driving(profile.getId(), "best")).isGreaterThan(completed);
+
+        // Lowering a score must lower the best too: the row is rebuilt, not folded.
+        service.patch("edit-uid", id, drivingStraight("1"));
+        assertThat(driving(profile.getId(), "latest")).isLessThan(completed);
+        assertThat(driving(profile.getId(), "best")).isLessThan(completed);
+        assertThat(jdbc.queryForObject("SELECT sessions_completed FROM practice_hundred_score WHERE user_id = ?",
+                Integer.class, profile.getId())).isEqualTo(1);
+    }
+
+    private double driving(UUID userId, String column) {
+        return jdbc.queryForObject("SELECT " + column + "_driving FROM practice_hundred_score WHERE user_id = ?",
+                Double.class, userId);
+    }
+
+    private static PracticeHundredPatchDto drivingStraight(String value) {
+        return new PracticeHundredPatchDto(null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, value, null, null);
+    }
+}
@@ -0,0 +1,93 @@
+package com.golfbeta.practice;
+
+import com.golfbeta.practice.dto.PracticeHundredAnalysisResponseDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sessions analysed per microsecond: the regex/map scorer against the compiled plan, plus the plan's
+ * allocation-free {@code points} path. Add {@code -Dbench.prof=gc} to compare allocation rates.
+ *
+ * <pre>
+ * mvn test -Dtest=PracticeScoringBenchmark -Dbench=true
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PracticeScoringBenchmark {
+
+    private static final int SESSIONS = 1024;
+
+    private PracticeHundred[] sessions;
+    private LegacyPracticeHundredScoring legacy;
+    private PracticeScoringPlan plan;
+    private int[] points;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(7);
+        sessions = new PracticeHundred[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions[i] = PracticeScoringPlanTest.randomSession(random);
+        }
+        legacy = new LegacyPracticeHundredScoring();
+        plan = new PracticeHundredScoring(PracticeScoringPlanTest.rules(), 0).active();
+        points = new int[7];
+    }
+
+    private PracticeHundred nextSession() {
+        next = (next + 1) & (SESSIONS - 1);
+        return sessions[next];
+    }
+
+    @Benchmark
+    public PracticeHundredAnalysisResponseDto legacy() {
+        return legacy.analyse(nextSession());
+    }
+
+    @Benchmark
+    public PracticeHundredAnalysisResponseDto compiled() {
+        return plan.analyse(nextSession());
+    }
+
+    @Benchmark
+    public int[] compiledPoints() {
+        plan.points(nextSession(), points);
+        return points;
+    }
+
+    @Test
+    void run() throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(PracticeScoringBenchmark.class.getName() + ".(legacy|compiled|compiledPoints)$");
+        String profiler = System.getProperty("bench.prof");
+        if (profiler != null) {
+            options.addProfiler(profiler);
+        }
+        new Runner(options.build()).run();
+    }
+}
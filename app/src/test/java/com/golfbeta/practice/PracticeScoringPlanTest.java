@@ -0,0 +1,108 @@
+package com.golfbeta.practice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PracticeScoringPlanTest {
+
+    private static final String[] SAMPLES = {
+            null, "", "  ", "7", "12 of 12", "-3", "--4", "a-5b", "99999999999", "2147483647", "-2147483648",
+            "3:inside25ft, 2:inside10ft", "3:INSIDE25FT,2: inside10ft ", " 4 : holed , 1:inside3ft", ":holed",
+            "x:holed", "2:holed,5:holed", "1:inside3ft,,", "7 :inside3ft:extra", "3 shots:inside10ft", "2:"
+    };
+
+    @Test
+    void version_one_matches_the_hard_coded_scoring() throws IOException {
+        PracticeScoringPlan plan = new PracticeHundredScoring(rules(), 1).active();
+        LegacyPracticeHundredScoring legacy = new LegacyPracticeHundredScoring();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            PracticeHundred session = randomSession(random);
+            assertThat(plan.analyse(session)).isEqualTo(legacy.analyse(session));
+        }
+    }
+
+    @Test
+    void counters_and_integers_are_scanned_like_the_regex_parser() {
+        assertThat(PracticeScoringPlan.firstInt("a-5b", 0, 4)).isEqualTo(-5);
+        assertThat(PracticeScoringPlan.firstInt("--4", 0, 3)).isEqualTo(-4);
+        assertThat(PracticeScoringPlan.firstInt("2147483648", 0, 10)).isZero();
+        assertThat(PracticeScoringPlan.counter("2:holed,5:HOLED", "holed".toCharArray())).isEqualTo(5);
+        assertThat(PracticeScoringPlan.counter(":holed, 3 shots:inside10ft", "holed".toCharArray())).isZero();
+        assertThat(PracticeScoringPlan.counter(":holed, 3 shots:inside10ft", "inside10ft".toCharArray())).isEqualTo(3);
+    }
+
+    @Test
+    void rules_must_define_every_category_with_known_drills() {
+        var missingCategory = new PracticeScoringRules.Version(2, List.of(
+                new PracticeScoringRules.Category("driving", 12, List.of())));
+        var unknownDrill = new PracticeScoringRules.Version(3, rulesWith(
+                new PracticeScoringRules.Term("driving_hook", null, 1)));
+
+        assertThatThrownBy(() -> PracticeScoringPlan.compile(missingCategory))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("categories");
+        assertThatThrownBy(() -> PracticeScoringPlan.compile(unknownDrill))
+                .isInstanceOf(IllegalStateException.class).hasMessageContaining("driving_hook");
+    }
+
+    static PracticeScoringRules rules() throws IOException {
+        try (InputStream in = PracticeScoringPlanTest.class.getResourceAsStream("/practice/scoring-rules.json")) {
+            return new ObjectMapper().readValue(in, PracticeScoringRules.class);
+        }
+    }
+
+    static PracticeHundred randomSession(Random random) {
+        PracticeHundred session = new PracticeHundred();
+        session.setPutting3ft(sample(random));
+        session.setPutting6ft(sample(random));
+        session.setPutting15ft(sample(random));
+        session.setChipping10yards(sample(random));
+        session.setChipping20yards(sample(random));
+        session.setPitchingFullpw(sample(random));
+        session.setPitchingThreequarterpw(sample(random));
+        session.setPitchingHighlobs(sample(random));
+        session.setShortironsStraight(sample(random));
+        session.setShortironsDraw(sample(random));
+        session.setShortironsFade(sample(random));
+        session.setLongironsStraight(sample(random));
+        session.setLongironsDraw(sample(random));
+        session.setLongironsFade(sample(random));
+        session.setWoodsStraight(sample(random));
+        session.setWoodsDraw(sample(random));
+        session.setWoodsFade(sample(random));
+        session.setDrivingStraight(sample(random));
+        session.setDrivingDraw(sample(random));
+        session.setDrivingFade(sample(random));
+        return session;
+    }
+
+    private static String sample(Random random) {
+        if (random.nextInt(4) == 0) {
+            return SAMPLES[random.nextInt(SAMPLES.length)];
+        }
+        return random.nextBoolean()
+                ? Integer.toString(random.nextInt(6))
+                : random.nextInt(8) + ":inside25ft, " + random.nextInt(6) + ":inside10ft, "
+                        + random.nextInt(6) + ":inside3ft, " + random.nextInt(3) + ":holed";
+    }
+
+    private static List<PracticeScoringRules.Category> rulesWith(PracticeScoringRules.Term drivingTerm) {
+        return List.of(
+                new PracticeScoringRules.Category("driving", 12, List.of(drivingTerm)),
+                new PracticeScoringRules.Category("woods", 12, List.of()),
+                new PracticeScoringRules.Category("longirons", 12, List.of()),
+                new PracticeScoringRules.Category("shortirons", 12, List.of()),
+                new PracticeScoringRules.Category("pitching", 52, List.of()),
+                new PracticeScoringRules.Category("chipping", 72, List.of()),
+                new PracticeScoringRules.Category("putting", 48, List.of()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.golfbeta.practice;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ScoreHistogramSketchTest {
+
+    @Test
+    void percentile_counts_lower_scores_and_half_of_ties() {
+        ScoreHistogramSketch sketch = ScoreHistogramSketch.EMPTY;
+        for (int i = 0; i < 100; i++) {
+            sketch = sketch.plus(i / 100.0);
+        }
+
+        assertThat(sketch.total()).isEqualTo(100);
+        assertThat(sketch.percentile(0.5)).isCloseTo(50.5, within(0.001));
+        assertThat(sketch.percentile(0.0)).isCloseTo(0.5, within(0.001));
+        assertThat(sketch.percentile(1.0)).isCloseTo(100.0, within(0.001));
+        assertThat(ScoreHistogramSketch.EMPTY.percentile(0.5)).isNull();
+    }
+
+    @Test
+    void merging_deltas_matches_adding_everything_to_one_sketch() {
+        ScoreHistogramSketch all = ScoreHistogramSketch.EMPTY;
+        ScoreHistogramSketch left = ScoreHistogramSketch.EMPTY;
+        ScoreHistogramSketch right = ScoreHistogramSketch.EMPTY;
+        for (int i = 0; i < 50; i++) {
+            double score = (i * 37 % 73) / 72.0;
+            all = all.plus(score);
+            left = i % 2 == 0 ? left.plus(score) : left;
+            right = i % 2 == 1 ? right.plus(score) : right;
+        }
+
+        assertThat(left.merge(right)).isEqualTo(all);
+        assertThat(right.merge(left)).isEqualTo(all);
+        assertThat(ScoreHistogramSketch.of(all.counts())).isEqualTo(all);
+    }
+
+    @Test
+    void handicap_bands_and_skill_levels_form_population_buckets() {
+        assertThat(PracticePercentileService.buckets(" Intermediate ", 12.4))
+                .containsExactly("all", "skill:intermediate", "handicap:10-14");
+        assertThat(PracticePercentileService.buckets(null, -1.0)).containsExactly("all", "handicap:plus");
+        assertThat(PracticePercentileService.buckets("", null)).containsExactly("all");
+    }
+}
@@ -0,0 +1,134 @@
+package com.golfbeta.shared.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingWriterTest {
+
+    record Item(int n) {
+    }
+
+    @TempDir Path spillDir;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void stop_flushes_everything_queued() {
+        List<Item> written = new CopyOnWriteArrayList<>();
+        BatchingWriter<Item> writer = new BatchingWriter<>("test",
+                settings(1_000, BatchingWriter.OverflowPolicy.BLOCK), written::addAll, mapper, Item.class);
+        writer.start();
+        for (int i = 0; i < 500; i++) {
+            writer.submit(new Item(i));
+        }
+        writer.stop();
+
+        assertThat(written).hasSize(500);
+    }
+
+    @Test
+    void overflow_spills_to_disk_and_replays_on_next_start() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean blocking = new AtomicBoolean(true);
+        List<Item> written = new CopyOnWriteArrayList<>();
+        BatchingWriter.Sink<Item> sink = batch -> {
+            if (blocking.get()) {
+                release.await();
+            }
+            written.addAll(batch);
+        };
+        BatchingWriter<Item> writer = new BatchingWriter<>("test",
+                settings(2, BatchingWriter.OverflowPolicy.SPILL), sink, mapper, Item.class);
+        writer.start();
+        for (int i = 0; i < 20; i++) {
+            writer.submit(new Item(i));
+        }
+        blocking.set(false);
+        release.countDown();
+        writer.stop();
+
+        BatchingWriter<Item> restarted = new BatchingWriter<>("test",
+                settings(2, BatchingWriter.OverflowPolicy.SPILL), written::addAll, mapper, Item.class);
+        restarted.start();
+        restarted.stop();
+
+        assertThat(written).extracting(Item::n).containsExactlyInAnyOrderElementsOf(
+                java.util.stream.IntStream.range(0, 20).boxed().toList());
+    }
+
+    @Test
+    void drop_policy_never_blocks_the_producer() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Item> written = new CopyOnWriteArrayList<>();
+        BatchingWriter<Item> writer = new BatchingWriter<>("test",
+                settings(2, BatchingWriter.OverflowPolicy.DROP), batch -> {
+                    release.await();
+                    written.addAll(batch);
+                }, mapper, Item.class);
+        writer.start();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            writer.submit(new Item(i));
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        release.countDown();
+        writer.stop();
+
+        assertThat(elapsedMillis).isLessThan(100);
+        assertThat(writer.dropped()).isPositive();
+        assertThat(written.size() + writer.dropped()).isEqualTo(20);
+    }
+
+    @Test
+    void never_writes_on_the_caller_thread_outside_start_and_stop() {
+        List<Thread> writers = new CopyOnWriteArrayList<>();
+        List<Item> written = new CopyOnWriteArrayList<>();
+        BatchingWriter<Item> writer = new BatchingWriter<>("test",
+                new BatchingWriter.Settings(10, 50, Duration.ofMillis(20), BatchingWriter.OverflowPolicy.DROP,
+                        Duration.ZERO, Duration.ofSeconds(5), null),
+                batch -> {
+                    writers.add(Thread.currentThread());
+                    written.addAll(batch);
+                }, mapper, Item.class);
+        writer.submit(new Item(1));
+        assertThat(written).isEmpty();
+
+        writer.start();
+        writer.stop();
+        writer.submit(new Item(2));
+
+        assertThat(written).extracting(Item::n).containsExactly(1);
+        assertThat(writers).doesNotContain(Thread.currentThread());
+        assertThat(writer.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void unreadable_spilled_lines_are_set_aside_instead_of_retried() throws Exception {
+        Files.writeString(spillDir.resolve("test.ndjson"), "{\"n\":1}\n{\"n\":\"one\"}\n{\"n\":2}\n");
+        List<Item> written = new CopyOnWriteArrayList<>();
+        BatchingWriter<Item> writer = new BatchingWriter<>("test",
+                settings(10, BatchingWriter.OverflowPolicy.SPILL), written::addAll, mapper, Item.class);
+        writer.start();
+        writer.stop();
+
+        assertThat(written).extracting(Item::n).containsExactly(1, 2);
+        assertThat(spillDir.resolve("test.replaying.ndjson")).doesNotExist();
+        assertThat(Files.readString(spillDir.resolve("test.rejected.ndjson"))).isEqualTo("{\"n\":\"one\"}\n");
+    }
+
+    private BatchingWriter.Settings settings(int capacity, BatchingWriter.OverflowPolicy policy) {
+        return new BatchingWriter.Settings(capacity, 50, Duration.ofMillis(20), policy,
+                Duration.ofMillis(100), Duration.ofSeconds(5), spillDir);
+    }
+}
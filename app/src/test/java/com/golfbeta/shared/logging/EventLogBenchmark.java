@@ -0,0 +1,96 @@
+package com.golfbeta.shared.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfbeta.bench.LatencyStats;
+import com.golfbeta.shared.batch.BatchingWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Simulated playback requests per second with the old synchronous INFO line against {@link EventLog} at full
+ * and production (5%) sampling. Both write through the test's console appender, so the difference is what
+ * moves off the request thread.
+ *
+ * <pre>
+ * mvn test -Dtest=EventLogBenchmark -Dbench=true [-Dbench.requests=200000 -Dbench.threads=32]
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "bench", matches = "true")
+class EventLogBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLogBenchmark.class);
+
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 200_000);
+    private static final int THREADS = Integer.getInteger("bench.threads", 32);
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 3);
+
+    @Test
+    void playback_request_throughput() throws Exception {
+        BatchingWriter<String> writer = new BatchingWriter<>("bench-events",
+                new BatchingWriter.Settings(20_000, 256, Duration.ofMillis(200),
+                        BatchingWriter.OverflowPolicy.DROP, Duration.ZERO, Duration.ofSeconds(5), null),
+                batch -> batch.forEach(LoggerFactory.getLogger(EventLogConfig.EVENTS_LOGGER)::info),
+                new ObjectMapper(), String.class);
+        writer.start();
+        try {
+            EventLog full = new EventLog(writer, 1.0, Map.of());
+            EventLog sampled = new EventLog(writer, 1.0, Map.of("video.playback", 0.05));
+
+            for (int round = 0; round <= ROUNDS; round++) {
+                LatencyStats.Summary sync = run(i -> log.info(
+                        "Generated signed URLs for uid={} videoPath={} codec={} videoKey={} metadataKey={} ttl={}s",
+                        "uid-" + i, "lessons/drill-" + (i % 500), "h264",
+                        "videos/lessons/drill/drill_sourcefps_h264.mp4", "videos/lessons/drill/drill_metadata.json", 600L));
+                LatencyStats.Summary async = run(i -> playbackEvent(full, i));
+                LatencyStats.Summary sampledAsync = run(i -> playbackEvent(sampled, i));
+                if (round > 0) {
+                    System.out.printf("round %d%n  sync INFO      %s%n  events 100%%    %s%n  events 5%%      %s%n"
+                                    + "  dropped=%d%n",
+                            round, sync, async, sampledAsync, writer.dropped());
+                }
+            }
+        } finally {
+            writer.stop();
+        }
+    }
+
+    private static void playbackEvent(EventLog eventLog, int i) {
+        eventLog.event("video.playback", "signed_urls")
+                .str("uid", "uid-" + i)
+                .str("videoPath", "lessons/drill-" + (i % 500))
+                .str("codec", "h264")
+                .num("ttlSeconds", 600L)
+                .emit();
+    }
+
+    private static LatencyStats.Summary run(IntConsumer request) throws InterruptedException {
+        LatencyStats stats = new LatencyStats();
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            int n = i;
+            pool.execute(() -> {
+                long t0 = System.nanoTime();
+                request.accept(n);
+                stats.record(System.nanoTime() - t0);
+                done.countDown();
+            });
+        }
+        done.await();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        return stats.summarise(elapsed);
+    }
+}
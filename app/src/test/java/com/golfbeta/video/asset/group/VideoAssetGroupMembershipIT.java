@@ -0,0 +1,86 @@
+package com.golfbeta.video.asset.group;
+
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.video.asset.VideoAsset;
+import com.golfbeta.video.asset.VideoAssetRepository;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+class VideoAssetGroupMembershipIT {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.3")
+            .withDatabaseName("golfbeta")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void props(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired VideoAssetGroupMembership membership;
+    @Autowired VideoAssetGroupRepository groups;
+    @Autowired VideoAssetRepository assets;
+
+    @MockitoBean FirebaseApp firebaseApp;
+    @MockitoBean FirebaseAuth firebaseAuth;
+    @MockitoBean FirebaseMessaging firebaseMessaging;
+    @MockitoBean CloudFrontSignedUrlService cloudFrontSignedUrlService;
+
+    @Test
+    void clears_only_prefixes_that_cover_a_non_member() {
+        VideoAsset swing = asset("pro/swing");
+        VideoAsset stray = asset("pro/stray");
+        VideoAsset chip = asset("drills/chip");
+        VideoAssetGroup pro = group("Pro", "pro");
+        VideoAssetGroup drills = group("Drills", "drills");
+        VideoAssetGroup professional = group("Professional", "pro/swing-extras");
+        membership.addAll(pro.getId(), List.of(swing.getId()));
+        membership.addAll(drills.getId(), List.of(chip.getId()));
+
+        // stray sits under pro/ without being a member; chip is a member of drills; pro/swing is not under
+        // pro/swing-extras/ even though the strings share a prefix.
+        List<String> registered = List.of(stray.getVideoPath(), chip.getVideoPath(), swing.getVideoPath());
+        assertThat(membership.clearPrefixesCoveringNonMembers(registered)).containsExactly(pro.getId());
+
+        assertThat(groups.findById(pro.getId()).orElseThrow().getCloudfrontPrefix()).isNull();
+        assertThat(groups.findById(drills.getId()).orElseThrow().getCloudfrontPrefix()).isEqualTo("drills");
+        assertThat(groups.findById(professional.getId()).orElseThrow().getCloudfrontPrefix())
+                .isEqualTo("pro/swing-extras");
+        assertThat(membership.clearPrefixesCoveringNonMembers(registered)).isEmpty();
+    }
+
+    private VideoAsset asset(String videoPath) {
+        VideoAsset asset = new VideoAsset();
+        asset.setVideoPath(videoPath);
+        asset.setKeyHex("0".repeat(32));
+        asset.setKeyBase64("AAAAAAAAAAAAAAAAAAAAAA==");
+        return assets.save(asset);
+    }
+
+    private VideoAssetGroup group(String name, String prefix) {
+        VideoAssetGroup group = new VideoAssetGroup();
+        group.setName(name);
+        group.setCloudfrontPrefix(prefix);
+        return groups.save(group);
+    }
+}
@@ -0,0 +1,55 @@
+package com.golfbeta.video.key;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VideoKeyTokenServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void issued_token_verifies_until_expiry() {
+        VideoKeyTokenService issuer = service(NOW);
+        String token = issuer.issue("uid-1", "lessons/drive", 3);
+
+        assertThat(issuer.verify(token)).hasValueSatisfying(claims -> {
+            assertThat(claims.uid()).isEqualTo("uid-1");
+            assertThat(claims.videoPath()).isEqualTo("lessons/drive");
+            assertThat(claims.keyVersion()).isEqualTo(3);
+        });
+        assertThat(service(NOW.plus(Duration.ofMinutes(10))).verify(token)).isEmpty();
+    }
+
+    @Test
+    void tampered_or_malformed_tokens_are_rejected() {
+        VideoKeyTokenService service = service(NOW);
+        String token = service.issue("uid-1", "lessons/drive", 1);
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v1\nuid-1\nlessons/putt\n1\n9999999999".getBytes());
+
+        assertThat(service.verify(forgedPayload + token.substring(token.indexOf('.')))).isEmpty();
+        assertThat(service.verify("not-a-token")).isEmpty();
+        assertThat(service.verify(token + "x")).isEmpty();
+    }
+
+    @Test
+    void blank_secret_disables_tokens() {
+        VideoKeyTokenService disabled = new VideoKeyTokenService("", Duration.ofMinutes(10),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.issue("uid-1", "lessons/drive", 1)).isNull();
+    }
+
+    private static VideoKeyTokenService service(Instant now) {
+        return new VideoKeyTokenService(SECRET, Duration.ofMinutes(10), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,98 @@
+package com.golfbeta.video.user;
+
+import com.golfbeta.account.AccountType;
+import com.golfbeta.account.UserAccountType;
+import com.golfbeta.account.UserAccountTypeRepository;
+import com.golfbeta.aws.CloudFrontSignedUrlService;
+import com.golfbeta.video.asset.group.VideoAssetGroup;
+import com.golfbeta.video.asset.group.VideoAssetGroupRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+class VideoSessionCookieServiceTest {
+
+    private final CloudFrontSignedUrlService signer = Mockito.mock(CloudFrontSignedUrlService.class);
+    private final UserAccountTypeRepository accountTypes = Mockito.mock(UserAccountTypeRepository.class);
+    private final VideoAssetGroupRepository groups = Mockito.mock(VideoAssetGroupRepository.class);
+    private final JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+
+    private final VideoSessionCookieService service = new VideoSessionCookieService(signer, accountTypes, groups,
+            jdbc, true, Duration.ofHours(2), Duration.ofMinutes(30));
+
+    @Test
+    void scope_holding_a_denied_clip_is_left_out() {
+        UUID pro = UUID.randomUUID();
+        UUID drills = UUID.randomUUID();
+        Mockito.when(groups.findAllById(List.of(pro, drills)))
+                .thenReturn(List.of(group(pro, "pro"), group(drills, "drills")));
+        givenAccountType("uid-1", List.of(pro, drills));
+        givenDenied("uid-1", "pro/swing-1");
+
+        assertThat(prefixes(service.forUser("uid-1"))).containsExactly("videos/drills/");
+    }
+
+    @Test
+    void denial_under_a_longer_sibling_prefix_keeps_the_scope() {
+        UUID pro = UUID.randomUUID();
+        Mockito.when(groups.findAllById(List.of(pro))).thenReturn(List.of(group(pro, "pro")));
+        givenAccountType("uid-1", List.of(pro));
+        givenDenied("uid-1", "professional/swing-1");
+
+        assertThat(prefixes(service.forUser("uid-1"))).containsExactly("videos/pro/");
+    }
+
+    @Test
+    void any_denial_drops_the_whole_library_scope() {
+        givenAccountType("uid-1", null);
+        givenDenied("uid-1", "pro/swing-1");
+
+        assertThat(service.forUser("uid-1")).isEmpty();
+    }
+
+    @Test
+    void no_denials_keep_every_scope() {
+        givenAccountType("uid-1", null);
+        givenDenied("uid-1");
+
+        assertThat(prefixes(service.forUser("uid-1"))).containsExactly("videos/");
+    }
+
+    private void givenAccountType(String uid, List<UUID> videoGroupIds) {
+        AccountType accountType = new AccountType();
+        accountType.setName("member");
+        accountType.setVideoGroupIds(videoGroupIds);
+        UserAccountType userAccountType = new UserAccountType();
+        userAccountType.setAccountType(accountType);
+        Mockito.when(accountTypes.findByUserProfileFirebaseId(uid)).thenReturn(Optional.of(userAccountType));
+        Mockito.when(signer.generateSignedCookies(anyString(), any()))
+                .thenAnswer(invocation -> Map.of("CloudFront-Policy", invocation.getArgument(0)));
+    }
+
+    private void givenDenied(String uid, String... videoIds) {
+        Mockito.when(jdbc.queryForList(anyString(), eq(String.class), eq(uid))).thenReturn(List.of(videoIds));
+    }
+
+    private static VideoAssetGroup group(UUID id, String prefix) {
+        VideoAssetGroup group = new VideoAssetGroup();
+        group.setId(id);
+        group.setName(prefix);
+        group.setCloudfrontPrefix(prefix);
+        return group;
+    }
+
+    private static List<String> prefixes(Optional<VideoSessionCookieService.SessionCookies> cookies) {
+        return cookies.orElseThrow().scopes().stream().map(VideoSessionCookieService.Scope::resourcePrefix).toList();
+    }
+}
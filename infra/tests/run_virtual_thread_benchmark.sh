@@ -0,0 +1,18 @@
+#!/usr/bin/env bash
+# Runs the /home load benchmark once on platform threads and once on virtual threads, then prints both
+# summary lines. Requires Docker for the Testcontainers Postgres instance.
+#
+# Usage: infra/tests/run_virtual_thread_benchmark.sh [extra -Dbench.* flags]
+set -euo pipefail
+
+cd "$(dirname "$0")/../../app"
+
+mkdir -p target
+
+for mode in false true; do
+  mvn -B -q test -Dtest=VirtualThreadServingBenchmark -Dsurefire.failIfNoSpecifiedTests=false \
+    -Dbench=true -Dbench.virtual="$mode" "$@" | tee "target/bench-virtual-$mode.log"
+done
+
+echo
+grep -h '^\[bench\]' target/bench-virtual-*.log
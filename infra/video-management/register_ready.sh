@@ -11,8 +11,10 @@ set -euo pipefail
 # Used standalone or via video_management.sh --parts full.
 # Example:
 #   ./register_ready.sh --license-json out/lesson-abc_license_material.json --admin-token-file ~/token.txt
+#   ./register_ready.sh --license-dir out/ --admin-token-file ~/token.txt   # one bulk call for every file
 
 LICENSE_JSON=""
+LICENSE_DIR=""
 ADMIN_TOKEN=""
 ADMIN_TOKEN_FILE=""
 ENDPOINT="${REGISTER_READY_ENDPOINT:-http://localhost:8080/admin/video-assets}"
@@ -20,9 +22,10 @@ PAYLOAD_FILE=""
 
 usage() {
   cat <<EOF
-Usage: $0 --license-json PATH (--admin-token TOKEN | --admin-token-file FILE) [options]
+Usage: $0 (--license-json PATH | --license-dir DIR) (--admin-token TOKEN | --admin-token-file FILE) [options]
 Options:
   --license-json PATH      Path to *_license_material.json produced by encode_ready.sh
+  --license-dir DIR        Register every *_license_material.json under DIR in one call to ENDPOINT/bulk
   --admin-token TOKEN      Firebase admin ID token for Authorization header
   --admin-token-file FILE  File containing the admin token (preferred)
   --endpoint URL           Override backend endpoint (default ${ENDPOINT})
@@ -36,6 +39,7 @@ EOF
 while [[ $# -gt 0 ]]; do
   case "$1" in
     --license-json) LICENSE_JSON="$2"; shift 2 ;;
+    --license-dir) LICENSE_DIR="$2"; shift 2 ;;
     --admin-token) ADMIN_TOKEN="$2"; shift 2 ;;
     --admin-token-file) ADMIN_TOKEN_FILE="$2"; shift 2 ;;
     --endpoint) ENDPOINT="$2"; shift 2 ;;
@@ -45,8 +49,8 @@ while [[ $# -gt 0 ]]; do
   esac
 done
 
-if [[ -z "$LICENSE_JSON" ]]; then
-  echo "--license-json is required" >&2
+if [[ -z "$LICENSE_JSON" && -z "$LICENSE_DIR" ]]; then
+  echo "--license-json or --license-dir is required" >&2
   usage
   exit 1
 fi
@@ -64,11 +68,16 @@ if [[ -z "$ADMIN_TOKEN" ]]; then
   exit 1
 fi
 
-if [[ ! -f "$LICENSE_JSON" ]]; then
+if [[ -n "$LICENSE_JSON" && ! -f "$LICENSE_JSON" ]]; then
   echo "License JSON not found: $LICENSE_JSON" >&2
   exit 1
 fi
 
+if [[ -n "$LICENSE_DIR" && ! -d "$LICENSE_DIR" ]]; then
+  echo "License directory not found: $LICENSE_DIR" >&2
+  exit 1
+fi
+
 if ! command -v jq >/dev/null 2>&1; then
   echo "jq is required to transform the payload. Install via brew/apt/etc." >&2
   exit 1
@@ -92,13 +101,30 @@ cleanup() {
 }
 trap cleanup EXIT
 
-jq '{videoPath: .video_path, keyHex: .key_hex, keyBase64: .key_base64, keyVersion: (.key_version // 1)}' \
-  "$LICENSE_JSON" > "$PAYLOAD_FILE"
+TRANSFORM='{videoPath: .video_path, keyHex: .key_hex, keyBase64: .key_base64, keyVersion: (.key_version // 1)}'
+CONTENT_TYPE="application/json"
+SOURCE="$LICENSE_JSON"
+
+if [[ -n "$LICENSE_DIR" ]]; then
+  ENDPOINT="${ENDPOINT%/}/bulk"
+  CONTENT_TYPE="application/x-ndjson"
+  SOURCE="$LICENSE_DIR"
+  : > "$PAYLOAD_FILE"
+  while IFS= read -r -d '' file; do
+    jq -c "$TRANSFORM" "$file" >> "$PAYLOAD_FILE"
+  done < <(find "$LICENSE_DIR" -name '*_license_material.json' -print0 | sort -z)
+  if [[ ! -s "$PAYLOAD_FILE" ]]; then
+    echo "No *_license_material.json files found under ${LICENSE_DIR}" >&2
+    exit 1
+  fi
+else
+  jq "$TRANSFORM" "$LICENSE_JSON" > "$PAYLOAD_FILE"
+fi
 
 HTTP_STATUS="$(curl -sS -o "$RESPONSE_FILE" -w "%{http_code}" \
   -X POST \
   -H "Authorization: Bearer ${ADMIN_TOKEN}" \
-  -H "Content-Type: application/json" \
+  -H "Content-Type: ${CONTENT_TYPE}" \
   --data-binary @"${PAYLOAD_FILE}" \
   "$ENDPOINT")" || HTTP_STATUS="000"
 
@@ -108,5 +134,14 @@ if [[ "$HTTP_STATUS" -lt 200 || "$HTTP_STATUS" -ge 300 ]]; then
   exit 1
 fi
 
-echo "Registered video asset from ${LICENSE_JSON} via ${ENDPOINT}"
-cat "$RESPONSE_FILE"
+if [[ -n "$LICENSE_DIR" ]]; then
+  FAILED="$(jq '.failed' "$RESPONSE_FILE")"
+  echo "Bulk registered from ${SOURCE} via ${ENDPOINT}: $(jq -c '{received, inserted, updated, failed}' "$RESPONSE_FILE")"
+  if [[ "$FAILED" != "0" ]]; then
+    jq -c '.items[] | select(.error != null)' "$RESPONSE_FILE" >&2
+    exit 1
+  fi
+else
+  echo "Registered video asset from ${SOURCE} via ${ENDPOINT}"
+  cat "$RESPONSE_FILE"
+fi